@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import io.cdap.wrangler.api.annotations.PublicEvolving;
+
+/**
+ * This interface <code>Columnar</code> is implemented by directives that can also be executed on a
+ * {@link RowBatch}, one column at a time.
+ *
+ * <p>When a batch of rows sharing the same columns is executed, consecutive columnar directives are executed
+ * on the same {@link RowBatch} without converting it back to rows in between. Rows with different columns,
+ * and all other directives, are executed with {@link Directive#execute(Object, ExecutorContext)}.</p>
+ *
+ * <p>Executing the directive on a batch must give the same rows as executing it on the rows of the batch.</p>
+ */
+@PublicEvolving
+public interface Columnar {
+
+  /**
+   * Executes the directive on a batch of rows.
+   *
+   * @param batch of rows sharing the same columns, modified in place or replaced.
+   * @param context {@link ExecutorContext} passed to each directive for accessing the transient store.
+   * @return the batch resulting from the execution of the directive.
+   * @throws DirectiveExecutionException thrown when the directive fails on the batch.
+   */
+  RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import io.cdap.wrangler.api.annotations.PublicEvolving;
+
+/**
+ * This interface <code>Parallelizable</code> is implemented by directives that can be executed on parts of
+ * the input by different workers, each with its own instance of the directive and its own
+ * {@link TransientStore}.
+ *
+ * <p>By implementing it, a directive declares that the rows it returns only depend on the rows it is given,
+ * and that executing it has no effect other than on those rows and on its own instance: it does not write
+ * the {@link TransientVariableScope#GLOBAL} scope of the {@link TransientStore} nor any external system.
+ * Directives that keep state across rows must implement {@link Stateful} so that the state of the workers
+ * is merged. A recipe with any directive that does not implement this interface is executed on a single
+ * worker.</p>
+ */
+@PublicEvolving
+public interface Parallelizable {
+
+  /**
+   * Returns whether this instance, as configured by its arguments, can be executed on parts of the input by
+   * different workers. Such as a parser that only keeps state across rows when it detects a header.
+   *
+   * @return <code>true</code> if the directive can be executed in parallel, <code>false</code> otherwise.
+   */
+  default boolean isParallelizable() {
+    return true;
+  }
+}
@@ -18,10 +18,13 @@ package io.cdap.wrangler.api;
 
 import io.cdap.wrangler.api.annotations.PublicEvolving;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Row defines the schema and data on which the wrangler will operate upon.
@@ -30,23 +33,43 @@ import java.util.Objects;
 public final class Row implements Serializable {
   private static final long serialVersionUID = -7505703059736709602L;
 
+  // Rows narrower than this are searched linearly, which is faster than maintaining an index.
+  private static final int INDEX_MIN_WIDTH = 16;
+
   // Name of the columns held by the row.
   private List<String> columns = new ArrayList<>();
 
   // Values held by the row.
   private List<Object> values = new ArrayList<>();
 
+  // Open addressing table of column positions plus one, zero marks an empty slot. It is built lazily
+  // for wide rows and dropped whenever columns are removed, renamed or inserted.
+  private transient int[] index;
+
+  // Whether the list of columns, and with it the index, or the list of values may be shared with copies of
+  // the row. Shared lists are copied by the first row that changes them, see Row(Row).
+  private transient boolean sharedColumns;
+  private transient boolean sharedValues;
+
   public Row() {
   }
 
   /**
    * Makes a copy of the row.
    *
+   * <p>The copy shares the columns and values of the row until either of them changes its columns or its
+   * values, so that directives emitting many rows out of a wide row do not copy it for every row.</p>
+   *
    * @param row to be copied to 'this' object.
    */
   public Row(Row row) {
-    this.values = new ArrayList<>(row.values);
-    this.columns = new ArrayList<>(row.columns);
+    this.values = row.values;
+    this.columns = row.columns;
+    this.index = row.index;
+    this.sharedColumns = true;
+    this.sharedValues = true;
+    row.sharedColumns = true;
+    row.sharedValues = true;
   }
 
   /**
@@ -59,6 +82,22 @@ public final class Row implements Serializable {
     this.values = new ArrayList<>(columns.size());
   }
 
+  /**
+   * Initializes a row that takes ownership of the lists of columns and values.
+   */
+  Row(List<String> columns, List<Object> values) {
+    this.columns = columns;
+    this.values = values;
+  }
+
+  /**
+   * Initializes a row with columns shared with other rows, which is copied before the row changes it.
+   */
+  Row(List<String> columns, List<Object> values, boolean sharedColumns) {
+    this(columns, values);
+    this.sharedColumns = sharedColumns;
+  }
+
   /**
    * Initializes the row with column name and value.
    *
@@ -89,7 +128,9 @@ public final class Row implements Serializable {
    * @param name of the column to be set at idx.
    */
   public void setColumn(int idx, String name) {
+    ownColumns();
     columns.set(idx, name);
+    index = null;
   }
 
   /**
@@ -99,7 +140,7 @@ public final class Row implements Serializable {
    * @return value at index (idx).
    */
   public Object getValue(int idx) {
-    return values.get(idx);
+    return resolve(idx);
   }
 
   /**
@@ -112,7 +153,7 @@ public final class Row implements Serializable {
     if (col != null && !col.isEmpty()) {
       int idx = find(col);
       if (idx != -1) {
-        return values.get(idx);
+        return resolve(idx);
       }
     }
     return null;
@@ -125,6 +166,7 @@ public final class Row implements Serializable {
    * @param value value to be updated at index (idx).
    */
   public Row setValue(int idx, Object value) {
+    ownValues();
     values.set(idx, value);
     return this;
   }
@@ -136,8 +178,46 @@ public final class Row implements Serializable {
    * @param value to be added to row.
    */
   public Row add(String name, Object value) {
+    ownColumns();
+    ownValues();
     columns.add(name);
     values.add(value);
+    if (index != null) {
+      if (columns.size() * 2 > index.length) {
+        index = null;
+      } else {
+        addToIndex(index, columns.size() - 1);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds a column whose value is computed the first time it is read, so that values no directive looks at are
+   * never computed. The value is computed at most once, even when the row is copied.
+   *
+   * <p>Rows with pending values can be serialized with Java serialization, which computes them first, but not
+   * with serializers that walk the fields of the row.</p>
+   *
+   * @param name of the value to be added to row.
+   * @param value computes the value to be added to row.
+   */
+  public Row addLazy(String name, Supplier<?> value) {
+    return add(name, new Lazy(value));
+  }
+
+  /**
+   * Makes room for the given number of columns, so that adding them does not grow the row one column at a time.
+   *
+   * @param width expected width of the row.
+   */
+  public Row ensureCapacity(int width) {
+    if (columns instanceof ArrayList && !sharedColumns) {
+      ((ArrayList<String>) columns).ensureCapacity(width);
+    }
+    if (values instanceof ArrayList && !sharedValues) {
+      ((ArrayList<Object>) values).ensureCapacity(width);
+    }
     return this;
   }
 
@@ -147,8 +227,11 @@ public final class Row implements Serializable {
    * @param idx for which the value and column are removed.
    */
   public Row remove(int idx) {
+    ownColumns();
+    ownValues();
     columns.remove(idx);
     values.remove(idx);
+    index = null;
     return this;
   }
 
@@ -171,6 +254,13 @@ public final class Row implements Serializable {
    * @return -1 if not present, else the index at which the column is found.
    */
   public int find(String col, int firstIdx) {
+    if (index != null || columns.size() >= INDEX_MIN_WIDTH) {
+      int idx = findInIndex(col);
+      if (idx == -1 || idx >= firstIdx) {
+        return idx;
+      }
+      // The first match is before firstIdx, so later duplicates are searched for linearly.
+    }
     for (int i = firstIdx, columnsSize = columns.size(); i < columnsSize; i++) {
       String name = columns.get(i);
       if (col.equalsIgnoreCase(name)) {
@@ -195,6 +285,14 @@ public final class Row implements Serializable {
     return columns.size();
   }
 
+  /**
+   * @return number of values of the row, which is less than its width for a row created from a list of columns
+   *         until its values are added.
+   */
+  public int valueCount() {
+    return values.size();
+  }
+
   /**
    * @return List of fields of record.
    */
@@ -202,7 +300,7 @@ public final class Row implements Serializable {
     List<Pair<String, Object>> v = new ArrayList<>();
     int i = 0;
     for (String column : columns) {
-      v.add(new Pair<>(column, values.get(i)));
+      v.add(new Pair<>(column, resolve(i)));
       ++i;
     }
     return v;
@@ -236,10 +334,110 @@ public final class Row implements Serializable {
       setValue(idx, value);
     } else {
       if (index < columns.size() && index < values.size()) {
+        ownColumns();
+        ownValues();
         columns.add(index, name);
         values.add(index, value);
+        this.index = null;
+      }
+    }
+  }
+
+  /**
+   * Makes the list of columns, and the index built over it, private to this row before they are changed.
+   */
+  private void ownColumns() {
+    if (sharedColumns) {
+      columns = new ArrayList<>(columns);
+      if (index != null) {
+        index = index.clone();
+      }
+      sharedColumns = false;
+    }
+  }
+
+  /**
+   * Makes the list of values private to this row before it is changed.
+   */
+  private void ownValues() {
+    if (sharedValues) {
+      values = new ArrayList<>(values);
+      sharedValues = false;
+    }
+  }
+
+  /**
+   * Returns the value at the index, computing it first if it was added with {@link #addLazy(String, Supplier)}.
+   */
+  private Object resolve(int idx) {
+    Object value = values.get(idx);
+    if (value instanceof Lazy) {
+      value = ((Lazy) value).get();
+      values.set(idx, value);
+    }
+    return value;
+  }
+
+  private void resolveAll() {
+    for (int i = 0; i < values.size(); i++) {
+      resolve(i);
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    resolveAll();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * Returns the index of the first column matching the name, building the index if needed.
+   */
+  private int findInIndex(String col) {
+    if (index == null) {
+      int[] table = new int[Integer.highestOneBit(Math.max(columns.size(), 1) * 2) * 2];
+      for (int i = 0; i < columns.size(); i++) {
+        addToIndex(table, i);
       }
+      index = table;
     }
+    int mask = index.length - 1;
+    for (int slot = hash(col) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+      if (col.equalsIgnoreCase(columns.get(index[slot] - 1))) {
+        return index[slot] - 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds the column at position idx to the table, unless an earlier column with the same name is present.
+   */
+  private void addToIndex(int[] table, int idx) {
+    String name = columns.get(idx);
+    if (name == null) {
+      return;
+    }
+    int mask = table.length - 1;
+    int slot = hash(name) & mask;
+    while (table[slot] != 0) {
+      if (name.equalsIgnoreCase(columns.get(table[slot] - 1))) {
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = idx + 1;
+  }
+
+  /**
+   * Hashes the name such that names equal according to {@link String#equalsIgnoreCase(String)} have
+   * the same hash, by folding each character the same way it is compared.
+   */
+  private static int hash(String name) {
+    int h = 0;
+    for (int i = 0; i < name.length(); i++) {
+      h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+    }
+    return h ^ (h >>> 16);
   }
 
   @Override
@@ -252,12 +450,35 @@ public final class Row implements Serializable {
     }
 
     Row row = (Row) o;
+    resolveAll();
+    row.resolveAll();
     return Objects.equals(columns, row.columns) &&
         Objects.equals(values, row.values);
   }
 
   @Override
   public int hashCode() {
+    resolveAll();
     return Objects.hash(columns, values);
   }
+
+  /**
+   * Value of a column that is computed on first read, see {@link #addLazy(String, Supplier)}.
+   */
+  private static final class Lazy {
+    private Supplier<?> supplier;
+    private Object value;
+
+    Lazy(Supplier<?> supplier) {
+      this.supplier = supplier;
+    }
+
+    Object get() {
+      if (supplier != null) {
+        value = supplier.get();
+        supplier = null;
+      }
+      return value;
+    }
+  }
 }
@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import io.cdap.wrangler.api.annotations.PublicEvolving;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * RowBatch holds a batch of rows sharing the same columns, stored column by column.
+ *
+ * <p>The names of the columns are held once for the whole batch. The values of a column whose non-null values
+ * are all {@link Integer}, {@link Long}, {@link Short}, {@link Float}, {@link Double} or {@link Boolean} are
+ * stored in a primitive array, with a bitmap marking the null values. Values of any other column are stored in
+ * an array of objects.</p>
+ *
+ * <p>A batch is only built from rows that have exactly the same columns in the same order, so that converting
+ * the batch back to rows gives the same rows as executing the directives on each row.</p>
+ */
+@PublicEvolving
+public final class RowBatch {
+  private final List<String> columns;
+  private final List<Vector> vectors;
+  private final int size;
+
+  private RowBatch(List<String> columns, List<Vector> vectors, int size) {
+    this.columns = columns;
+    this.vectors = vectors;
+    this.size = size;
+  }
+
+  /**
+   * Builds a batch from rows that all have the same columns.
+   *
+   * @param rows to be stored in the batch.
+   * @return the batch, or <code>null</code> if the list is empty or the rows do not have the same columns.
+   */
+  @Nullable
+  public static RowBatch of(List<Row> rows) {
+    if (rows.isEmpty()) {
+      return null;
+    }
+    Row first = rows.get(0);
+    int width = first.width();
+    for (int i = 1; i < rows.size(); i++) {
+      Row row = rows.get(i);
+      if (row.width() != width) {
+        return null;
+      }
+      for (int column = 0; column < width; column++) {
+        if (!first.getColumn(column).equals(row.getColumn(column))) {
+          return null;
+        }
+      }
+    }
+
+    List<String> columns = new ArrayList<>(width);
+    List<Vector> vectors = new ArrayList<>(width);
+    Object[] values = new Object[rows.size()];
+    for (int column = 0; column < width; column++) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = rows.get(i).getValue(column);
+      }
+      columns.add(first.getColumn(column));
+      vectors.add(Vector.of(values));
+    }
+    return new RowBatch(columns, vectors, rows.size());
+  }
+
+  /**
+   * Converts the batch back to rows.
+   *
+   * @return a new row for every row of the batch, in order.
+   */
+  public List<Row> toRows() {
+    List<Row> rows = new ArrayList<>(size);
+    // All the rows share one copy of the columns, a row copies it before changing it.
+    List<String> rowColumns = new ArrayList<>(columns);
+    for (int i = 0; i < size; i++) {
+      List<Object> values = new ArrayList<>(columns.size());
+      for (Vector vector : vectors) {
+        values.add(vector.get(i));
+      }
+      rows.add(new Row(rowColumns, values, true));
+    }
+    return rows;
+  }
+
+  /**
+   * @return number of rows in the batch.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return number of columns of the batch.
+   */
+  public int width() {
+    return columns.size();
+  }
+
+  /**
+   * Gets a column name by index.
+   *
+   * @param column index of the column.
+   * @return name of the column.
+   */
+  public String getColumn(int column) {
+    return columns.get(column);
+  }
+
+  /**
+   * Renames a column of every row of the batch.
+   *
+   * @param column index of the column.
+   * @param name new name of the column.
+   */
+  public void setColumn(int column, String name) {
+    columns.set(column, name);
+  }
+
+  /**
+   * Finds a column by name, ignoring the case like {@link Row#find(String)}.
+   *
+   * @param name of the column.
+   * @return index of the first column with the name, or -1 if there is none.
+   */
+  public int find(String name) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).equalsIgnoreCase(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds a column to every row of the batch.
+   *
+   * @param name of the column.
+   * @param values of the column, one for each row of the batch.
+   * @return index of the new column.
+   */
+  public int add(String name, Object[] values) {
+    checkSize(values);
+    columns.add(name);
+    vectors.add(Vector.of(values));
+    return columns.size() - 1;
+  }
+
+  /**
+   * Removes a column from every row of the batch.
+   *
+   * @param column index of the column.
+   */
+  public void remove(int column) {
+    columns.remove(column);
+    vectors.remove(column);
+  }
+
+  /**
+   * Returns the boxed type of the values of a column when they are stored in a primitive array.
+   *
+   * @param column index of the column.
+   * @return the type of the non-null values, or <code>Object.class</code> if they are stored as objects.
+   */
+  public Class<?> getType(int column) {
+    return vectors.get(column).type;
+  }
+
+  /**
+   * @return <code>true</code> if the value of the column is <code>null</code> in the row.
+   */
+  public boolean isNull(int row, int column) {
+    return vectors.get(column).isNull(row);
+  }
+
+  /**
+   * Gets a value of a column whose type is {@link Float} or {@link Double} without boxing it.
+   *
+   * @throws IllegalStateException if the values of the column are not stored as floating point numbers.
+   */
+  public double getDouble(int row, int column) {
+    Vector vector = vectors.get(column);
+    if (vector.doubles == null) {
+      throw new IllegalStateException(String.format("Column '%s' is of type '%s'.", columns.get(column),
+                                                    vector.type.getSimpleName()));
+    }
+    return vector.doubles[row];
+  }
+
+  /**
+   * Gets a value of a column whose type is {@link Short}, {@link Integer} or {@link Long} without boxing it.
+   *
+   * @throws IllegalStateException if the values of the column are not stored as integral numbers.
+   */
+  public long getLong(int row, int column) {
+    Vector vector = vectors.get(column);
+    if (vector.longs == null) {
+      throw new IllegalStateException(String.format("Column '%s' is of type '%s'.", columns.get(column),
+                                                    vector.type.getSimpleName()));
+    }
+    return vector.longs[row];
+  }
+
+  /**
+   * Gets the value of a column in a row.
+   *
+   * @param row index of the row within the batch.
+   * @param column index of the column.
+   * @return the value, boxed to the type it was added with.
+   */
+  public Object getValue(int row, int column) {
+    return vectors.get(column).get(row);
+  }
+
+  /**
+   * Sets the value of a column in a row. Setting a value of another type than the other values of a column
+   * stores the column as objects.
+   *
+   * @param row index of the row within the batch.
+   * @param column index of the column.
+   * @param value to be set.
+   */
+  public void setValue(int row, int column, @Nullable Object value) {
+    Vector vector = vectors.get(column);
+    if (!vector.set(row, value)) {
+      Object[] values = vector.toArray(size);
+      values[row] = value;
+      vectors.set(column, Vector.objects(values));
+    }
+  }
+
+  /**
+   * Replaces all the values of a column, choosing the storage from the types of the new values.
+   *
+   * @param column index of the column.
+   * @param values of the column, one for each row of the batch.
+   */
+  public void setValues(int column, Object[] values) {
+    checkSize(values);
+    vectors.set(column, Vector.of(values));
+  }
+
+  private void checkSize(Object[] values) {
+    if (values.length != size) {
+      throw new IllegalArgumentException(
+        String.format("Expected %d values, one for each row of the batch, but got %d.", size, values.length));
+    }
+  }
+
+  /**
+   * Values of a single column. Exactly one of the arrays is set.
+   */
+  private static final class Vector {
+    private final Class<?> type;
+    private final Object[] objects;
+    private final long[] longs;
+    private final double[] doubles;
+    private final BitSet booleans;
+    private final BitSet nulls;
+
+    private Vector(Class<?> type, @Nullable Object[] objects, @Nullable long[] longs, @Nullable double[] doubles,
+                   @Nullable BitSet booleans, BitSet nulls) {
+      this.type = type;
+      this.objects = objects;
+      this.longs = longs;
+      this.doubles = doubles;
+      this.booleans = booleans;
+      this.nulls = nulls;
+    }
+
+    static Vector objects(Object[] values) {
+      return new Vector(Object.class, values, null, null, null, new BitSet());
+    }
+
+    static Vector of(Object[] values) {
+      Class<?> type = null;
+      for (Object value : values) {
+        if (value == null) {
+          continue;
+        }
+        if (type == null) {
+          type = value.getClass();
+        } else if (type != value.getClass()) {
+          return objects(values.clone());
+        }
+      }
+
+      BitSet nulls = new BitSet();
+      if (type == Integer.class || type == Long.class || type == Short.class) {
+        long[] longs = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == null) {
+            nulls.set(i);
+          } else {
+            longs[i] = ((Number) values[i]).longValue();
+          }
+        }
+        return new Vector(type, null, longs, null, null, nulls);
+      }
+      if (type == Double.class || type == Float.class) {
+        double[] doubles = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == null) {
+            nulls.set(i);
+          } else {
+            doubles[i] = ((Number) values[i]).doubleValue();
+          }
+        }
+        return new Vector(type, null, null, doubles, null, nulls);
+      }
+      if (type == Boolean.class) {
+        BitSet booleans = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == null) {
+            nulls.set(i);
+          } else if ((Boolean) values[i]) {
+            booleans.set(i);
+          }
+        }
+        return new Vector(type, null, null, null, booleans, nulls);
+      }
+      return objects(values.clone());
+    }
+
+    boolean isNull(int row) {
+      return objects != null ? objects[row] == null : nulls.get(row);
+    }
+
+    Object get(int row) {
+      if (objects != null) {
+        return objects[row];
+      }
+      if (nulls.get(row)) {
+        return null;
+      }
+      if (type == Integer.class) {
+        return (int) longs[row];
+      } else if (type == Long.class) {
+        return longs[row];
+      } else if (type == Short.class) {
+        return (short) longs[row];
+      } else if (type == Double.class) {
+        return doubles[row];
+      } else if (type == Float.class) {
+        return (float) doubles[row];
+      }
+      return booleans.get(row);
+    }
+
+    /**
+     * Sets a value in place.
+     *
+     * @return <code>false</code> if the value cannot be stored in this vector.
+     */
+    boolean set(int row, @Nullable Object value) {
+      if (objects != null) {
+        objects[row] = value;
+        return true;
+      }
+      if (value == null) {
+        nulls.set(row);
+        return true;
+      }
+      if (value.getClass() != type) {
+        return false;
+      }
+      nulls.clear(row);
+      if (longs != null) {
+        longs[row] = ((Number) value).longValue();
+      } else if (doubles != null) {
+        doubles[row] = ((Number) value).doubleValue();
+      } else {
+        booleans.set(row, (Boolean) value);
+      }
+      return true;
+    }
+
+    Object[] toArray(int size) {
+      if (objects != null) {
+        return Arrays.copyOf(objects, size);
+      }
+      Object[] values = new Object[size];
+      for (int i = 0; i < size; i++) {
+        values[i] = get(i);
+      }
+      return values;
+    }
+  }
+}
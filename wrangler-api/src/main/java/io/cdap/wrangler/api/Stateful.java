@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import io.cdap.wrangler.api.annotations.PublicEvolving;
+
+/**
+ * This interface <code>Stateful</code> is implemented by {@link Parallelizable} directives that keep state
+ * across the rows they are executed on, such as a running aggregate.
+ *
+ * <p>When a recipe is executed in parallel, every worker gets its own instance of each directive and sees only
+ * a part of the input. Once the workers are done, the state of the instances of the other workers is merged
+ * into the instance of the first worker.</p>
+ *
+ * Following is an example of a directive that keeps a running count:
+ *
+ * <code>
+ * @Override
+ * public void merge(Stateful other) {
+ *   RowCounter counter = (RowCounter) other;
+ *   count += counter.count;
+ *   counter.count = 0;
+ * }
+ * </code>
+ */
+@PublicEvolving
+public interface Stateful extends Parallelizable {
+
+  /**
+   * Moves the state of another instance of the same directive, created from the same recipe and executed by a
+   * different worker, into this instance. Instances are merged in the order of the input they processed.
+   * After the call, <code>other</code> must not hold the merged state any more.
+   *
+   * @param other instance of the same directive whose state is merged into this instance.
+   */
+  void merge(Stateful other);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests {@link RowBatch}
+ */
+public class RowBatchTest {
+
+  @Test
+  public void testRoundTrip() {
+    List<Row> rows = createRows(5);
+    RowBatch batch = RowBatch.of(rows);
+    Assert.assertNotNull(batch);
+    Assert.assertEquals(5, batch.size());
+    Assert.assertEquals(6, batch.width());
+    Assert.assertEquals(Integer.class, batch.getType(1));
+    Assert.assertEquals(Float.class, batch.getType(3));
+    Assert.assertEquals(Object.class, batch.getType(0));
+    Assert.assertEquals(rows, batch.toRows());
+  }
+
+  @Test
+  public void testRowsWithDifferentColumnsAreNotBatched() {
+    List<Row> rows = createRows(3);
+    rows.get(1).add("extra", 1);
+    Assert.assertNull(RowBatch.of(rows));
+
+    rows = createRows(3);
+    rows.get(2).setColumn(0, "NAME");
+    Assert.assertNull(RowBatch.of(rows));
+    Assert.assertNull(RowBatch.of(new ArrayList<>()));
+  }
+
+  @Test
+  public void testTypedColumns() {
+    RowBatch batch = RowBatch.of(createRows(4));
+    Assert.assertNotNull(batch);
+    Assert.assertEquals(2L, batch.getLong(2, 1));
+    Assert.assertEquals(1.5d, batch.getDouble(1, 3), 0.0001d);
+    Assert.assertTrue(batch.isNull(0, 4));
+    Assert.assertFalse(batch.isNull(1, 4));
+    Assert.assertEquals(Boolean.class, batch.getType(4));
+
+    batch.setValue(0, 1, null);
+    batch.setValue(1, 1, 7);
+    Assert.assertEquals(Integer.class, batch.getType(1));
+    Assert.assertNull(batch.getValue(0, 1));
+    Assert.assertEquals(7, batch.getValue(1, 1));
+
+    batch.setValue(2, 1, "two");
+    Assert.assertEquals(Object.class, batch.getType(1));
+    Assert.assertEquals(Arrays.asList(null, 7, "two", 3),
+                        Arrays.asList(batch.getValue(0, 1), batch.getValue(1, 1), batch.getValue(2, 1),
+                                      batch.getValue(3, 1)));
+  }
+
+  @Test
+  public void testColumnOperations() {
+    RowBatch batch = RowBatch.of(createRows(2));
+    Assert.assertNotNull(batch);
+    Assert.assertEquals(2, batch.find("SCORE"));
+    batch.remove(2);
+    batch.setColumn(0, "title");
+    int idx = batch.add("flag", new Object[] {"x", null});
+    Assert.assertEquals(5, idx);
+    batch.setValues(1, new Object[] {10L, 11L});
+    Assert.assertEquals(Long.class, batch.getType(1));
+
+    List<Row> rows = batch.toRows();
+    Assert.assertEquals(-1, rows.get(0).find("score"));
+    Assert.assertEquals("name0", rows.get(0).getValue("title"));
+    Assert.assertEquals(11L, rows.get(1).getValue("id"));
+    Assert.assertEquals("x", rows.get(0).getValue("flag"));
+    Assert.assertNull(rows.get(1).getValue("flag"));
+    rows.get(0).add("other", 1);
+    Assert.assertEquals(6, rows.get(1).width());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddRequiresValueForEveryRow() {
+    RowBatch batch = RowBatch.of(createRows(2));
+    Assert.assertNotNull(batch);
+    batch.add("flag", new Object[] {"x"});
+  }
+
+  private static List<Row> createRows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Row row = new Row("name", "name" + i);
+      row.add("id", i);
+      row.add("score", (long) i * 10);
+      row.add("ratio", i * 1.5f);
+      row.add("active", i == 0 ? null : i % 2 == 0);
+      row.add("tags", new String[] {"t" + i});
+      rows.add(row);
+    }
+    return rows;
+  }
+}
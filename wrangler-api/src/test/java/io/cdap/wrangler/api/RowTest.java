@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.api;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests {@link Row}
+ */
+public class RowTest {
+
+  @Test
+  public void testFindOnWideRow() {
+    Row row = createRow(100);
+    Assert.assertEquals(0, row.find("col0"));
+    Assert.assertEquals(57, row.find("COL57"));
+    Assert.assertEquals(99, row.find("Col99"));
+    Assert.assertEquals(-1, row.find("col100"));
+    Assert.assertEquals("v42", row.getValue("col42"));
+  }
+
+  @Test
+  public void testFindReturnsFirstDuplicate() {
+    Row row = createRow(40);
+    row.add("COL3", "dup");
+    Assert.assertEquals(3, row.find("col3"));
+    Assert.assertEquals(40, row.find("col3", 4));
+    Assert.assertEquals(-1, row.find("col3", 41));
+    Assert.assertEquals(-1, row.find("col2", 3));
+  }
+
+  @Test
+  public void testFindAfterMutations() {
+    Row row = createRow(30);
+    Assert.assertEquals(10, row.find("col10"));
+
+    row.remove(5);
+    Assert.assertEquals(9, row.find("col10"));
+    Assert.assertEquals(-1, row.find("col5"));
+
+    row.setColumn(9, "renamed");
+    Assert.assertEquals(-1, row.find("col10"));
+    Assert.assertEquals(9, row.find("renamed"));
+
+    row.addOrSetAtIndex(0, "first", "f");
+    Assert.assertEquals(0, row.find("first"));
+    Assert.assertEquals(10, row.find("renamed"));
+
+    for (int i = 0; i < 100; i++) {
+      row.add("added" + i, i);
+    }
+    Assert.assertEquals(row.width() - 1, row.find("added99"));
+    Assert.assertEquals(99, row.getValue("ADDED99"));
+
+    row.addOrSet("col20", "updated");
+    Assert.assertEquals("updated", row.getValue("col20"));
+  }
+
+  @Test
+  public void testFindIgnoresCaseLikeEqualsIgnoreCase() {
+    Row row = createRow(20);
+    row.add("Straße", 1);
+    row.add("ıd", 2);
+    Assert.assertEquals(20, row.find("STRAßE"));
+    Assert.assertEquals(21, row.find("ID"));
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    Row row = createRow(50);
+    row.find("col1");
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(row);
+    }
+    Row copy;
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+      copy = (Row) ois.readObject();
+    }
+    Assert.assertEquals(row, copy);
+    Assert.assertEquals(49, copy.find("col49"));
+    copy.add("new", 1);
+    Assert.assertEquals(50, copy.find("new"));
+  }
+
+  @Test
+  public void testLazyValues() throws Exception {
+    AtomicInteger computed = new AtomicInteger();
+    Row row = new Row("a", 1);
+    row.addLazy("b", () -> "v" + computed.incrementAndGet());
+    Row copy = new Row(row);
+    row.remove(0);
+    Assert.assertEquals(0, computed.get());
+
+    Assert.assertEquals("v1", row.getValue("b"));
+    Assert.assertEquals("v1", copy.getValue(1));
+    Assert.assertEquals("v1", copy.getFields().get(1).getSecond());
+    Assert.assertEquals(1, computed.get());
+
+    Row pending = new Row("b", null);
+    pending.setValue(0, "x");
+    pending.addLazy("c", () -> 2);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(pending);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+      Assert.assertEquals(2, ((Row) ois.readObject()).getValue("c"));
+    }
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    Row parent = new Row("a", 1).add("b", 2);
+    Row child = new Row(parent);
+    child.setValue(0, 10);
+    child.add("c", 3);
+    Assert.assertEquals(new Row("a", 1).add("b", 2), parent);
+    Assert.assertEquals(new Row("a", 10).add("b", 2).add("c", 3), child);
+
+    Row sibling = new Row(parent);
+    parent.setColumn(1, "x");
+    parent.remove(0);
+    Assert.assertEquals(new Row("x", 2), parent);
+    Assert.assertEquals(new Row("a", 1).add("b", 2), sibling);
+
+    Row wide = createRow(40);
+    Assert.assertEquals(20, wide.find("col20"));
+    Row wideCopy = new Row(wide);
+    wideCopy.add("extra", 1);
+    wideCopy.setColumn(0, "renamed");
+    Assert.assertEquals(40, wideCopy.find("extra"));
+    Assert.assertEquals(0, wideCopy.find("renamed"));
+    Assert.assertEquals(-1, wide.find("extra"));
+    Assert.assertEquals(0, wide.find("col0"));
+    Assert.assertEquals(-1, wideCopy.find("col0"));
+  }
+
+  @Test
+  public void testValueCount() {
+    Row row = new Row(Arrays.asList("a", "b"));
+    Assert.assertEquals(2, row.width());
+    Assert.assertEquals(0, row.valueCount());
+    Assert.assertEquals(3, createRow(3).valueCount());
+  }
+
+  private static Row createRow(int width) {
+    Row row = new Row();
+    for (int i = 0; i < width; i++) {
+      row.add("col" + i, "v" + i);
+    }
+    return row;
+  }
+}
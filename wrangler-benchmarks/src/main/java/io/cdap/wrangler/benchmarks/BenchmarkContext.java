@@ -0,0 +1,116 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.cdap.api.metrics.Metrics;
+import io.cdap.cdap.etl.api.Lookup;
+import io.cdap.cdap.etl.api.StageMetrics;
+import io.cdap.directives.aggregates.DefaultTransientStore;
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.TransientStore;
+import io.cdap.wrangler.proto.Contexts;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class <code>BenchmarkContext</code> is the {@link ExecutorContext} given to the recipes run by the
+ * benchmarks. It behaves like the transform context, with metrics that are dropped.
+ */
+public final class BenchmarkContext implements ExecutorContext {
+  private final TransientStore store = new DefaultTransientStore();
+  private final Map<String, String> properties = new HashMap<>();
+  private final StageMetrics metrics = new NoopMetrics();
+
+  @Override
+  public Environment getEnvironment() {
+    return Environment.TRANSFORM;
+  }
+
+  @Override
+  public String getNamespace() {
+    return Contexts.SYSTEM;
+  }
+
+  @Override
+  public StageMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public String getContextName() {
+    return "benchmark";
+  }
+
+  @Override
+  public Map<String, String> getProperties() {
+    return properties;
+  }
+
+  @Override
+  public URL getService(String applicationId, String serviceId) {
+    return null;
+  }
+
+  @Override
+  public TransientStore getTransientStore() {
+    return store;
+  }
+
+  @Override
+  public <T> Lookup<T> provide(String table, Map<String, String> arguments) {
+    return null;
+  }
+
+  /**
+   * Metrics that are not recorded.
+   */
+  private static final class NoopMetrics implements StageMetrics {
+
+    @Override
+    public void count(String metricName, int delta) {
+      // no-op
+    }
+
+    @Override
+    public void gauge(String metricName, long value) {
+      // no-op
+    }
+
+    @Override
+    public void pipelineCount(String metricName, int delta) {
+      // no-op
+    }
+
+    @Override
+    public void pipelineGauge(String metricName, long value) {
+      // no-op
+    }
+
+    @Override
+    public Metrics child(Map<String, String> tags) {
+      return this;
+    }
+
+    @Override
+    public Map<String, String> getTags() {
+      return Collections.emptyMap();
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.DirectiveLoadException;
+import io.cdap.wrangler.api.DirectiveParseException;
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.RecipeParser;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.executor.RecipePipelineExecutor;
+import io.cdap.wrangler.parser.GrammarBasedParser;
+import io.cdap.wrangler.parser.MigrateToV2;
+import io.cdap.wrangler.proto.Contexts;
+import io.cdap.wrangler.registry.CompositeDirectiveRegistry;
+import io.cdap.wrangler.registry.SystemDirectiveRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic datasets and recipe pipelines shared by the benchmarks.
+ *
+ * <p>Every record has the columns id, name, amount and date followed by filler columns up to the width of the
+ * {@link Shape}. Records are generated from a fixed seed, so every run of a benchmark sees the same data.</p>
+ */
+public final class Datasets {
+  private static final long SEED = 42L;
+  private static final LocalDate EPOCH = LocalDate.of(2020, 1, 1);
+
+  /**
+   * Width of the generated records.
+   */
+  public enum Shape {
+    NARROW(5),
+    WIDE(50);
+
+    private final int width;
+
+    Shape(int width) {
+      this.width = width;
+    }
+
+    public int width() {
+      return width;
+    }
+  }
+
+  private Datasets() {
+    // Avoid creation of this object.
+  }
+
+  /**
+   * Generates rows with a single 'body' column holding a comma separated record. After 'parse-as-csv :body ','
+   * false' the fields are in the columns body_1 (id), body_2 (name), body_3 (amount), body_4 (date) and so on.
+   *
+   * @param shape of the records.
+   * @param count number of rows.
+   * @return generated rows.
+   */
+  public static List<Row> csv(Shape shape, int count) {
+    Random random = new Random(SEED);
+    List<Row> rows = new ArrayList<>(count);
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      body.setLength(0);
+      Object[] values = values(shape, random, i);
+      for (int j = 0; j < values.length; j++) {
+        if (j > 0) {
+          body.append(',');
+        }
+        body.append(values[j]);
+      }
+      rows.add(new Row("body", body.toString()));
+    }
+    return rows;
+  }
+
+  /**
+   * Generates rows with a single 'body' column holding a JSON object with the fields of the record.
+   *
+   * @param shape of the records.
+   * @param count number of rows.
+   * @return generated rows.
+   */
+  public static List<Row> json(Shape shape, int count) {
+    Random random = new Random(SEED);
+    List<Row> rows = new ArrayList<>(count);
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      body.setLength(0);
+      body.append('{');
+      Object[] values = values(shape, random, i);
+      for (int j = 0; j < values.length; j++) {
+        if (j > 0) {
+          body.append(',');
+        }
+        body.append('"').append(name(j)).append("\":");
+        if (values[j] instanceof String) {
+          body.append('"').append(values[j]).append('"');
+        } else {
+          body.append(values[j]);
+        }
+      }
+      rows.add(new Row("body", body.append('}').toString()));
+    }
+    return rows;
+  }
+
+  /**
+   * Generates rows with one typed column per field, as produced by a source with a schema.
+   *
+   * @param shape of the records.
+   * @param count number of rows.
+   * @return generated rows matching {@link #schema(Shape)}.
+   */
+  public static List<Row> typed(Shape shape, int count) {
+    Random random = new Random(SEED);
+    List<Row> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Object[] values = values(shape, random, i);
+      Row row = new Row();
+      for (int j = 0; j < values.length; j++) {
+        row.add(name(j), j == 3 ? EPOCH.plusDays(i % 1000) : values[j]);
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /**
+   * @param shape of the records.
+   * @return schema of the rows generated by {@link #typed(Shape, int)}.
+   */
+  public static Schema schema(Shape shape) {
+    List<Schema.Field> fields = new ArrayList<>(shape.width());
+    fields.add(Schema.Field.of(name(0), Schema.nullableOf(Schema.of(Schema.Type.INT))));
+    fields.add(Schema.Field.of(name(1), Schema.nullableOf(Schema.of(Schema.Type.STRING))));
+    fields.add(Schema.Field.of(name(2), Schema.nullableOf(Schema.of(Schema.Type.DOUBLE))));
+    fields.add(Schema.Field.of(name(3), Schema.nullableOf(Schema.of(Schema.LogicalType.DATE))));
+    for (int j = 4; j < shape.width(); j++) {
+      fields.add(Schema.Field.of(name(j), Schema.nullableOf(Schema.of(Schema.Type.STRING))));
+    }
+    return Schema.recordOf("record", fields);
+  }
+
+  /**
+   * Copies rows, so that a benchmark invocation does not see the columns added by a previous one.
+   *
+   * @param rows to copy.
+   * @return copies of the rows.
+   */
+  public static List<Row> copy(List<Row> rows) {
+    List<Row> copies = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      copies.add(new Row(row));
+    }
+    return copies;
+  }
+
+  /**
+   * Creates a pipeline executing a recipe with the system directives, the way the transform does.
+   *
+   * @param context the recipe is executed with.
+   * @param batchSize number of rows passed to the directives at once.
+   * @param recipe directives of the recipe.
+   * @return a pipeline for the recipe.
+   */
+  public static RecipePipelineExecutor pipeline(ExecutorContext context, int batchSize, String... recipe)
+    throws DirectiveParseException, DirectiveLoadException {
+    CompositeDirectiveRegistry registry = new CompositeDirectiveRegistry(SystemDirectiveRegistry.INSTANCE);
+    String migrated = new MigrateToV2(recipe).migrate();
+    RecipeParser parser = new GrammarBasedParser(Contexts.SYSTEM, migrated, registry);
+    return new RecipePipelineExecutor(parser, context, batchSize);
+  }
+
+  private static String name(int field) {
+    switch (field) {
+      case 0:
+        return "id";
+      case 1:
+        return "name";
+      case 2:
+        return "amount";
+      case 3:
+        return "date";
+      default:
+        return "field_" + field;
+    }
+  }
+
+  private static Object[] values(Shape shape, Random random, int index) {
+    Object[] values = new Object[shape.width()];
+    values[0] = index;
+    values[1] = "name" + random.nextInt(10000);
+    values[2] = Math.round(random.nextDouble() * 100000) / 100.0;
+    values[3] = EPOCH.plusDays(index % 1000).toString();
+    for (int j = 4; j < values.length; j++) {
+      values[j] = "value" + j + "_" + random.nextInt(1000);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.executor.RecipePipelineExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the common directives one at a time. Each directive runs in a single directive recipe over rows
+ * that are prepared in the setup, so only the directive itself and the copy of the input rows are timed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectiveBenchmark {
+  private static final String PARSE_CSV = "parse-as-csv :body ',' false";
+
+  /**
+   * Directives measured by this benchmark.
+   */
+  public enum Directive {
+    PARSE_AS_CSV(PARSE_CSV),
+    PARSE_AS_JSON("parse-as-json :body 1"),
+    SET_COLUMN("set-column :total exp:{ body_1 + ':' + body_2 }"),
+    FILTER_ROW_IF_TRUE("filter-row-if-true body_2 =~ 'name1.*'"),
+    PARSE_AS_SIMPLE_DATE("parse-as-simple-date :body_4 'yyyy-MM-dd'"),
+    FIND_AND_REPLACE("find-and-replace :body_2 's/name/n/g'");
+
+    private final String recipe;
+
+    Directive(String recipe) {
+      this.recipe = recipe;
+    }
+  }
+
+  @Param({"PARSE_AS_CSV", "PARSE_AS_JSON", "SET_COLUMN", "FILTER_ROW_IF_TRUE", "PARSE_AS_SIMPLE_DATE",
+    "FIND_AND_REPLACE"})
+  private Directive directive;
+
+  @Param({"NARROW", "WIDE"})
+  private Datasets.Shape shape;
+
+  @Param({"1000"})
+  private int rows;
+
+  private List<Row> input;
+  private RecipePipelineExecutor executor;
+
+  @Setup
+  public void setup() throws Exception {
+    BenchmarkContext context = new BenchmarkContext();
+    switch (directive) {
+      case PARSE_AS_CSV:
+        input = Datasets.csv(shape, rows);
+        break;
+      case PARSE_AS_JSON:
+        input = Datasets.json(shape, rows);
+        break;
+      default:
+        // The other directives work on the columns of the parsed records.
+        RecipePipelineExecutor parser = Datasets.pipeline(context, 1, PARSE_CSV, "drop :body");
+        input = parser.execute(Datasets.csv(shape, rows));
+        parser.close();
+    }
+    executor = Datasets.pipeline(context, 1, directive.recipe);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public List<Row> execute() throws RecipeException {
+    return executor.execute(Datasets.copy(input));
+  }
+}
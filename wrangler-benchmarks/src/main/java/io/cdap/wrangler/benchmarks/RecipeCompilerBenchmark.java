@@ -0,0 +1,80 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.wrangler.api.CompileException;
+import io.cdap.wrangler.api.CompileStatus;
+import io.cdap.wrangler.parser.RecipeCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RecipeCompiler#compile(String)} on recipes of different lengths, built by repeating a block of
+ * common directives.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeCompilerBenchmark {
+  private static final String[] BLOCK = {
+    "parse-as-csv :body ',' false;",
+    "drop :body;",
+    "rename :body_1 :id;",
+    "set-type :id integer;",
+    "set-column :amount exp:{ body_3 * 1.1 };",
+    "filter-row exp:{ body_2 =~ 'name1.*' } true;",
+    "find-and-replace :body_2 's/name/n/g';",
+    "parse-as-simple-date :body_4 'yyyy-MM-dd';",
+    "fill-null-or-empty :body_5 'N/A';",
+    "drop :body_3;"
+  };
+
+  @Param({"10", "100"})
+  private int directives;
+
+  private String recipe;
+  private RecipeCompiler compiler;
+
+  @Setup
+  public void setup() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < directives; i++) {
+      builder.append(BLOCK[i % BLOCK.length]).append('\n');
+    }
+    recipe = builder.toString();
+    compiler = new RecipeCompiler();
+  }
+
+  @Benchmark
+  public CompileStatus compile() throws CompileException {
+    return compiler.compile(recipe);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.executor.RecipePipelineExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RecipePipelineExecutor#execute(List)} running a typical cleansing recipe on a block of rows.
+ * The time includes copying the input rows, which directives modify in place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipePipelineExecutorBenchmark {
+  private static final String[] RECIPE = {
+    "parse-as-csv :body ',' false",
+    "drop :body",
+    "rename :body_1 :id",
+    "rename :body_2 :name",
+    "set-type :id integer",
+    "set-column :amount exp:{ body_3 * 1.1 }",
+    "filter-row-if-true name =~ 'name1.*'",
+    "find-and-replace :name 's/name/n/g'",
+    "parse-as-simple-date :body_4 'yyyy-MM-dd'",
+    "drop :body_3"
+  };
+
+  @Param({"NARROW", "WIDE"})
+  private Datasets.Shape shape;
+
+  @Param({"1000"})
+  private int rows;
+
+  @Param({"1", "100"})
+  private int batchSize;
+
+  private List<Row> input;
+  private RecipePipelineExecutor executor;
+
+  @Setup
+  public void setup() throws Exception {
+    input = Datasets.csv(shape, rows);
+    executor = Datasets.pipeline(new BenchmarkContext(), batchSize, RECIPE);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Benchmark
+  public List<Row> execute() throws RecipeException {
+    return executor.execute(Datasets.copy(input));
+  }
+}
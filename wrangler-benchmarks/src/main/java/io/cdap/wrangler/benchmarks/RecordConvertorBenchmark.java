@@ -0,0 +1,72 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.benchmarks;
+
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.utils.RecordConvertor;
+import io.cdap.wrangler.utils.RecordConvertorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RecordConvertor#toStructureRecord(List, Schema)}, which converts the rows of every recipe
+ * executed by the transform into the output records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordConvertorBenchmark {
+
+  @Param({"NARROW", "WIDE"})
+  private Datasets.Shape shape;
+
+  @Param({"1000"})
+  private int rows;
+
+  private List<Row> input;
+  private Schema schema;
+  private RecordConvertor convertor;
+
+  @Setup
+  public void setup() {
+    input = Datasets.typed(shape, rows);
+    schema = Datasets.schema(shape);
+    convertor = new RecordConvertor();
+  }
+
+  @Benchmark
+  public List<StructuredRecord> toStructureRecord() throws RecordConvertorException {
+    return convertor.toStructureRecord(input, schema);
+  }
+}
@@ -16,6 +16,7 @@
 
 package io.cdap.directives.aggregates;
 
+import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.wrangler.api.Arguments;
 import io.cdap.wrangler.api.Directive;
@@ -25,6 +26,7 @@ import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.ReportErrorAndProceed;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.Stateful;
 import io.cdap.wrangler.api.parser.ByteSize;
 import io.cdap.wrangler.api.parser.ColumnName;
 import io.cdap.wrangler.api.parser.Text;
@@ -41,7 +43,9 @@ import java.util.List;
  * units, and outputs a single aggregated row.
  */
 @Plugin(type = Directive.TYPE)
-public class AggregateSizeDuration implements Directive {
+@Name(AggregateSizeDuration.NAME)
+public class AggregateSizeDuration implements Directive, Stateful {
+    public static final String NAME = "aggregate-sizeduration";
 
     private String sourceSizeColumn;
     private String sourceTimeColumn;
@@ -58,7 +62,7 @@ public class AggregateSizeDuration implements Directive {
 
     @Override
     public UsageDefinition define() {
-        UsageDefinition.Builder builder = UsageDefinition.builder("AggregateSizeDuration");
+        UsageDefinition.Builder builder = UsageDefinition.builder(NAME);
         builder.define("sourceSizeColumn", TokenType.COLUMN_NAME);
         builder.define("sourceTimeColumn", TokenType.COLUMN_NAME);
         builder.define("targetSizeColumn", TokenType.COLUMN_NAME);
@@ -159,6 +163,17 @@ public class AggregateSizeDuration implements Directive {
         return Collections.singletonList(resultRow);
     }
 
+    @Override
+    public void merge(Stateful other) {
+        AggregateSizeDuration aggregate = (AggregateSizeDuration) other;
+        totalSize += aggregate.totalSize;
+        totalTime += aggregate.totalTime;
+        count += aggregate.count;
+        aggregate.totalSize = 0;
+        aggregate.totalTime = 0;
+        aggregate.count = 0;
+    }
+
     @Override
     public void destroy() {
         // No resources to clean up in this implementation.
@@ -74,6 +74,17 @@ public class DefaultTransientStore implements TransientStore {
     return vars;
   }
 
+  /**
+   * Checks if a variable is present in the store, without building the set of all variables.
+   *
+   * @param name of the variable.
+   * @return true if the variable is present, false otherwise.
+   */
+  @Override
+  public boolean contains(String name) {
+    return global.containsKey(name) || local.containsKey(name);
+  }
+
   /**
    * Resets the state of this store.
    */
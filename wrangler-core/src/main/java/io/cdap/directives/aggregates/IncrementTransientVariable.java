@@ -38,6 +38,7 @@ import io.cdap.wrangler.expression.EL;
 import io.cdap.wrangler.expression.ELContext;
 import io.cdap.wrangler.expression.ELException;
 import io.cdap.wrangler.expression.ELResult;
+import io.cdap.wrangler.expression.ReusableELContext;
 
 import java.util.List;
 
@@ -55,6 +56,7 @@ public class IncrementTransientVariable implements Directive {
   private String variable;
   private long incrementBy;
   private EL el;
+  private ReusableELContext elContext;
 
   @Override
   public UsageDefinition define() {
@@ -72,6 +74,7 @@ public class IncrementTransientVariable implements Directive {
     String expression = ((Expression) args.value("condition")).value();
     try {
       el = EL.compile(expression);
+      elContext = new ReusableELContext(el);
     } catch (ELException e) {
       throw new DirectiveParseException(NAME, e.getMessage(), e);
     }
@@ -80,19 +83,8 @@ public class IncrementTransientVariable implements Directive {
   @Override
   public List<Row> execute(List<Row> rows, ExecutorContext context) throws DirectiveExecutionException {
     for (Row row : rows) {
-      // Move the fields from the row into the context.
-      ELContext ctx = new ELContext();
-      ctx.set("this", row);
-      for (String var : el.variables()) {
-        ctx.set(var, row.getValue(var));
-      }
-
-      // Transient variables are added.
-      if (context != null) {
-        for (String variable : context.getTransientStore().getVariables()) {
-          ctx.set(variable, context.getTransientStore().get(variable));
-        }
-      }
+      // Bind the row to the reusable context.
+      ELContext ctx = elContext.reset(context, row);
 
       // Execution of the script / expression based on the row data
       // mapped into context.
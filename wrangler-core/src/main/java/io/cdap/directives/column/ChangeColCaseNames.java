@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -47,7 +48,7 @@ import java.util.stream.Collectors;
 @Name(ChangeColCaseNames.NAME)
 @Categories(categories = { "column"})
 @Description("Changes the case of column names to either lowercase or uppercase.")
-public class ChangeColCaseNames implements Directive, Lineage {
+public class ChangeColCaseNames implements Directive, Lineage, Parallelizable {
   public static final String NAME = "change-column-case";
   private boolean toLower;
 
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -52,7 +53,7 @@ import java.util.stream.Collectors;
 @Categories(categories = { "column"})
 @Description("Sanatizes column names: trims, lowercases, and replaces all but [A-Z][a-z][0-9]_." +
   "with an underscore '_'.")
-public final class CleanseColumnNames implements Directive, Lineage {
+public final class CleanseColumnNames implements Directive, Lineage, Parallelizable {
   public static final String NAME = "cleanse-column-names";
 
   @Override
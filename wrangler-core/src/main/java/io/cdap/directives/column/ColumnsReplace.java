@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -49,7 +50,7 @@ import java.util.stream.Collectors;
 @Name(ColumnsReplace.NAME)
 @Categories(categories = { "column"})
 @Description("Modifies column names in bulk using a sed-format expression.")
-public class ColumnsReplace implements Directive, Lineage {
+public class ColumnsReplace implements Directive, Lineage, Parallelizable {
   public static final String NAME = "columns-replace";
   private String sed;
 
@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -45,7 +46,7 @@ import java.util.List;
 @Name(Copy.NAME)
 @Categories(categories = { "column"})
 @Description("Copies values from a source column into a destination column.")
-public class Copy implements Directive, Lineage {
+public class Copy implements Directive, Lineage, Parallelizable {
   public static final String NAME = "copy";
   private ColumnName source;
   private ColumnName destination;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name(CreateRecord.NAME)
 @Categories(categories = {"column"})
 @Description("Creates Column of type Record .")
-public class CreateRecord implements Directive, Lineage {
+public class CreateRecord implements Directive, Lineage, Parallelizable {
   public static final String NAME = "create-record";
   private String targetColumn;
   private String[] columns;
@@ -20,11 +20,14 @@ import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
 import io.cdap.wrangler.api.lineage.Many;
@@ -43,7 +46,7 @@ import java.util.List;
 @Name(Drop.NAME)
 @Categories(categories = { "column"})
 @Description("Drop one or more columns.")
-public class Drop implements Directive, Lineage {
+public class Drop implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "drop";
 
   // Columns to be dropped.
@@ -81,6 +84,17 @@ public class Drop implements Directive, Lineage {
     return rows;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    for (String column : columns) {
+      int idx = batch.find(column.trim());
+      if (idx != -1) {
+        batch.remove(idx);
+      }
+    }
+    return batch;
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Pair;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -63,7 +64,7 @@ import java.util.List;
 @Name(FlattenRecord.NAME)
 @Categories(categories = { "column"})
 @Description("Flattens a record into individual columns.")
-public class FlattenRecord implements Directive {
+public class FlattenRecord implements Directive, Parallelizable {
   public static final String NAME = "flatten-record";
   // Column on which to apply mask.
   private String[] columns;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -45,7 +46,7 @@ import java.util.List;
 @Name(Merge.NAME)
 @Categories(categories = { "column"})
 @Description("Merges values from two columns using a separator into a new column.")
-public class Merge implements Directive, Lineage {
+public class Merge implements Directive, Lineage, Parallelizable {
   public static final String NAME = "merge";
   // Scope column1
   private String col1;
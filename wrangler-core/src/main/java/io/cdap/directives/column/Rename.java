@@ -21,10 +21,13 @@ import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.cdap.api.data.schema.Schema;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +47,7 @@ import java.util.stream.Collectors;
 @Name(Rename.NAME)
 @Categories(categories = { "column"})
 @Description("Renames a column 'source' to 'target'")
-public final class Rename implements Directive, Lineage {
+public final class Rename implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "rename";
   private ColumnName source;
   private ColumnName target;
@@ -78,6 +81,12 @@ public final class Rename implements Directive, Lineage {
     return rows;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    ColumnConverter.rename(NAME, batch, source.value(), target.value());
+    return batch;
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
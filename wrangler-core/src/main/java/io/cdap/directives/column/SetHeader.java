@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -48,7 +49,7 @@ import java.util.List;
 @Name(SetHeader.NAME)
 @Categories(categories = { "column"})
 @Description("Sets the header of columns, in the order they are specified.")
-public class SetHeader implements Directive, Lineage {
+public class SetHeader implements Directive, Lineage, Parallelizable {
   public static final String NAME = "set-headers";
   // Name of the columns represented in a {@link Row}
   private List<String> columns = new ArrayList<>();
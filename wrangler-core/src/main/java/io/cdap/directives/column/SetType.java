@@ -22,13 +22,16 @@ import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.cdap.api.data.schema.Schema;
 import io.cdap.cdap.api.data.schema.Schema.LogicalType;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
 import io.cdap.wrangler.api.Pair;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -56,7 +59,7 @@ import java.util.stream.Collectors;
 @Categories(categories = {"column"})
 @Description("Converting data type of a column. Optional arguments scale, precision and "
     + "rounding-mode are used only when type is decimal.")
-public final class SetType implements Directive, Lineage {
+public final class SetType implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "set-type";
 
   private String col;
@@ -114,6 +117,20 @@ public final class SetType implements Directive, Lineage {
     return rows;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    int idx = batch.find(col);
+    if (idx != -1) {
+      Object[] values = new Object[batch.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = ColumnConverter.convertType(NAME, col, batch.getValue(i, idx), type, scale, precision,
+                                                roundingMode);
+      }
+      batch.setValues(idx, values);
+    }
+    return batch;
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.SchemaResolutionContext;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -45,7 +46,7 @@ import java.util.stream.Collectors;
 @Name(Swap.NAME)
 @Categories(categories = { "column"})
 @Description("Swaps the column names of two columns.")
-public class Swap implements Directive, Lineage {
+public class Swap implements Directive, Lineage, Parallelizable {
   public static final String NAME = "swap";
   private String left;
   private String right;
@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -47,7 +48,7 @@ import java.util.Locale;
 @Name(FormatAsCurrency.NAME)
 @Categories(categories = {"currency"})
 @Description("Formats a number as currency using the locale specified. Default locale is en_US.")
-public class FormatAsCurrency implements Directive, Lineage {
+public class FormatAsCurrency implements Directive, Lineage, Parallelizable {
   public static final String NAME = "format-as-currency";
   private String source;
   private String destination;
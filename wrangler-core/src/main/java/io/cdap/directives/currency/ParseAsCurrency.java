@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -50,7 +51,7 @@ import java.util.Locale;
 @Name(ParseAsCurrency.NAME)
 @Categories(categories = {"currency"})
 @Description("Parses the string as a currency using specified locale. Default locale is en_US.")
-public class ParseAsCurrency implements Directive, Lineage {
+public class ParseAsCurrency implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-currency";
   private String source;
   private String destination;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -52,7 +53,7 @@ import java.util.Map;
 @Name(DataModelMapColumn.NAME)
 @Categories(categories = {"data-quality"})
 @Description("Maps a column to target data model field so that matches the target name and type.")
-public class DataModelMapColumn implements Directive, Lineage {
+public class DataModelMapColumn implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "data-model-map-column";
 
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +49,7 @@ import java.util.List;
 @Name("format-date")
 @Categories(categories = {"date", "format"})
 @Description("Formats a column using a date-time format. Use 'parse-as-date` beforehand.")
-public class FormatDate implements Directive, Lineage {
+public class FormatDate implements Directive, Lineage, Parallelizable {
   public static final String NAME = "format-date";
   private String format;
   private String column;
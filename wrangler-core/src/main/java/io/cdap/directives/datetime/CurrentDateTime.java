@@ -23,6 +23,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -43,7 +44,7 @@ import java.util.List;
 @Name("current-datetime")
 @Categories(categories = {"datetime"})
 @Description("Generates current datetime using the given zone")
-public class CurrentDateTime implements Directive, Lineage {
+public class CurrentDateTime implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "current-datetime";
   private static final String COLUMN = "column";
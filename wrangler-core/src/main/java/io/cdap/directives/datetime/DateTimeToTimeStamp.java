@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -45,7 +46,7 @@ import java.util.List;
 @Name("datetime-to-timestamp")
 @Categories(categories = {"datetime"})
 @Description("Converts a datetime column to timestamp")
-public class DateTimeToTimeStamp implements Directive, Lineage {
+public class DateTimeToTimeStamp implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "datetime-to-timestamp";
   private static final String COLUMN = "column";
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name("format-datetime")
 @Categories(categories = {"format", "datetime"})
 @Description("Formats a datetime value to a string using the given format")
-public class FormatDateTime implements Directive, Lineage {
+public class FormatDateTime implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "format-datetime";
   private static final String COLUMN = "column";
@@ -22,6 +22,7 @@ import io.cdap.wrangler.api.Arguments;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -41,7 +42,7 @@ import java.util.List;
 @Name("timestamp-to-datetime")
 @Categories(categories = {"datetime"})
 @Description("Convert a timestamp column to datetime")
-public class TimestampToDateTime implements Directive, Lineage {
+public class TimestampToDateTime implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "timestamp-to-datetime";
   private static final String COLUMN = "column";
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -49,7 +50,7 @@ import java.util.List;
 @Name("set-charset")
 @Categories(categories = {"language"})
 @Description("Sets the character set decoding to UTF-8.")
-public class SetCharset implements Directive, Lineage {
+public class SetCharset implements Directive, Lineage, Parallelizable {
   public static final String NAME = "set-charset";
   private String column;
   private String charset;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name(CatalogLookup.NAME)
 @Categories(categories = { "lookup"})
 @Description("Looks-up values from pre-loaded (static) catalogs.")
-public class CatalogLookup implements Directive, Lineage {
+public class CatalogLookup implements Directive, Lineage, Parallelizable {
   public static final String NAME = "catalog-lookup";
   // StaticCatalog that holds the ICD code and their descriptions
   private StaticCatalog catalog;
@@ -27,6 +27,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +49,7 @@ import java.util.Map;
 @Name(TableLookup.NAME)
 @Categories(categories = { "lookup"})
 @Description("Uses the given column as a key to perform a lookup into the specified table.")
-public class TableLookup implements Directive, Lineage {
+public class TableLookup implements Directive, Lineage, Parallelizable {
   public static final String NAME = "table-lookup";
   private String column;
   private String table;
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -46,7 +47,7 @@ import java.util.List;
 @Name("stemming")
 @Categories(categories = { "nlp"})
 @Description("Apply Porter Stemming on the column value.")
-public class Stemming implements Directive, Lineage {
+public class Stemming implements Directive, Lineage, Parallelizable {
   public static final String NAME = "stemming";
   private String column;
   private PorterStemmer stemmer;
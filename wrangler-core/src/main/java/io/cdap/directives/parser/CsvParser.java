@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -38,9 +39,7 @@ import io.cdap.wrangler.api.parser.TokenType;
 import io.cdap.wrangler.api.parser.UsageDefinition;
 import io.cdap.wrangler.dq.DataType;
 import io.cdap.wrangler.dq.TypeInference;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
+import io.cdap.wrangler.utils.DelimitedLineTokenizer;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import java.io.IOException;
@@ -56,14 +55,14 @@ import java.util.Set;
 @Name(CsvParser.NAME)
 @Categories(categories = { "parser", "csv"})
 @Description("Parses a column as CSV (comma-separated values).")
-public class CsvParser implements Directive, Lineage {
+public class CsvParser implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-csv";
   private ColumnName columnArg;
   private Text delimiterArg;
   private Bool headerArg;
 
-  // CSV format defines the configuration for CSV parser for parsing.
-  private CSVFormat format;
+  // Tokenizer reused for every row.
+  private DelimitedLineTokenizer tokenizer;
 
   //
   private boolean hasHeader;
@@ -74,6 +73,9 @@ public class CsvParser implements Directive, Lineage {
   // Header names.
   private List<String> headers = new ArrayList<>();
 
+  // Generated column names, shared by all the rows parsed without a header.
+  private final List<String> columnNames = new ArrayList<>();
+
   @Override
   public UsageDefinition define() {
     UsageDefinition.Builder builder = UsageDefinition.builder("parse-as-csv");
@@ -102,11 +104,11 @@ public class CsvParser implements Directive, Lineage {
     }
 
 
-    this.format = CSVFormat.DEFAULT.withDelimiter(delimiter);
-    this.format.withIgnoreEmptyLines(true)
-      .withAllowMissingColumnNames(true)
-      .withIgnoreSurroundingSpaces(true)
-      .withRecordSeparator('\n');
+    try {
+      this.tokenizer = new DelimitedLineTokenizer(delimiter);
+    } catch (IllegalArgumentException e) {
+      throw new DirectiveParseException(NAME, String.format("Invalid delimiter for CSV Parser: %s", e.getMessage()), e);
+    }
 
     this.hasHeader = false;
     if (args.contains("header")) {
@@ -120,6 +122,15 @@ public class CsvParser implements Directive, Lineage {
     // no-op
   }
 
+  /**
+   * The header is detected on the first row of the input, so only parsing without a header can be split
+   * across workers.
+   */
+  @Override
+  public boolean isParallelizable() {
+    return !hasHeader;
+  }
+
   /**
    * Parses a give column in a {@link Row} as a CSV Row.
    *
@@ -131,57 +142,65 @@ public class CsvParser implements Directive, Lineage {
   public List<Row> execute(List<Row> rows, ExecutorContext context)
     throws DirectiveExecutionException, ErrorRowException {
 
+    List<Row> results = new ArrayList<>(rows.size());
     for (Row row : rows) {
       int idx = row.find(columnArg.value());
       if (idx == -1) {
+        results.add(row);
         continue;
       }
       String line = (String) row.getValue(idx);
       if (line == null || line.isEmpty()) {
+        results.add(row);
         continue;
       }
-      CSVParser parser = null;
+      boolean header = false;
       try {
-        parser = CSVParser.parse(line, format);
-        List<CSVRecord> csvRecords = parser.getRecords();
-        for (CSVRecord csvRecord : csvRecords) {
-          if (!checkedHeader && hasHeader && isHeader(csvRecord)) {
-            for (int i = 0; i < csvRecord.size(); i++) {
-              headers.add(csvRecord.get(i).trim().replaceAll("\\s+", "_"));
-            }
-            if (rows.size() > 0) {
-              return new ArrayList<>();
+        tokenizer.reset(line);
+        while (tokenizer.next()) {
+          if (!checkedHeader && hasHeader && isHeader(tokenizer)) {
+            for (int i = 0; i < tokenizer.size(); i++) {
+              headers.add(tokenizer.get(i).trim().replaceAll("\\s+", "_"));
             }
+            // The header row is consumed and not passed on to the next directive.
+            header = true;
           } else {
-            toRow(csvRecord, row);
+            toRow(tokenizer, row);
           }
         }
       } catch (IOException e) {
         // When there is error parsing data, the data is written to error.
         throw new ErrorRowException(NAME, e.getMessage(), 1);
       }
+      if (!header) {
+        results.add(row);
+      }
     }
-    return rows;
+    return results;
   }
 
   /**
-   * Converts a {@link CSVRecord} to {@link Row}.
-   *
-   * @param record
-   * @return
+   * Adds the fields of the current record of the tokenizer to the {@link Row}.
    */
-  private void toRow(CSVRecord record, Row row) {
-    int size = headers.size();
+  private void toRow(DelimitedLineTokenizer record, Row row) {
+    List<String> names = headers.isEmpty() ? getColumnNames(record.size()) : headers;
+    row.ensureCapacity(row.width() + record.size());
     for (int i = 0; i < record.size(); i++) {
-      if (size > 0) {
-        row.add(headers.get(i), record.get(i));
-      } else {
-        row.add(columnArg.value() + "_" + (i + 1), record.get(i));
-      }
+      row.add(names.get(i), record.get(i));
+    }
+  }
+
+  /**
+   * Returns the names of the columns of rows without header, generating the names missing for wider records.
+   */
+  private List<String> getColumnNames(int width) {
+    for (int i = columnNames.size(); i < width; i++) {
+      columnNames.add(columnArg.value() + "_" + (i + 1));
     }
+    return columnNames;
   }
 
-  private boolean isHeader(CSVRecord record) {
+  private boolean isHeader(DelimitedLineTokenizer record) {
     checkedHeader = true;
     Set<String> columns = new HashSet<>();
     for (int i = 0; i < record.size(); i++) {
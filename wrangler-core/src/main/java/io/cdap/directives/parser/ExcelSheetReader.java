@@ -0,0 +1,365 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.parser;
+
+import io.cdap.functions.Types;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Reads the rows of a sheet of an Excel (xlsx) file with a SAX parser, without building the workbook in memory.
+ *
+ * <p>The file is spooled to a temporary file so that parts are inflated only when they are read. Cells get the
+ * same values as with {@link org.apache.poi.xssf.usermodel.XSSFWorkbook}: strings as they are, booleans as
+ * <code>true</code> or <code>false</code>, date formatted numbers formatted with the {@link DataFormatter},
+ * other numbers as doubles and formula, error and blank cells as empty strings. Rows that have no cells other
+ * than blank cells or blank strings are skipped.</p>
+ */
+final class ExcelSheetReader {
+
+  /**
+   * Receives the rows of a sheet.
+   */
+  interface RowConsumer {
+
+    /**
+     * Accepts a row.
+     *
+     * @param columns the column index of every cell of the row, in the order of the file.
+     * @param values the value of every cell, in the same order.
+     * @return <code>true</code> to read the next row, <code>false</code> to stop reading.
+     */
+    boolean accept(List<Integer> columns, List<String> values);
+  }
+
+  private final DataFormatter formatter;
+
+  ExcelSheetReader(DataFormatter formatter) {
+    this.formatter = formatter;
+  }
+
+  /**
+   * Reads a sheet.
+   *
+   * @param bytes the Excel file.
+   * @param sheet the index of the sheet, or its name, which is matched ignoring case.
+   * @param consumer consumer of the rows.
+   * @return <code>false</code> if there is no sheet with the name.
+   * @throws IllegalArgumentException if there is no sheet with the index.
+   */
+  boolean read(byte[] bytes, String sheet, RowConsumer consumer)
+    throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+    File file = File.createTempFile("wrangler-excel-", ".xlsx");
+    try {
+      Files.write(file.toPath(), bytes);
+      OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+      try {
+        XSSFReader reader = new XSSFReader(pkg);
+        try (InputStream workbook = reader.getWorkbookData()) {
+          WorkbookHandler handler = new WorkbookHandler();
+          parse(workbook, handler);
+          SheetHandler sheetHandler = new SheetHandler(new ReadOnlySharedStringsTable(pkg, false),
+                                                       reader.getStylesTable(), handler.date1904, consumer);
+          try (InputStream input = openSheet(reader, handler, sheet)) {
+            if (input == null) {
+              return false;
+            }
+            parse(input, sheetHandler);
+          } catch (StopReadingException e) {
+            // The consumer does not want more rows.
+          }
+          return true;
+        }
+      } finally {
+        pkg.revert();
+      }
+    } finally {
+      if (!file.delete()) {
+        file.deleteOnExit();
+      }
+    }
+  }
+
+  @Nullable
+  private static InputStream openSheet(XSSFReader reader, WorkbookHandler workbook, String sheet)
+    throws IOException, OpenXML4JException {
+    String id = null;
+    if (Types.isInteger(sheet)) {
+      int index = Integer.parseInt(sheet);
+      if (index < 0 || index >= workbook.sheetIds.size()) {
+        // Same message as XSSFWorkbook.getSheetAt.
+        throw new IllegalArgumentException(
+          String.format("Sheet index (%d) is out of range (0..%d)", index, workbook.sheetIds.size() - 1));
+      }
+      id = workbook.sheetIds.get(index);
+    } else {
+      for (int i = 0; i < workbook.sheetNames.size() && id == null; i++) {
+        if (sheet.equalsIgnoreCase(workbook.sheetNames.get(i))) {
+          id = workbook.sheetIds.get(i);
+        }
+      }
+    }
+    return id == null ? null : reader.getSheet(id);
+  }
+
+  private static void parse(InputStream input, DefaultHandler handler)
+    throws IOException, SAXException, ParserConfigurationException {
+    XMLReader parser = SAXHelper.newXMLReader();
+    parser.setContentHandler(handler);
+    parser.parse(new InputSource(input));
+  }
+
+  private static String decode(String value) {
+    // Characters that cannot be represented in XML are escaped as _xHHHH_.
+    return value.contains("_x") ? new XSSFRichTextString(value).getString() : value;
+  }
+
+  /**
+   * Reads the workbook properties and the sheets, in the order of the workbook.
+   */
+  private static final class WorkbookHandler extends DefaultHandler {
+    private static final String RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final List<String> sheetNames = new ArrayList<>();
+    private final List<String> sheetIds = new ArrayList<>();
+    private boolean date1904;
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+      if ("workbookPr".equals(localName)) {
+        String value = attributes.getValue("date1904");
+        date1904 = "1".equals(value) || "true".equals(value);
+      } else if ("sheet".equals(localName)) {
+        sheetNames.add(attributes.getValue("name"));
+        sheetIds.add(attributes.getValue(RELATIONSHIPS, "id"));
+      }
+    }
+  }
+
+  /**
+   * Thrown to stop parsing when the consumer does not want more rows.
+   */
+  private static final class StopReadingException extends SAXException {
+  }
+
+  /**
+   * Converts the cells of a sheet.
+   */
+  private final class SheetHandler extends DefaultHandler {
+    private final ReadOnlySharedStringsTable strings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final RowConsumer consumer;
+    private final List<CellRangeAddress> arrayFormulas = new ArrayList<>();
+    private final List<Integer> columns = new ArrayList<>();
+    private final List<String> values = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+
+    private int row;
+    private boolean empty;
+    private int column;
+    private String type;
+    private int style;
+    private boolean formula;
+    private String value;
+    private String inline;
+    private boolean inValue;
+    private boolean inInline;
+    private boolean inPhonetic;
+
+    SheetHandler(ReadOnlySharedStringsTable strings, StylesTable styles, boolean date1904, RowConsumer consumer) {
+      this.strings = strings;
+      this.styles = styles != null && styles.getNumCellStyles() > 0 ? styles : null;
+      this.date1904 = date1904;
+      this.consumer = consumer;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+      switch (localName) {
+        case "row":
+          String number = attributes.getValue("r");
+          row = number == null ? row + 1 : Integer.parseInt(number);
+          columns.clear();
+          values.clear();
+          empty = true;
+          break;
+
+        case "c":
+          String reference = attributes.getValue("r");
+          column = reference == null ? (columns.isEmpty() ? 0 : columns.get(columns.size() - 1) + 1)
+            : toColumn(reference);
+          type = attributes.getValue("t");
+          String index = attributes.getValue("s");
+          style = index == null ? 0 : Integer.parseInt(index);
+          formula = isInArrayFormula();
+          value = null;
+          inline = null;
+          break;
+
+        case "f":
+          formula = true;
+          if ("array".equals(attributes.getValue("t")) && attributes.getValue("ref") != null) {
+            arrayFormulas.add(CellRangeAddress.valueOf(attributes.getValue("ref")));
+          }
+          break;
+
+        case "v":
+          inValue = true;
+          text.setLength(0);
+          break;
+
+        case "is":
+          inInline = true;
+          text.setLength(0);
+          break;
+
+        case "rPh":
+          inPhonetic = true;
+          break;
+
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      switch (localName) {
+        case "v":
+          inValue = false;
+          value = text.toString();
+          break;
+
+        case "is":
+          inInline = false;
+          inline = text.toString();
+          break;
+
+        case "rPh":
+          inPhonetic = false;
+          break;
+
+        case "c":
+          columns.add(column);
+          values.add(cellValue());
+          break;
+
+        case "row":
+          if (!empty && !consumer.accept(columns, values)) {
+            throw new StopReadingException();
+          }
+          break;
+
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (inValue || (inInline && !inPhonetic)) {
+        text.append(ch, start, length);
+      }
+    }
+
+    private String cellValue() {
+      if (formula) {
+        empty = false;
+        return "";
+      }
+      String result;
+      if ("s".equals(type)) {
+        result = value == null ? "" : decode(strings.getEntryAt(Integer.parseInt(value)));
+      } else if ("inlineStr".equals(type)) {
+        result = inline != null ? decode(inline) : value != null ? decode(value) : "";
+      } else if ("str".equals(type)) {
+        result = value == null ? "" : decode(value);
+      } else if ("b".equals(type)) {
+        empty = false;
+        return String.valueOf("1".equals(value));
+      } else if ("e".equals(type)) {
+        empty = false;
+        return "";
+      } else if (value == null) {
+        return "";
+      } else {
+        empty = false;
+        return formatNumber(Double.parseDouble(value));
+      }
+      empty = empty && StringUtils.isBlank(result);
+      return result;
+    }
+
+    private String formatNumber(double number) {
+      if (styles != null && DateUtil.isValidExcelDate(number)) {
+        XSSFCellStyle cellStyle = styles.getStyleAt(style);
+        if (cellStyle != null && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())) {
+          return formatter.formatRawCellContents(number, cellStyle.getDataFormat(), cellStyle.getDataFormatString(),
+                                                 date1904);
+        }
+      }
+      return String.valueOf(number);
+    }
+
+    private boolean isInArrayFormula() {
+      for (CellRangeAddress range : arrayFormulas) {
+        if (range.isInRange(row - 1, column)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static int toColumn(String reference) {
+    int column = 0;
+    for (int i = 0; i < reference.length(); i++) {
+      char c = reference.charAt(i);
+      if (c < 'A' || c > 'Z') {
+        break;
+      }
+      column = column * 26 + c - 'A' + 1;
+    }
+    return column - 1;
+  }
+}
@@ -27,6 +27,7 @@ import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.LazyNumber;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +49,7 @@ import java.util.List;
 @Name("parse-as-fixed-length")
 @Categories(categories = { "parser"})
 @Description("Parses fixed-length records using the specified widths and padding-character.")
-public final class FixedLengthParser implements Directive, Lineage {
+public final class FixedLengthParser implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-fixed-length";
   private int[] widths;
   private String col;
@@ -44,6 +44,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -64,7 +65,7 @@ import java.util.List;
 @Categories(categories = { "parser", "hl7"})
 @Description("Parses <column> for Health Level 7 Version 2 (HL7 V2) messages; <depth> indicates at which point " +
   "JSON object enumeration terminates.")
-public class HL7Parser implements Directive, Lineage {
+public class HL7Parser implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-hl7";
   private String column;
   private HapiContext context;
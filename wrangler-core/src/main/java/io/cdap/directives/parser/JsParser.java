@@ -32,6 +32,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -39,6 +40,7 @@ import io.cdap.wrangler.api.lineage.Many;
 import io.cdap.wrangler.api.lineage.Mutation;
 import io.cdap.wrangler.api.parser.ColumnName;
 import io.cdap.wrangler.api.parser.Numeric;
+import io.cdap.wrangler.api.parser.Text;
 import io.cdap.wrangler.api.parser.TokenType;
 import io.cdap.wrangler.api.parser.UsageDefinition;
 import io.cdap.wrangler.dq.TypeInference;
@@ -53,13 +55,14 @@ import java.util.Map;
 
 /**
  * This class is a JSON Parser directive with optional argument specifying the depth
- * to which the JSON needs to be parsed.
+ * to which the JSON needs to be parsed, and optional comma separated paths of the fields to keep,
+ * for instance <code>'user.name,event'</code>.
  */
 @Plugin(type = Directive.TYPE)
 @Name("parse-as-json")
 @Categories(categories = { "parser", "json"})
 @Description("Parses a column as JSON.")
-public class JsParser implements Directive, Lineage {
+public class JsParser implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-json";
   // Column within the input row that needs to be parsed as Json
   private String column;
@@ -70,11 +73,15 @@ public class JsParser implements Directive, Lineage {
   // JSON parser.
   private static final JsonParser parser = new JsonParser();
 
+  // Flattens the JSON objects while reading them.
+  private JsonStreamFlattener flattener;
+
   @Override
   public UsageDefinition define() {
     UsageDefinition.Builder builder = UsageDefinition.builder(NAME);
     builder.define("column", TokenType.COLUMN_NAME);
     builder.define("depth", TokenType.NUMERIC, Optional.TRUE);
+    builder.define("fields", TokenType.TEXT, Optional.TRUE);
     return builder.build();
   }
 
@@ -86,6 +93,15 @@ public class JsParser implements Directive, Lineage {
     } else {
       this.depth = Integer.MAX_VALUE;
     }
+    List<String> fields = new ArrayList<>();
+    if (args.contains("fields")) {
+      for (String field : ((Text) args.value("fields")).value().split(",")) {
+        if (!field.trim().isEmpty()) {
+          fields.add(field.trim());
+        }
+      }
+    }
+    this.flattener = new JsonStreamFlattener(column, depth, fields);
   }
 
   @Override
@@ -108,6 +124,14 @@ public class JsParser implements Directive, Lineage {
           continue;
         }
 
+        // Objects are flattened while they are read, other documents are parsed into a tree. Both keep the members
+        // selected by the fields.
+        if (value instanceof String && flattener.flatten((String) value, row)) {
+          row.remove(idx);
+          results.add(row);
+          continue;
+        }
+
         try {
           JsonElement element = null;
           if (value instanceof String) {
@@ -125,7 +149,7 @@ public class JsParser implements Directive, Lineage {
 
           if (element != null) {
             if (element instanceof JsonObject) {
-              jsonFlatten(element.getAsJsonObject(), column, 1, depth, row);
+              flattener.flatten(element.getAsJsonObject(), row);
               results.add(row);
             } else if (element instanceof JsonArray) {
               JsonArray array = element.getAsJsonArray();
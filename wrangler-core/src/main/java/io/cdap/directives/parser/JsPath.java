@@ -32,6 +32,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -51,7 +52,7 @@ import java.util.List;
 @Name("json-path")
 @Categories(categories = { "parser", "json"})
 @Description("Parses JSON elements using a DSL (a JSON path expression).")
-public class JsPath implements Directive, Lineage {
+public class JsPath implements Directive, Lineage, Parallelizable {
   public static final String NAME = "json-path";
   private String src;
   private String dest;
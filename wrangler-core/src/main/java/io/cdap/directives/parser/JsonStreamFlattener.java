@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.parser;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.internal.bind.TypeAdapters;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.dq.TypeInference;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Flattens a JSON object into the columns of a {@link Row} while reading it, the same way as
+ * {@link JsParser#jsonFlatten} does with the parsed object, without building the tree of the document.
+ *
+ * <p>Only the values that are kept as a whole, arrays and objects deeper than the maximum depth, are read into a
+ * tree. Members that are not selected by the projection are skipped without being read into values. Documents
+ * that cannot be flattened while reading, because they are not objects, are malformed or have duplicate keys, are
+ * left untouched so they can be parsed into a tree, which is then flattened with the same projection by
+ * {@link #flatten(JsonObject, Row)}. This class is not thread safe.</p>
+ */
+final class JsonStreamFlattener {
+  private final String column;
+  private final int maxDepth;
+  @Nullable
+  private final Projection projection;
+  // Keys of the objects being read, by depth, to detect duplicate keys.
+  private final List<Set<String>> keys = new ArrayList<>();
+
+  /**
+   * @param column name of the column being parsed, used as prefix of the flattened columns.
+   * @param maxDepth objects deeper than this are kept as a whole.
+   * @param fields paths of the members to keep with their members separated by '.', all the members are kept if
+   *               empty.
+   */
+  JsonStreamFlattener(String column, int maxDepth, List<String> fields) {
+    this.column = column;
+    this.maxDepth = maxDepth;
+    this.projection = Projection.of(fields);
+  }
+
+  /**
+   * Adds the flattened members of the document at the end of the row.
+   *
+   * @param document to be flattened.
+   * @param row to which the flattened columns are added.
+   * @return true if the document was flattened, false if the document must be parsed into a tree, in which case the
+   *         row is left as it was.
+   */
+  boolean flatten(String document, Row row) {
+    if (maxDepth < 1) {
+      return false;
+    }
+    int width = row.width();
+    try {
+      JsonReader reader = new JsonReader(new StringReader(document));
+      reader.setLenient(true);
+      if (reader.peek() == JsonToken.BEGIN_OBJECT && flattenObject(reader, column, 1, projection, row)) {
+        // Same as parsing a document, nothing but whitespace may follow the object.
+        reader.setLenient(false);
+        if (reader.peek() == JsonToken.END_DOCUMENT) {
+          return true;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // The document is parsed into a tree, which reports the error.
+    }
+    while (row.width() > width) {
+      row.remove(row.width() - 1);
+    }
+    return false;
+  }
+
+  /**
+   * Adds the flattened members of an object that is already parsed at the end of the row, keeping the same members
+   * as {@link #flatten(String, Row)}.
+   *
+   * @param object to be flattened.
+   * @param row to which the flattened columns are added.
+   */
+  void flatten(JsonObject object, Row row) {
+    flattenTree(object, column, 1, projection, row);
+  }
+
+  private void flattenTree(JsonObject object, String field, int depth, @Nullable Projection selected, Row row) {
+    if (depth > maxDepth) {
+      row.addOrSet(field, object);
+      return;
+    }
+    for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+      String key = member.getKey();
+      JsonElement element = member.getValue();
+      Projection child = selected == null ? null : selected.members.get(key);
+      if (selected != null && (child == null || !child.accepts(element))) {
+        continue;
+      }
+      String name = field + "_" + key;
+      if (element.isJsonObject()) {
+        flattenTree(element.getAsJsonObject(), name, depth + 1, child == null || child.all() ? null : child, row);
+      } else {
+        row.add(name, JsParser.getValue(element));
+      }
+    }
+  }
+
+  private boolean flattenObject(JsonReader reader, String field, int depth, @Nullable Projection selected,
+                                Row row) throws IOException {
+    if (depth > maxDepth) {
+      row.addOrSet(field, TypeAdapters.JSON_ELEMENT.read(reader));
+      return true;
+    }
+    if (keys.size() < depth) {
+      keys.add(new HashSet<>());
+    }
+    Set<String> seen = keys.get(depth - 1);
+    seen.clear();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      if (!seen.add(key)) {
+        // The last value of a duplicate key replaces the first one, which may already be flattened.
+        return false;
+      }
+      Projection child = selected == null ? null : selected.members.get(key);
+      JsonToken token = reader.peek();
+      if (selected != null && (child == null || !child.accepts(token))) {
+        reader.skipValue();
+        continue;
+      }
+      String name = field + "_" + key;
+      switch (token) {
+        case BEGIN_OBJECT:
+          if (!flattenObject(reader, name, depth + 1, child == null || child.all() ? null : child, row)) {
+            return false;
+          }
+          break;
+        case STRING:
+          row.add(name, reader.nextString());
+          break;
+        case NUMBER:
+          row.add(name, getNumber(reader.nextString()));
+          break;
+        case BOOLEAN:
+          row.add(name, reader.nextBoolean());
+          break;
+        case NULL:
+          reader.nextNull();
+          row.add(name, JsonNull.INSTANCE);
+          break;
+        default:
+          row.add(name, TypeAdapters.JSON_ELEMENT.read(reader));
+      }
+    }
+    reader.endObject();
+    return true;
+  }
+
+  /**
+   * Converts a number the same way as {@link JsParser#getValue(com.google.gson.JsonPrimitive)} converts a parsed
+   * number.
+   */
+  private static Object getNumber(String number) {
+    if (TypeInference.isInteger(number)) {
+      return new BigInteger(number).longValue();
+    }
+    return new BigDecimal(number).doubleValue();
+  }
+
+  /**
+   * Members of an object selected by the paths of the projection.
+   */
+  private static final class Projection {
+    private final Map<String, Projection> members = new HashMap<>();
+
+    @Nullable
+    static Projection of(List<String> fields) {
+      if (fields.isEmpty()) {
+        return null;
+      }
+      Projection root = new Projection();
+      for (String field : fields) {
+        Projection node = root;
+        String[] path = field.split("\\.");
+        for (int i = 0; i < path.length; i++) {
+          Projection child = node.members.get(path[i]);
+          if (child == null) {
+            child = new Projection();
+            node.members.put(path[i], child);
+          } else if (child.all()) {
+            // A shorter path already selects the whole member.
+            break;
+          }
+          if (i == path.length - 1) {
+            child.members.clear();
+          }
+          node = child;
+        }
+      }
+      return root;
+    }
+
+    /**
+     * @return true if the whole member is selected.
+     */
+    boolean all() {
+      return members.isEmpty();
+    }
+
+    /**
+     * Tells whether a value is selected, only objects have the members selected by a longer path.
+     */
+    boolean accepts(JsonToken token) {
+      return all() || token == JsonToken.BEGIN_OBJECT;
+    }
+
+    boolean accepts(JsonElement element) {
+      return all() || element.isJsonObject();
+    }
+  }
+}
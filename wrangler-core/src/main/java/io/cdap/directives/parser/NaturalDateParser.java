@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.parser;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Parses dates written in natural language with natty, using a fixed format for the values once they are known to
+ * be written in one.
+ *
+ * <p>Natty parsers are expensive to create and to run, each thread reuses its own parser. While the first values are
+ * parsed with natty, they are also parsed with a few common formats that carry a time of day, natty fills the time
+ * of dates without one with the current time. A format that yields the same date as natty for
+ * {@value #DETECTION_MATCHES} values, and never yields another date, is used for the following values. Values that
+ * do not match the format are still parsed with natty.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+final class NaturalDateParser {
+  // Number of values a format must parse to the same date as natty before it is used.
+  static final int DETECTION_MATCHES = 10;
+  // Number of values after which formats are no longer detected.
+  private static final int DETECTION_LIMIT = 100;
+  // Formats natty parses the same way, the date is in the time zone of the parser unless there is an offset.
+  private static final List<DateTimeFormatter> FORMATS = Collections.unmodifiableList(Arrays.asList(
+    strict("uuuu-MM-dd HH:mm:ss"),
+    strict("uuuu-MM-dd'T'HH:mm:ss"),
+    strict("uuuu-MM-dd'T'HH:mm:ssXXX"),
+    strict("uuuu-MM-dd HH:mm:ss XX"),
+    strict("uuuu-MM-dd HH:mm"),
+    strict("uuuu/MM/dd HH:mm:ss"),
+    strict("MM/dd/uuuu HH:mm:ss"),
+    strict("MM/dd/uuuu HH:mm")
+  ));
+
+  private final ZoneId zone;
+  private final ThreadLocal<Parser> parsers;
+  // Format of the values once detected.
+  private volatile DateTimeFormatter format;
+  private volatile boolean detecting = true;
+  // Values each format parsed to the same date as natty, -1 once it parsed one to another date. Guarded by this.
+  private final int[] matches = new int[FORMATS.size()];
+  private int samples;
+
+  NaturalDateParser(TimeZone timezone) {
+    this.zone = timezone.toZoneId();
+    this.parsers = ThreadLocal.withInitial(() -> new Parser(timezone));
+  }
+
+  /**
+   * Parses the dates of a value, grouped the same way as natty groups them.
+   *
+   * @param value to be parsed.
+   * @return groups of dates found in the value, in the time zone of the parser.
+   */
+  List<List<ZonedDateTime>> parse(String value) {
+    DateTimeFormatter detected = format;
+    if (detected != null) {
+      ZonedDateTime date = parse(detected, value);
+      if (date != null) {
+        return Collections.singletonList(Collections.singletonList(date));
+      }
+    }
+
+    List<DateGroup> groups = parsers.get().parse(value);
+    List<List<ZonedDateTime>> result = new ArrayList<>(groups.size());
+    for (DateGroup group : groups) {
+      List<ZonedDateTime> dates = new ArrayList<>(group.getDates().size());
+      for (Date date : group.getDates()) {
+        dates.add(date.toInstant().atZone(zone));
+      }
+      result.add(dates);
+    }
+    if (detecting) {
+      detect(value, result);
+    }
+    return result;
+  }
+
+  /**
+   * @return the detected format of the values, null until one is detected.
+   */
+  DateTimeFormatter getFormat() {
+    return format;
+  }
+
+  private synchronized void detect(String value, List<List<ZonedDateTime>> parsed) {
+    if (!detecting) {
+      return;
+    }
+    ZonedDateTime expected = parsed.size() == 1 && parsed.get(0).size() == 1 ? parsed.get(0).get(0) : null;
+    boolean candidates = false;
+    for (int i = 0; i < matches.length; i++) {
+      if (matches[i] < 0) {
+        continue;
+      }
+      ZonedDateTime date = parse(FORMATS.get(i), value);
+      if (date != null) {
+        matches[i] = date.equals(expected) ? matches[i] + 1 : -1;
+      }
+      if (matches[i] >= DETECTION_MATCHES) {
+        format = FORMATS.get(i);
+        detecting = false;
+        return;
+      }
+      candidates |= matches[i] >= 0;
+    }
+    if (!candidates || ++samples >= DETECTION_LIMIT) {
+      detecting = false;
+    }
+  }
+
+  /**
+   * Parses a value with a format, returns null if the value does not match it.
+   */
+  private ZonedDateTime parse(DateTimeFormatter formatter, String value) {
+    try {
+      TemporalAccessor parsed = formatter.parse(value);
+      Instant instant;
+      if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+        instant = OffsetDateTime.from(parsed).toInstant();
+      } else {
+        // Natty picks the later offset when clocks are set back.
+        instant = ZonedDateTime.ofLocal(LocalDateTime.from(parsed), zone, null).withLaterOffsetAtOverlap().toInstant();
+      }
+      return instant.atZone(zone);
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private static DateTimeFormatter strict(String pattern) {
+    return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
+  }
+}
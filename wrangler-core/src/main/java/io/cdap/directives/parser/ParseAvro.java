@@ -33,11 +33,13 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
 import io.cdap.wrangler.api.lineage.Many;
 import io.cdap.wrangler.api.lineage.Mutation;
+import io.cdap.wrangler.api.parser.Bool;
 import io.cdap.wrangler.api.parser.ColumnName;
 import io.cdap.wrangler.api.parser.Identifier;
 import io.cdap.wrangler.api.parser.Numeric;
@@ -65,12 +67,13 @@ import java.util.concurrent.TimeUnit;
 @Name("parse-as-avro")
 @Categories(categories = { "parser", "avro"})
 @Description("Parses column as AVRO generic record.")
-public class ParseAvro implements Directive, Lineage {
+public class ParseAvro implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-avro";
   private String column;
   private String schemaId;
   private String type;
   private long version;
+  private boolean nativeNested;
   private Decoder<Row> decoder;
   private boolean decoderInitialized = false;
   private SchemaRegistryClient client;
@@ -82,6 +85,7 @@ public class ParseAvro implements Directive, Lineage {
     builder.define("schema-id", TokenType.IDENTIFIER);
     builder.define("encode-type", TokenType.IDENTIFIER);
     builder.define("version", TokenType.NUMERIC, Optional.TRUE);
+    builder.define("keep-nested", TokenType.BOOLEAN, Optional.TRUE);
     return builder.build();
   }
 
@@ -99,6 +103,9 @@ public class ParseAvro implements Directive, Lineage {
     } else {
       this.version = -1;
     }
+    if (args.contains("keep-nested")) {
+      this.nativeNested = ((Bool) args.value("keep-nested")).value();
+    }
   }
 
   @Override
@@ -125,9 +132,9 @@ public class ParseAvro implements Directive, Lineage {
         Schema.Parser parser = new Schema.Parser();
         Schema schema = parser.parse(Bytes.toString(bytes));
         if ("json".equalsIgnoreCase(type)) {
-          return new JsonAvroDecoder(schema);
+          return new JsonAvroDecoder(schema, nativeNested);
         } else if ("binary".equalsIgnoreCase(type)) {
-          return new BinaryAvroDecoder(schema);
+          return new BinaryAvroDecoder(schema, nativeNested);
         }
         return null;
       };
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -52,7 +53,7 @@ import java.util.Map;
 @Name("parse-as-avro-file")
 @Categories(categories = { "parser", "avro"})
 @Description("parse-as-avro-file <column>.")
-public class ParseAvroFile implements Directive, Lineage {
+public class ParseAvroFile implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-avro-file";
   private String column;
   private Gson gson;
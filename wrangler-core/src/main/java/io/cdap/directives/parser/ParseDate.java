@@ -16,8 +16,6 @@
 
 package io.cdap.directives.parser;
 
-import com.joestelmach.natty.DateGroup;
-import com.joestelmach.natty.Parser;
 import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
@@ -28,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -39,7 +38,7 @@ import io.cdap.wrangler.api.parser.TokenType;
 import io.cdap.wrangler.api.parser.UsageDefinition;
 
 import java.time.ZonedDateTime;
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -51,10 +50,13 @@ import java.util.TimeZone;
 @Categories(categories = { "parser", "date"})
 @Description("Parses column values as dates using natural language processing and " +
   "automatically identifying the format (expensive in terms of time consumed).")
-public class ParseDate implements Directive, Lineage {
+public class ParseDate implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-date";
   private String column;
   private TimeZone timezone;
+  private NaturalDateParser parser;
+  // Names of the columns of the dates, by group.
+  private final List<String> names = new ArrayList<>();
 
   @Override
   public UsageDefinition define() {
@@ -72,6 +74,7 @@ public class ParseDate implements Directive, Lineage {
     } else {
       this.timezone = TimeZone.getTimeZone("UTC");
     }
+    this.parser = new NaturalDateParser(timezone);
   }
 
   @Override
@@ -100,15 +103,12 @@ public class ParseDate implements Directive, Lineage {
           continue;
         }
         if (object instanceof String) {
-          Parser parser = new Parser(timezone);
-          List<DateGroup> groups = parser.parse((String) object);
-          int i = 1;
-          for (DateGroup group : groups) {
-            List<Date> dates = group.getDates();
-            for (Date date : dates) {
-              row.add(String.format("%s_%d", column, i), date.toInstant().atZone(timezone.toZoneId()));
+          List<List<ZonedDateTime>> groups = parser.parse((String) object);
+          for (int i = 0; i < groups.size(); i++) {
+            String name = getName(i);
+            for (ZonedDateTime date : groups.get(i)) {
+              row.add(name, date);
             }
-            i++;
           }
         } else {
           throw new ErrorRowException(
@@ -119,4 +119,14 @@ public class ParseDate implements Directive, Lineage {
     }
     return rows;
   }
+
+  /**
+   * Returns the name of the column of the dates of a group.
+   */
+  private synchronized String getName(int group) {
+    while (names.size() <= group) {
+      names.add(String.format("%s_%d", column, names.size() + 1));
+    }
+    return names.get(group);
+  }
 }
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name("parse-as-datetime")
 @Categories(categories = {"parser", "datetime"})
 @Description("Parse a column value as datetime using the given format")
-public class ParseDateTime implements Directive, Lineage {
+public class ParseDateTime implements Directive, Lineage, Parallelizable {
 
   public static final String NAME = "parse-as-datetime";
   private static final String COLUMN = "column";
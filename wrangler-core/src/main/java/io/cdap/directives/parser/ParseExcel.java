@@ -16,11 +16,9 @@
 
 package io.cdap.directives.parser;
 
-import com.google.common.io.Closeables;
 import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
-import io.cdap.functions.Types;
 import io.cdap.wrangler.api.Arguments;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
@@ -29,46 +27,45 @@ import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
 import io.cdap.wrangler.api.Pair;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
 import io.cdap.wrangler.api.lineage.Many;
 import io.cdap.wrangler.api.lineage.Mutation;
 import io.cdap.wrangler.api.parser.ColumnName;
+import io.cdap.wrangler.api.parser.Numeric;
 import io.cdap.wrangler.api.parser.Text;
 import io.cdap.wrangler.api.parser.TokenType;
 import io.cdap.wrangler.api.parser.UsageDefinition;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.poi.hssf.usermodel.HSSFDateUtil;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 /**
  * A step to parse Excel files.
+ *
+ * The sheet is read with a streaming parser, see {@link ExcelSheetReader}, so only the rows of the requested
+ * sheet are held in memory.
  */
 @Plugin(type = Directive.TYPE)
 @Name("parse-as-excel")
 @Categories(categories = { "parser", "excel"})
 @Description("Parses column as Excel file.")
-public class ParseExcel implements Directive, Lineage {
+public class ParseExcel implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-excel";
   private static final Logger LOG = LoggerFactory.getLogger(ParseExcel.class);
   private String column;
   private String sheet;
   private boolean firstRowAsHeader = false;
+  // Maximum number of rows to read from each file, 0 for all.
+  private int limit;
 
   @Override
   public UsageDefinition define() {
@@ -76,6 +73,7 @@ public class ParseExcel implements Directive, Lineage {
     builder.define("column", TokenType.COLUMN_NAME);
     builder.define("sheet", TokenType.TEXT, Optional.TRUE);
     builder.define("first-row-as-header", TokenType.BOOLEAN, Optional.TRUE);
+    builder.define("limit", TokenType.NUMERIC, Optional.TRUE);
     return builder.build();
   }
 
@@ -90,6 +88,13 @@ public class ParseExcel implements Directive, Lineage {
     if (args.contains("first-row-as-header")) {
       this.firstRowAsHeader = ((Boolean) args.value("first-row-as-header").value());
     }
+    if (args.contains("limit")) {
+      this.limit = ((Numeric) args.value("limit")).value().intValue();
+      if (limit < 0) {
+        throw new DirectiveParseException(
+          NAME, String.format("Invalid limit '%d'. The limit must not be negative.", limit));
+      }
+    }
   }
 
   @Override
@@ -101,8 +106,7 @@ public class ParseExcel implements Directive, Lineage {
   public List<Row> execute(List<Row> records, final ExecutorContext context)
     throws DirectiveExecutionException, ErrorRowException {
     List<Row> results = new ArrayList<>();
-    ByteArrayInputStream input = null;
-    DataFormatter formatter = new DataFormatter();
+    ExcelSheetReader reader = new ExcelSheetReader(new DataFormatter());
     try {
       for (Row record : records) {
         int idx = record.find(column);
@@ -121,102 +125,23 @@ public class ParseExcel implements Directive, Lineage {
           }
 
           if (bytes != null) {
-            input = new ByteArrayInputStream(bytes);
-            XSSFWorkbook book = new XSSFWorkbook(input);
-            XSSFSheet excelsheet;
-            if (Types.isInteger(sheet)) {
-              excelsheet = book.getSheetAt(Integer.parseInt(sheet));
-            } else {
-              excelsheet = book.getSheet(sheet);
-            }
-
-            if (excelsheet == null) {
+            int start = results.size();
+            SheetRows rows = new SheetRows(record, results);
+            if (!reader.read(bytes, sheet, rows)) {
               throw new DirectiveExecutionException(
                 NAME, String.format("Failed to extract sheet '%s' from the excel. " +
                                       "Sheet '%s' does not exist.", sheet, sheet));
             }
 
-            Map<Integer, String> columnNames = new TreeMap<>();
-            Iterator<org.apache.poi.ss.usermodel.Row> it = excelsheet.iterator();
-            int rows = 0;
-            while (it.hasNext()) {
-              org.apache.poi.ss.usermodel.Row row = it.next();
-              Iterator<Cell> cellIterator = row.cellIterator();
-              if (checkIfRowIsEmpty(row)) {
-                continue;
-              }
-
-              Row newRow = new Row();
-              newRow.add("fwd", rows);
-
-              while (cellIterator.hasNext()) {
-                Cell cell = cellIterator.next();
-                String name = columnName(cell.getAddress().getColumn());
-                if (firstRowAsHeader && rows > 0) {
-                  String value = columnNames.get(cell.getAddress().getColumn());
-                  if (value != null) {
-                    name = value;
-                  }
-                }
-                String value = "";
-                switch (cell.getCellTypeEnum()) {
-                  case STRING:
-                    value = cell.getStringCellValue();
-                    break;
-
-                  case NUMERIC:
-                    if (HSSFDateUtil.isCellDateFormatted(cell)) {
-                      value = formatter.formatCellValue(cell);
-                    } else {
-                      value = String.valueOf(cell.getNumericCellValue());
-                    }
-                    break;
-
-                  case BOOLEAN:
-                    value = String.valueOf(cell.getBooleanCellValue());
-                    break;
-                }
-                newRow.add(name, value);
-
-                if (rows == 0 && firstRowAsHeader) {
-                  columnNames.put(cell.getAddress().getColumn(), value);
-                }
-              }
-
-              if (firstRowAsHeader && rows == 0) {
-                rows++;
-                continue;
-              }
-
-              // add old columns to the new row
-              for (Pair<String, Object> field : record.getFields()) {
-                String colName = field.getFirst();
-                // if new row does not contain this column and this column is not the blob column that contains
-                // the excel data.
-                if (newRow.getValue(colName) == null && !colName.equals(column)) {
-                  newRow.add(colName, field.getSecond());
-                }
-              }
-              results.add(newRow);
-              rows++;
-            }
-
-            if (firstRowAsHeader) {
-              rows = rows - 1;
-            }
-
-            for (int i = rows - 1; i >= 0; --i) {
-              results.get(rows - i - 1).addOrSetAtIndex(1, "bkd", i); // fwd - 0, bkd - 1.
+            int count = results.size() - start;
+            for (int i = count - 1; i >= 0; --i) {
+              results.get(start + count - i - 1).addOrSetAtIndex(1, "bkd", i); // fwd - 0, bkd - 1.
             }
           }
         }
       }
     } catch (Exception e) {
       throw new ErrorRowException(NAME, e.getMessage(), 1);
-    } finally {
-      if (input != null) {
-        Closeables.closeQuietly(input);
-      }
     }
     return results;
   }
@@ -229,22 +154,6 @@ public class ParseExcel implements Directive, Lineage {
       .build();
   }
 
-  private boolean checkIfRowIsEmpty(org.apache.poi.ss.usermodel.Row row) {
-    if (row == null) {
-      return true;
-    }
-    if (row.getLastCellNum() <= 0) {
-      return true;
-    }
-    for (int cellNum = row.getFirstCellNum(); cellNum < row.getLastCellNum(); cellNum++) {
-      Cell cell = row.getCell(cellNum);
-      if (cell != null && cell.getCellTypeEnum() != CellType.BLANK && StringUtils.isNotBlank(cell.toString())) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   private String columnName(int number) {
     final StringBuilder sb = new StringBuilder();
 
@@ -256,4 +165,60 @@ public class ParseExcel implements Directive, Lineage {
     }
     return sb.reverse().toString();
   }
+
+  /**
+   * Converts the rows of a sheet into {@link Row}s, carrying over the other columns of the record.
+   */
+  private final class SheetRows implements ExcelSheetReader.RowConsumer {
+    private final Row record;
+    private final List<Row> results;
+    private final Map<Integer, String> columnNames = new TreeMap<>();
+    private int rows;
+
+    SheetRows(Row record, List<Row> results) {
+      this.record = record;
+      this.results = results;
+    }
+
+    @Override
+    public boolean accept(List<Integer> columns, List<String> values) {
+      Row newRow = new Row();
+      newRow.add("fwd", rows);
+
+      for (int i = 0; i < columns.size(); i++) {
+        int cell = columns.get(i);
+        String value = values.get(i);
+        String name = columnName(cell);
+        if (firstRowAsHeader && rows > 0) {
+          String header = columnNames.get(cell);
+          if (header != null) {
+            name = header;
+          }
+        }
+        newRow.add(name, value);
+
+        if (rows == 0 && firstRowAsHeader) {
+          columnNames.put(cell, value);
+        }
+      }
+
+      if (firstRowAsHeader && rows == 0) {
+        rows++;
+        return true;
+      }
+
+      // add old columns to the new row
+      for (Pair<String, Object> field : record.getFields()) {
+        String colName = field.getFirst();
+        // if new row does not contain this column and this column is not the blob column that contains
+        // the excel data.
+        if (newRow.getValue(colName) == null && !colName.equals(column)) {
+          newRow.add(colName, field.getSecond());
+        }
+      }
+      results.add(newRow);
+      rows++;
+      return limit == 0 || rows - (firstRowAsHeader ? 1 : 0) < limit;
+    }
+  }
 }
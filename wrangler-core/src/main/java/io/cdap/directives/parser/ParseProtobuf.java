@@ -31,6 +31,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -64,7 +65,7 @@ import java.util.concurrent.TimeUnit;
 @Name("parse-as-protobuf")
 @Categories(categories = { "parser", "protobuf"})
 @Description("Parses column as protobuf encoded memory representations.")
-public class ParseProtobuf implements Directive, Lineage {
+public class ParseProtobuf implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-protobuf";
   private static final Logger LOG = LoggerFactory.getLogger(ParseProtobuf.class);
   private String column;
@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -51,10 +52,13 @@ import java.util.TimeZone;
 @Name("parse-as-simple-date")
 @Categories(categories = {"parser", "date"})
 @Description("Parses a column as date using format.")
-public class ParseSimpleDate implements Directive, Lineage {
+public class ParseSimpleDate implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-as-simple-date";
+  private static final ZoneId UTC = ZoneId.ofOffset("UTC", ZoneOffset.UTC);
   private String column;
-  private SimpleDateFormat formatter;
+  private String format;
+  // SimpleDateFormat is not thread safe, each thread parses with its own copy.
+  private ThreadLocal<SimpleDateFormat> formatters;
 
   @Override
   public UsageDefinition define() {
@@ -67,12 +71,13 @@ public class ParseSimpleDate implements Directive, Lineage {
   @Override
   public void initialize(Arguments args) throws DirectiveParseException {
     this.column = ((ColumnName) args.value("column")).value();
-    String format = ((Text) args.value("format")).value();
-    this.formatter = new SimpleDateFormat(format);
+    this.format = ((Text) args.value("format")).value();
+    SimpleDateFormat formatter = new SimpleDateFormat(format);
     // CDAP-19615 Use pure Gregorian Calendar to avoid Julian date precision loss
     GregorianCalendar gc = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
     gc.setGregorianChange(new Date(Long.MIN_VALUE));
     formatter.setCalendar(gc);
+    this.formatters = ThreadLocal.withInitial(() -> (SimpleDateFormat) formatter.clone());
   }
 
   @Override
@@ -98,13 +103,12 @@ public class ParseSimpleDate implements Directive, Lineage {
             // ZonedDateTime requires presence of Zone and Time components in the pattern and object to be parsed.
             // For example if the pattern is yyyy-mm-dd, ZonedDateTime object can not be created and the call to
             // ZonedDateTime.parse("2018-12-21", formatter) will throw DateTimeParseException
-            Date date = formatter.parse(object.toString());
-            ZonedDateTime zonedDateTime = ZonedDateTime.from(date.toInstant()
-                                                               .atZone(ZoneId.ofOffset("UTC", ZoneOffset.UTC)));
+            Date date = formatters.get().parse(object.toString());
+            ZonedDateTime zonedDateTime = ZonedDateTime.from(date.toInstant().atZone(UTC));
             row.setValue(idx, zonedDateTime);
           } catch (ParseException e) {
             throw new ErrorRowException(
-              NAME, String.format("Failed to parse '%s' with pattern '%s'", object, formatter.toPattern()), 1);
+              NAME, String.format("Failed to parse '%s' with pattern '%s'", object, format), 1);
           }
         } else {
           throw new ErrorRowException(
@@ -119,7 +123,7 @@ public class ParseSimpleDate implements Directive, Lineage {
   @Override
   public Mutation lineage() {
     return Mutation.builder()
-      .readable("Parsed column '%s' as date using user specified format '%s'", column, formatter.toPattern())
+      .readable("Parsed column '%s' as date using user specified format '%s'", column, format)
       .relation(column, column)
       .build();
   }
@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -51,7 +52,7 @@ import java.util.concurrent.TimeUnit;
 @Name("parse-timestamp")
 @Categories(categories = {"parser", "date"})
 @Description("Parses column values representing unix timestamp as date.")
-public class ParseTimestamp implements Directive, Lineage {
+public class ParseTimestamp implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-timestamp";
   private static final Set<TimeUnit> SUPPORTED_TIME_UNITS = EnumSet.of(TimeUnit.SECONDS, TimeUnit.MILLISECONDS,
                                                                        TimeUnit.MICROSECONDS);
@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.EntityCountMetric;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -37,6 +38,7 @@ import io.cdap.wrangler.expression.EL;
 import io.cdap.wrangler.expression.ELContext;
 import io.cdap.wrangler.expression.ELException;
 import io.cdap.wrangler.expression.ELResult;
+import io.cdap.wrangler.expression.ReusableELContext;
 
 import java.util.List;
 
@@ -49,10 +51,11 @@ import static io.cdap.wrangler.metrics.JexlCategoryMetricUtils.getJexlCategoryMe
 @Name(Fail.NAME)
 @Categories(categories = { "row", "data-quality"})
 @Description("Fails when the condition is evaluated to true.")
-public class Fail implements Directive, Lineage {
+public class Fail implements Directive, Lineage, Parallelizable {
   public static final String NAME = "fail";
   private String condition;
   private EL el;
+  private ReusableELContext elContext;
 
   @Override
   public UsageDefinition define() {
@@ -71,6 +74,7 @@ public class Fail implements Directive, Lineage {
     condition = expression.value();
     try {
       el = EL.compile(condition);
+      elContext = new ReusableELContext(el);
     } catch (ELException e) {
       throw new DirectiveParseException(NAME, e.getMessage(), e);
     }
@@ -85,8 +89,8 @@ public class Fail implements Directive, Lineage {
   public List<Row> execute(List<Row> rows, ExecutorContext context)
     throws DirectiveExecutionException {
     for (Row row : rows) {
-      // Move the fields from the row into the context.
-      ELContext ctx = new ELContext(context, el, row);
+      // Bind the row to the reusable context.
+      ELContext ctx = elContext.reset(context, row);
 
       // Execution of the script / expression based on the row data
       // mapped into context.
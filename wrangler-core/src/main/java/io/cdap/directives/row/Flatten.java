@@ -27,6 +27,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -47,7 +48,7 @@ import java.util.List;
 @Name(Flatten.NAME)
 @Categories(categories = { "row"})
 @Description("Separates array elements of one or more columns into individual records, copying the other columns.")
-public class Flatten implements Directive, Lineage {
+public class Flatten implements Directive, Lineage, Parallelizable {
   public static final String NAME = "flatten";
   // Column within the input row that needs to be parsed as Json
   private String[] columns;
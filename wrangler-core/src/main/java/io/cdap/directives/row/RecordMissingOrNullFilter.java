@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -43,7 +44,7 @@ import java.util.List;
 @Name(RecordMissingOrNullFilter.NAME)
 @Categories(categories = { "row", "data-quality"})
 @Description("Filters row that have empty or null columns.")
-public class RecordMissingOrNullFilter implements Directive, Lineage {
+public class RecordMissingOrNullFilter implements Directive, Lineage, Parallelizable {
   public static final String NAME = "filter-empty-or-null";
   private String[] columns;
 
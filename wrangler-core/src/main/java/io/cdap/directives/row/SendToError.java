@@ -28,6 +28,7 @@ import io.cdap.wrangler.api.EntityCountMetric;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -41,6 +42,7 @@ import io.cdap.wrangler.expression.EL;
 import io.cdap.wrangler.expression.ELContext;
 import io.cdap.wrangler.expression.ELException;
 import io.cdap.wrangler.expression.ELResult;
+import io.cdap.wrangler.expression.ReusableELContext;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,9 +62,10 @@ import static io.cdap.wrangler.metrics.JexlCategoryMetricUtils.getJexlCategoryMe
 @Name(SendToError.NAME)
 @Categories(categories = { "row", "data-quality"})
 @Description("Send records that match condition to the error collector.")
-public class SendToError implements Directive, Lineage {
+public class SendToError implements Directive, Lineage, Parallelizable {
   public static final String NAME = "send-to-error";
   private EL el;
+  private ReusableELContext elContext;
   private String condition;
   private String metric = null;
   private String message = null;
@@ -81,6 +84,7 @@ public class SendToError implements Directive, Lineage {
     condition = ((Expression) args.value("condition")).value();
     try {
       el = EL.compile(condition);
+      elContext = new ReusableELContext(el);
     } catch (ELException e) {
       throw new DirectiveParseException(
         NAME, String.format(" Invalid condition '%s'.", condition)
@@ -104,15 +108,8 @@ public class SendToError implements Directive, Lineage {
     throws DirectiveExecutionException, ErrorRowException {
     List<Row> results = new ArrayList<>();
     for (Row row : rows) {
-      // Move the fields from the row into the context.
-      ELContext ctx = new ELContext(context, el, row);
-
-      // Transient variables are added.
-      if (context != null) {
-        for (String variable : context.getTransientStore().getVariables()) {
-          ctx.set(variable, context.getTransientStore().get(variable));
-        }
-      }
+      // Bind the row to the reusable context.
+      ELContext ctx = elContext.reset(context, row);
 
       // Execution of the script / expression based on the row data
       // mapped into context.
@@ -27,6 +27,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.EntityCountMetric;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.ReportErrorAndProceed;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.TransientVariableScope;
@@ -42,6 +43,7 @@ import io.cdap.wrangler.expression.EL;
 import io.cdap.wrangler.expression.ELContext;
 import io.cdap.wrangler.expression.ELException;
 import io.cdap.wrangler.expression.ELResult;
+import io.cdap.wrangler.expression.ReusableELContext;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,9 +63,10 @@ import static io.cdap.wrangler.metrics.JexlCategoryMetricUtils.getJexlCategoryMe
 @Name(SendToErrorAndContinue.NAME)
 @Categories(categories = { "row", "data-quality"})
 @Description("Send records that match condition to the error collector and continues processing.")
-public class SendToErrorAndContinue implements Directive, Lineage {
+public class SendToErrorAndContinue implements Directive, Lineage, Parallelizable {
   public static final String NAME = "send-to-error-and-continue";
   private EL el;
+  private ReusableELContext elContext;
   private String condition;
   private String metric = null;
   private String message = null;
@@ -82,6 +85,7 @@ public class SendToErrorAndContinue implements Directive, Lineage {
     condition = ((Expression) args.value("condition")).value();
     try {
       el = EL.compile(condition);
+      elContext = new ReusableELContext(el);
     } catch (ELException e) {
       throw new DirectiveParseException(
         NAME, String.format("Invalid condition '%s'.", condition), e);
@@ -107,8 +111,8 @@ public class SendToErrorAndContinue implements Directive, Lineage {
     }
     List<Row> results = new ArrayList<>();
     for (Row row : rows) {
-      // Move the fields from the row into the context.
-      ELContext ctx = new ELContext(context, el, row);
+      // Bind the row to the reusable context.
+      ELContext ctx = elContext.reset(context, row);
 
       // Execution of the script / expression based on the row data
       // mapped into context.
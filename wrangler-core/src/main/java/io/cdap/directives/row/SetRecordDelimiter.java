@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -46,7 +47,7 @@ import java.util.List;
 @Name(SetRecordDelimiter.NAME)
 @Categories(categories = { "row" })
 @Description("Sets the record delimiter.")
-public class SetRecordDelimiter implements Directive, Lineage {
+public class SetRecordDelimiter implements Directive, Lineage, Parallelizable {
   public static final String NAME = "set-record-delim";
   private String column;
   private String delimiter;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name(SplitToRows.NAME)
 @Categories(categories = { "row"})
 @Description("Splits a column into multiple rows, copies the rest of the columns.")
-public class SplitToRows implements Directive, Lineage {
+public class SplitToRows implements Directive, Lineage, Parallelizable {
   public static final String NAME = "split-to-rows";
   // Column on which to apply mask.
   private String column;
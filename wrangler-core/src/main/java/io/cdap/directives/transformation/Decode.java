@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +49,7 @@ import java.util.Locale;
 @Name(Decode.NAME)
 @Categories(categories = { "transform"})
 @Description("Decodes column values using one of base32, base64, or hex.")
-public class Decode implements Directive, Lineage {
+public class Decode implements Directive, Lineage, Parallelizable {
   public static final String NAME = "decode";
   private final Base64 base64Encode = new Base64();
   private final Base32 base32Encode = new Base32();
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -45,7 +46,7 @@ import java.util.regex.Pattern;
 @Name(ExtractRegexGroups.NAME)
 @Categories(categories = { "transform"})
 @Description("Extracts data from a regex group into its own column.")
-public class ExtractRegexGroups implements Directive, Lineage {
+public class ExtractRegexGroups implements Directive, Lineage, Parallelizable {
   public static final String NAME = "extract-regex-groups";
   private String column;
   private String regex;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -45,11 +46,12 @@ import java.util.List;
 @Name(FindAndReplace.NAME)
 @Categories(categories = { "transform"})
 @Description("Finds and replaces text in column values using a sed-format expression.")
-public class FindAndReplace implements Directive, Lineage {
+public class FindAndReplace implements Directive, Lineage, Parallelizable {
   public static final String NAME = "find-and-replace";
   private String pattern;
   private List<String> columns;
-
+  // Null if the pattern uses sed features that only Unix4j supports.
+  private SedSubstitution substitution;
 
   @Override
   public UsageDefinition define() {
@@ -63,6 +65,7 @@ public class FindAndReplace implements Directive, Lineage {
   public void initialize(Arguments args) throws DirectiveParseException {
     this.columns = ((ColumnNameList) args.value("column")).value();
     this.pattern = ((Text) args.value("pattern")).value();
+    this.substitution = SedSubstitution.compile(pattern);
   }
 
   @Override
@@ -82,9 +85,13 @@ public class FindAndReplace implements Directive, Lineage {
           try {
             if (v instanceof String) {
               String value = (String) v; // Safely converts to String.
-              Unix4jCommandBuilder builder = Unix4j.echo(value).sed(pattern);
-              if (builder.toExitValue() == 0) {
-                row.setValue(idx, builder.toStringResult());
+              if (substitution != null) {
+                row.setValue(idx, substitution.apply(value));
+              } else {
+                Unix4jCommandBuilder builder = Unix4j.echo(value).sed(pattern);
+                if (builder.toExitValue() == 0) {
+                  row.setValue(idx, builder.toStringResult());
+                }
               }
             }
           } catch (Exception e) {
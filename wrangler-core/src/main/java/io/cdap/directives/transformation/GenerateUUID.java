@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -43,7 +44,7 @@ import java.util.UUID;
 @Name(GenerateUUID.NAME)
 @Categories(categories = { "transform", "uuid"})
 @Description("Populates a column with a universally unique identifier (UUID) of the record.")
-public class GenerateUUID implements Directive, Lineage {
+public class GenerateUUID implements Directive, Lineage, Parallelizable {
   public static final String NAME = "generate-uuid";
   private String column;
   private Random random;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.parser.ColumnName;
@@ -42,7 +43,7 @@ import java.util.List;
 @Categories(categories = { "transform"})
 @Description("[DEPRECATED] Use the 'split-to-columns' or 'parse-as-fixed-length' directives instead.")
 @Deprecated
-public class IndexSplit implements Directive {
+public class IndexSplit implements Directive, Parallelizable {
   public static final String NAME = "indexsplit";
   // Name of the column to be split
   private String col;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -41,7 +42,7 @@ import java.util.List;
 @Name(LeftTrim.NAME)
 @Categories(categories = { "transform"})
 @Description("Trimming whitespace from left side of a string.")
-public class LeftTrim implements Directive, Lineage {
+public class LeftTrim implements Directive, Lineage, Parallelizable {
   public static final String NAME = "ltrim";
   // Columns of the column to be upper-cased
   private String col;
@@ -20,11 +20,14 @@ import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
 import io.cdap.wrangler.api.lineage.Mutation;
@@ -41,7 +44,7 @@ import java.util.List;
 @Name(Lower.NAME)
 @Categories(categories = { "transform"})
 @Description("Changes the column values to lowercase.")
-public class Lower implements Directive, Lineage {
+public class Lower implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "lowercase";
   // Columns of the column to be lower cased.
   private String column;
@@ -80,6 +83,21 @@ public class Lower implements Directive, Lineage {
     return rows;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    int idx = batch.find(column);
+    // Only columns stored as objects can hold strings.
+    if (idx != -1 && batch.getType(idx) == Object.class) {
+      for (int i = 0; i < batch.size(); i++) {
+        Object object = batch.getValue(i, idx);
+        if (object instanceof String) {
+          batch.setValue(i, idx, ((String) object).toLowerCase());
+        }
+      }
+    }
+    return batch;
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -62,7 +63,7 @@ import java.util.List;
 @Name(MaskNumber.NAME)
 @Categories(categories = { "transform"})
 @Description("Masks a column value using the specified masking pattern.")
-public class MaskNumber implements Directive, Lineage {
+public class MaskNumber implements Directive, Lineage, Parallelizable {
   public static final String NAME = "mask-number";
   // Specifies types of mask
   public static final int MASK_NUMBER = 1;
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -54,7 +55,7 @@ import java.util.Random;
 @Name(MaskShuffle.NAME)
 @Categories(categories = { "transform"})
 @Description("Masks a column value by shuffling characters while maintaining the same length.")
-public class MaskShuffle implements Directive, Lineage {
+public class MaskShuffle implements Directive, Lineage, Parallelizable {
   public static final String NAME = "mask-shuffle";
   // Column on which to apply mask.
   private String column;
@@ -28,6 +28,7 @@ import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.EntityCountMetric;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -51,7 +52,7 @@ import java.util.Set;
 @Name(MessageHash.NAME)
 @Categories(categories = { "transform", "hash"})
 @Description("Creates a message digest for the column using algorithm, replacing the column value.")
-public class MessageHash implements Directive, Lineage {
+public class MessageHash implements Directive, Lineage, Parallelizable {
   public static final String NAME = "hash";
   private static final Set<String> algorithms = ImmutableSet.of(
     "BLAKE2B-160",
@@ -23,11 +23,14 @@ import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.Triplet;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +51,7 @@ import java.util.List;
 @Name(Quantization.NAME)
 @Categories(categories = { "transform"})
 @Description("Quanitize the range of numbers into label values.")
-public class Quantization implements Directive, Lineage {
+public class Quantization implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "quantize";
   private final RangeMap<Double, String> rangeMap = TreeRangeMap.create();
   private String col1;
@@ -128,6 +131,55 @@ public class Quantization implements Directive, Lineage {
     return results;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    int idx = batch.find(col1);
+    if (idx == -1) {
+      throw new DirectiveExecutionException(NAME, "Column '" + col1 + "' does not exist.");
+    }
+
+    Class<?> type = batch.getType(idx);
+    Object[] values = new Object[batch.size()];
+    for (int i = 0; i < values.length; i++) {
+      if (batch.isNull(i, idx)) {
+        throw new DirectiveExecutionException(
+          NAME, String.format("Column '%s' has null value. It should be a non-null 'String', " +
+                                "'Float' or 'Double'.", col1));
+      }
+      // Floating point columns are read without boxing the values.
+      double d = type == Double.class || type == Float.class ?
+        batch.getDouble(i, idx) : toDouble(batch.getValue(i, idx));
+      values[i] = rangeMap.get(d);
+    }
+
+    int destIdx = batch.find(col2);
+    if (destIdx == -1) {
+      batch.add(col2, values);
+    } else {
+      batch.setValues(destIdx, values);
+    }
+    return batch;
+  }
+
+  private double toDouble(Object object) throws DirectiveExecutionException {
+    try {
+      if (object instanceof String) {
+        return Double.parseDouble((String) object);
+      } else if (object instanceof Double) {
+        return (Double) object;
+      } else if (object instanceof Float) {
+        return ((Float) object).doubleValue();
+      }
+    } catch (NumberFormatException e) {
+      throw new DirectiveExecutionException(
+        NAME, String.format("Column '%s' has invalid type. It should be of type 'String', " +
+                              "'Float' or 'Double'.", col1), e);
+    }
+    throw new DirectiveExecutionException(
+      NAME, String.format("Column '%s' has invalid type '%s'. It should be of type 'String', " +
+                            "'Float' or 'Double'.", col1, object.getClass().getSimpleName()));
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.transformation;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.Nullable;
+
+/**
+ * A sed substitute command (<code>s/regex/replacement/flags</code>) compiled into a {@link Pattern}.
+ *
+ * <p>The script is split the same way Unix4j splits it and the substitution is applied with the same
+ * {@link Matcher} calls, so the results are identical to running the script through Unix4j. Supported flags
+ * are <code>g</code>, <code>I</code> or <code>i</code> and a numbered occurrence, e.g. <code>s/a/b/2g</code>.
+ * Other scripts are not compiled, see {@link #compile(String)}.</p>
+ *
+ * <p>Instances reuse their matcher and buffer and are not thread safe.</p>
+ */
+final class SedSubstitution {
+  private final Matcher matcher;
+  private final String replacement;
+  private final int occurrence;
+  private final boolean global;
+  private final StringBuffer buffer = new StringBuffer();
+
+  private SedSubstitution(Pattern pattern, String replacement, int occurrence, boolean global) {
+    this.matcher = pattern.matcher("");
+    this.replacement = replacement;
+    this.occurrence = occurrence;
+    this.global = global;
+  }
+
+  /**
+   * Compiles a sed script.
+   *
+   * @param script the sed script.
+   * @return the compiled substitution, or <code>null</code> if the script is not a valid substitute command
+   * with supported flags.
+   */
+  @Nullable
+  static SedSubstitution compile(String script) {
+    int start = 0;
+    while (start < script.length() && Character.isWhitespace(script.charAt(start))) {
+      start++;
+    }
+    if (start + 1 >= script.length() || script.charAt(start) != 's') {
+      return null;
+    }
+    int first = start + 1;
+    int second = nextDelimiter(script, first);
+    int third = second < 0 ? -1 : nextDelimiter(script, second);
+    if (third < 0) {
+      return null;
+    }
+
+    int end = third + 1;
+    while (end < script.length() && !Character.isWhitespace(script.charAt(end))) {
+      end++;
+    }
+    for (int i = end; i < script.length(); i++) {
+      if (!Character.isWhitespace(script.charAt(i))) {
+        return null;
+      }
+    }
+
+    // Like Unix4j, letter flags are read from the end and what remains must be the occurrence.
+    boolean global = false;
+    boolean ignoreCase = false;
+    int flags = end - 1;
+    for (; flags > third; flags--) {
+      char flag = script.charAt(flags);
+      if (flag == 'g') {
+        global = true;
+      } else if (flag == 'I' || flag == 'i') {
+        ignoreCase = true;
+      } else {
+        break;
+      }
+    }
+    int occurrence = 0;
+    for (int i = third + 1; i <= flags; i++) {
+      char digit = script.charAt(i);
+      if (digit < '0' || digit > '9' || occurrence > (Integer.MAX_VALUE - 9) / 10) {
+        return null;
+      }
+      occurrence = occurrence * 10 + digit - '0';
+    }
+    if (flags > third && occurrence == 0) {
+      return null;
+    }
+
+    try {
+      Pattern pattern = Pattern.compile(script.substring(first + 1, second), ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
+      return new SedSubstitution(pattern, script.substring(second + 1, third), occurrence, global);
+    } catch (PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Applies the substitution to a value.
+   *
+   * @param value the value, which like in Unix4j is a single line even if it contains line breaks.
+   * @return the value after the substitution.
+   * @throws IllegalArgumentException or {@link IndexOutOfBoundsException} if the replacement is invalid
+   * for the match.
+   */
+  String apply(String value) {
+    matcher.reset(value);
+    boolean found = matcher.find();
+    if (!found) {
+      return value;
+    }
+    buffer.setLength(0);
+    if (occurrence > 0) {
+      for (int i = 1; found && i < occurrence; i++) {
+        found = matcher.find();
+      }
+      if (!found) {
+        return value;
+      }
+    }
+    do {
+      matcher.appendReplacement(buffer, replacement);
+    } while (global && matcher.find());
+    matcher.appendTail(buffer);
+    return buffer.toString();
+  }
+
+  private static int nextDelimiter(String script, int index) {
+    char delimiter = script.charAt(index);
+    if (delimiter == '\\') {
+      return -1;
+    }
+    int next = script.indexOf(delimiter, index + 1);
+    while (next >= 0 && isEscaped(script, next)) {
+      next = script.indexOf(delimiter, next + 1);
+    }
+    return next;
+  }
+
+  private static boolean isEscaped(String script, int index) {
+    int backslashes = 0;
+    for (int i = index - 1; i >= 0 && script.charAt(i) == '\\'; i--) {
+      backslashes++;
+    }
+    return backslashes % 2 == 1;
+  }
+}
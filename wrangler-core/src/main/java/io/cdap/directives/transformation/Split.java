@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.parser.ColumnName;
@@ -43,7 +44,7 @@ import java.util.List;
 @Categories(categories = { "readable"})
 @Description("Use 'split-to-columns' or 'split-to-rows'.")
 @Deprecated
-public class Split implements Directive {
+public class Split implements Directive, Parallelizable {
   public static final String NAME = "split";
   // Name of the column to be split
   private String col;
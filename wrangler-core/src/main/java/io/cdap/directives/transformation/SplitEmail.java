@@ -25,6 +25,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Pair;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -43,7 +44,7 @@ import java.util.List;
 @Name(SplitEmail.NAME)
 @Categories(categories = { "transform", "email"})
 @Description("Split a email into account and domain.")
-public class SplitEmail implements Directive, Lineage {
+public class SplitEmail implements Directive, Lineage, Parallelizable {
   public static final String NAME = "split-email";
   private String column;
   private String generatedAccountCol;
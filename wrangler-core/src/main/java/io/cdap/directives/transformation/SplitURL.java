@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -44,7 +45,7 @@ import java.util.List;
 @Name(SplitURL.NAME)
 @Categories(categories = { "transform", "url"})
 @Description("Split a url into it's components host,protocol,port,etc.")
-public class SplitURL implements Directive, Lineage {
+public class SplitURL implements Directive, Lineage, Parallelizable {
   public static final String NAME = "split-url";
   private String column;
   private String protocolCol;
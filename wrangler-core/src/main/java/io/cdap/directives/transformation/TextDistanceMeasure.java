@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -45,7 +46,7 @@ import java.util.List;
 @Name(TextDistanceMeasure.NAME)
 @Categories(categories = { "transform"})
 @Description("Calculates a text distance measure between two columns containing string.")
-public class TextDistanceMeasure implements Directive, Lineage {
+public class TextDistanceMeasure implements Directive, Lineage, Parallelizable {
   public static final String NAME = "text-distance";
   private String column1;
   private String column2;
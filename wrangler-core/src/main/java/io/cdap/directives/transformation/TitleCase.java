@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -42,7 +43,7 @@ import java.util.List;
 @Name(TitleCase.NAME)
 @Categories(categories = { "transform"})
 @Description("Changes the column values to title case.")
-public class TitleCase implements Directive, Lineage {
+public class TitleCase implements Directive, Lineage, Parallelizable {
   public static final String NAME = "titlecase";
   private String column;
 
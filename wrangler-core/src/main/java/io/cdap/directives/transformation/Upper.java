@@ -20,11 +20,14 @@ import io.cdap.cdap.api.annotation.Description;
 import io.cdap.cdap.api.annotation.Name;
 import io.cdap.cdap.api.annotation.Plugin;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
 import io.cdap.wrangler.api.lineage.Mutation;
@@ -41,7 +44,7 @@ import java.util.List;
 @Name(Upper.NAME)
 @Categories(categories = { "transform"})
 @Description("Changes the column values to uppercase.")
-public class Upper implements Directive, Lineage {
+public class Upper implements Directive, Columnar, Lineage, Parallelizable {
   public static final String NAME = "uppercase";
   // Columns of the column to be upper-cased
   private String column;
@@ -80,6 +83,21 @@ public class Upper implements Directive, Lineage {
     return rows;
   }
 
+  @Override
+  public RowBatch execute(RowBatch batch, ExecutorContext context) throws DirectiveExecutionException {
+    int idx = batch.find(column);
+    // Only columns stored as objects can hold strings.
+    if (idx != -1 && batch.getType(idx) == Object.class) {
+      for (int i = 0; i < batch.size(); i++) {
+        Object object = batch.getValue(i, idx);
+        if (object instanceof String) {
+          batch.setValue(i, idx, ((String) object).toUpperCase());
+        }
+      }
+    }
+    return batch;
+  }
+
   @Override
   public Mutation lineage() {
     return Mutation.builder()
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -43,7 +44,7 @@ import java.util.List;
 @Name(UrlDecode.NAME)
 @Categories(categories = { "transform"})
 @Description("URL decode a column value.")
-public class UrlDecode implements Directive, Lineage {
+public class UrlDecode implements Directive, Lineage, Parallelizable {
   public static final String NAME = "url-decode";
   private String column;
 
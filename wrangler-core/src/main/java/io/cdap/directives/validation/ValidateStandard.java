@@ -29,6 +29,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRowException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.ReportErrorAndProceed;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
@@ -58,7 +59,7 @@ import java.util.stream.Collectors;
 @Name(ValidateStandard.NAME)
 @Categories(categories = {"data-quality"})
 @Description("Checks a column against a standard schema")
-public class ValidateStandard implements Directive {
+public class ValidateStandard implements Directive, Parallelizable {
 
   public static final String NAME = "validate-standard";
   static final String SCHEMAS_RESOURCE_PATH = "schemas/";
@@ -24,6 +24,7 @@ import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -49,7 +50,7 @@ import java.util.List;
 @Name("write-as-csv")
 @Categories(categories = { "writer", "csv"})
 @Description("Writes the records files as well-formatted CSV")
-public class WriteAsCSV implements Directive, Lineage {
+public class WriteAsCSV implements Directive, Lineage, Parallelizable {
   public static final String NAME = "write-as-csv";
   private String column;
 
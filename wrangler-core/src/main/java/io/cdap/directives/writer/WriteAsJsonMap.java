@@ -26,6 +26,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Pair;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -46,7 +47,7 @@ import java.util.Map;
 @Name("write-as-json-map")
 @Categories(categories = { "writer", "json"})
 @Description("Writes all record columns as JSON map.")
-public class WriteAsJsonMap implements Directive, Lineage {
+public class WriteAsJsonMap implements Directive, Lineage, Parallelizable {
   public static final String NAME = "write-as-json-map";
   private String column;
   private Gson gson;
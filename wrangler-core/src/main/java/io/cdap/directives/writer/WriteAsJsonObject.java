@@ -29,6 +29,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -48,7 +49,7 @@ import java.util.List;
 @Name("write-as-json-object")
 @Categories(categories = { "writer", "json"})
 @Description("Creates a JSON object based on source columns specified. JSON object is written into dest-column.")
-public class WriteAsJsonObject implements Directive, Lineage {
+public class WriteAsJsonObject implements Directive, Lineage, Parallelizable {
   public static final String NAME = "write-as-json-object";
   private String column;
   private List<String> columns;
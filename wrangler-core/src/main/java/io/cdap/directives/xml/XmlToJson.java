@@ -29,6 +29,7 @@ import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.Optional;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.annotations.Categories;
 import io.cdap.wrangler.api.lineage.Lineage;
@@ -51,7 +52,7 @@ import java.util.List;
 @Name("parse-xml-to-json")
 @Categories(categories = { "xml"})
 @Description("Parses a XML document to JSON representation.")
-public class XmlToJson implements Directive, Lineage {
+public class XmlToJson implements Directive, Lineage, Parallelizable {
   public static final String NAME = "parse-xml-to-json";
   public static final String ARG_KEEP_STRING = "keep-string";
   // Column within the input row that needs to be parsed as Json
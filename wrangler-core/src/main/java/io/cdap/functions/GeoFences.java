@@ -17,29 +17,47 @@
 package io.cdap.functions;
 
 import com.github.filosganga.geogson.gson.GeometryAdapterFactory;
-import com.github.filosganga.geogson.model.Coordinates;
 import com.github.filosganga.geogson.model.Feature;
 import com.github.filosganga.geogson.model.FeatureCollection;
 import com.github.filosganga.geogson.model.Polygon;
 import com.github.filosganga.geogson.model.positions.SinglePosition;
-import com.google.common.collect.Lists;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * GeoFencing check based on location and polygon
+ *
+ * <p>Fences are parsed once per GeoJSON string and cached, since the fence is usually a constant of the
+ * expression. Each polygon keeps its bounding box, and collections with many polygons are indexed on a grid,
+ * so that only the polygons whose bounding box holds the location are checked.</p>
  */
 public final class GeoFences {
   private GeoFences() {
   }
 
+  private static final int MAX_FENCES = 128;
+  // Collections with more polygons than this are indexed on a grid.
+  private static final int MIN_INDEXED_POLYGONS = 8;
+  private static final int MAX_GRID_SIZE = 64;
+
   private static final Gson GSON = new GsonBuilder()
       .registerTypeAdapterFactory(new GeometryAdapterFactory())
       .create();
 
+  private static final Cache<String, Fence> FENCES = CacheBuilder.newBuilder()
+      .maximumSize(MAX_FENCES)
+      .build();
+
+  // Fence used last, expressions almost always pass the same string instance for every row.
+  private static volatile Fence last;
+
   /**
    * Static method to be used with jexl
    * Checks if Point is inside any of the given polygonal geofences based on the winding number algorithm.
@@ -69,53 +87,221 @@ public final class GeoFences {
     if (latitude == null || longitude == null || geofences == null) {
       return false;
     }
+    return fence(geofences).contains(latitude, longitude);
+  }
+
+  /**
+   * @return the parsed fence of the GeoJSON string, from the cache when it was parsed before.
+   */
+  @VisibleForTesting
+  static Fence fence(String geofences) {
+    Fence fence = last;
+    if (fence != null && fence.geofences == geofences) {
+      return fence;
+    }
+    fence = FENCES.getIfPresent(geofences);
+    if (fence == null) {
+      fence = new Fence(geofences, parse(geofences));
+      FENCES.put(geofences, fence);
+    }
+    last = fence;
+    return fence;
+  }
 
-    Coordinates location = Coordinates.of(longitude, latitude);
-    boolean inzone = false;
-    FeatureCollection featureCollection;
+  private static FeatureCollection parse(String geofences) {
     try {
-      featureCollection = GSON.fromJson(geofences, FeatureCollection.class);
+      return GSON.fromJson(geofences, FeatureCollection.class);
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(String.format("String %s is not a valid geoJson representation of fence",
                                                        geofences), e);
     } catch (JsonSyntaxException e) {
       throw new IllegalArgumentException(String.format("String %s is not a valid Json string", geofences), e);
     }
-    for (Feature feature : featureCollection.features()) {
-      inzone = inzone || isPointInside(feature, location);
-    }
-    return inzone;
   }
 
-  private static Boolean isPointInside(Feature feature, Coordinates location) {
-    Polygon polygon = (Polygon) feature.geometry();
-    List<SinglePosition> positions = Lists.newArrayList(polygon.perimeter().positions().children());
+  /**
+   * Polygons of a feature collection, with a grid over their bounding boxes when there are many of them.
+   */
+  @VisibleForTesting
+  static final class Fence {
+    private final String geofences;
+    private final Zone[] zones;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+    // Zones whose bounding box overlaps each cell of the grid, null when the zones are not indexed.
+    private final Zone[][] cells;
+    private final int rows;
+    private final int cols;
+
+    Fence(String geofences, FeatureCollection featureCollection) {
+      this.geofences = geofences;
+      List<Zone> zones = new ArrayList<>();
+      for (Feature feature : featureCollection.features()) {
+        zones.add(new Zone((Polygon) feature.geometry()));
+      }
+      this.zones = zones.toArray(new Zone[0]);
+
+      double minLat = Double.POSITIVE_INFINITY;
+      double maxLat = Double.NEGATIVE_INFINITY;
+      double minLon = Double.POSITIVE_INFINITY;
+      double maxLon = Double.NEGATIVE_INFINITY;
+      for (Zone zone : this.zones) {
+        minLat = Math.min(minLat, zone.minLat);
+        maxLat = Math.max(maxLat, zone.maxLat);
+        minLon = Math.min(minLon, zone.minLon);
+        maxLon = Math.max(maxLon, zone.maxLon);
+      }
+      this.minLat = minLat;
+      this.maxLat = maxLat;
+      this.minLon = minLon;
+      this.maxLon = maxLon;
+
+      if (this.zones.length <= MIN_INDEXED_POLYGONS) {
+        this.cells = null;
+        this.rows = 0;
+        this.cols = 0;
+        return;
+      }
+      int size = Math.min(MAX_GRID_SIZE, (int) Math.ceil(Math.sqrt(this.zones.length)));
+      this.rows = maxLat > minLat ? size : 1;
+      this.cols = maxLon > minLon ? size : 1;
+      List<List<Zone>> grid = new ArrayList<>(rows * cols);
+      for (int i = 0; i < rows * cols; i++) {
+        grid.add(new ArrayList<>());
+      }
+      for (Zone zone : this.zones) {
+        for (int row = row(zone.minLat); row <= row(zone.maxLat); row++) {
+          for (int col = col(zone.minLon); col <= col(zone.maxLon); col++) {
+            grid.get(row * cols + col).add(zone);
+          }
+        }
+      }
+      this.cells = new Zone[grid.size()][];
+      for (int i = 0; i < cells.length; i++) {
+        cells[i] = grid.get(i).toArray(new Zone[0]);
+      }
+    }
 
-    if ((positions == null) || (location == null)) {
+    /**
+     * @return true if the location is inside any of the polygons of the fence.
+     */
+    boolean contains(double latitude, double longitude) {
+      if (cells == null) {
+        return contains(zones, latitude, longitude);
+      }
+      if (latitude < minLat || latitude > maxLat || longitude < minLon || longitude > maxLon) {
+        return false;
+      }
+      return contains(cells[row(latitude) * cols + col(longitude)], latitude, longitude);
+    }
+
+    /**
+     * @return the number of polygons checked for the location, to verify the index.
+     */
+    @VisibleForTesting
+    int candidates(double latitude, double longitude) {
+      if (cells == null) {
+        return zones.length;
+      }
+      if (latitude < minLat || latitude > maxLat || longitude < minLon || longitude > maxLon) {
+        return 0;
+      }
+      return cells[row(latitude) * cols + col(longitude)].length;
+    }
+
+    private static boolean contains(Zone[] zones, double latitude, double longitude) {
+      for (Zone zone : zones) {
+        if (zone.contains(latitude, longitude)) {
+          return true;
+        }
+      }
       return false;
     }
 
-    int wn = 0;
-    for (int i = 0; i < positions.size() - 1; i++) {
-      if (positions.get(i).coordinates().getLat() <= location.getLat()) {
-        if (positions.get(i + 1).coordinates().getLat() > location.getLat()) {
-          if (isLeft(positions.get(i).coordinates(), positions.get(i + 1).coordinates(), location) > 0.0) {
-            ++wn;
+    private int row(double latitude) {
+      return cell(latitude, minLat, maxLat, rows);
+    }
+
+    private int col(double longitude) {
+      return cell(longitude, minLon, maxLon, cols);
+    }
+
+    private static int cell(double value, double min, double max, int size) {
+      if (size == 1) {
+        return 0;
+      }
+      return Math.max(0, Math.min(size - 1, (int) ((value - min) / (max - min) * size)));
+    }
+  }
+
+  /**
+   * Perimeter of a polygon with its bounding box.
+   */
+  private static final class Zone {
+    private final double[] lats;
+    private final double[] lons;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    Zone(Polygon polygon) {
+      List<SinglePosition> positions = new ArrayList<>();
+      for (SinglePosition position : polygon.perimeter().positions().children()) {
+        positions.add(position);
+      }
+      this.lats = new double[positions.size()];
+      this.lons = new double[positions.size()];
+      double minLat = Double.POSITIVE_INFINITY;
+      double maxLat = Double.NEGATIVE_INFINITY;
+      double minLon = Double.POSITIVE_INFINITY;
+      double maxLon = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < lats.length; i++) {
+        lats[i] = positions.get(i).coordinates().getLat();
+        lons[i] = positions.get(i).coordinates().getLon();
+        minLat = Math.min(minLat, lats[i]);
+        maxLat = Math.max(maxLat, lats[i]);
+        minLon = Math.min(minLon, lons[i]);
+        maxLon = Math.max(maxLon, lons[i]);
+      }
+      this.minLat = minLat;
+      this.maxLat = maxLat;
+      this.minLon = minLon;
+      this.maxLon = maxLon;
+    }
+
+    /**
+     * The winding number of a location outside of the bounding box of a closed perimeter is always zero,
+     * so those locations are rejected before walking the perimeter.
+     */
+    boolean contains(double latitude, double longitude) {
+      if (latitude < minLat || latitude > maxLat || longitude < minLon || longitude > maxLon) {
+        return false;
+      }
+      int wn = 0;
+      for (int i = 0; i < lats.length - 1; i++) {
+        if (lats[i] <= latitude) {
+          if (lats[i + 1] > latitude) {
+            if (isLeft(i, latitude, longitude) > 0.0) {
+              ++wn;
+            }
           }
-        }
-      } else {
-        if (positions.get(i + 1).coordinates().getLat() <= location.getLat()) {
-          if (isLeft(positions.get(i).coordinates(), positions.get(i + 1).coordinates(), location) < 0.0) {
-            --wn;
+        } else {
+          if (lats[i + 1] <= latitude) {
+            if (isLeft(i, latitude, longitude) < 0.0) {
+              --wn;
+            }
           }
         }
       }
+      return (wn != 0);
     }
-    return (wn != 0);
-  }
 
-  private static double isLeft(Coordinates vertex0, Coordinates vertex1, Coordinates gpC) {
-    return (vertex1.getLon() - vertex0.getLon()) * (gpC.getLat() - vertex0.getLat()) -
-        (gpC.getLon() - vertex0.getLon()) * (vertex1.getLat() - vertex0.getLat());
+    private double isLeft(int i, double latitude, double longitude) {
+      return (lons[i + 1] - lons[i]) * (latitude - lats[i]) -
+          (longitude - lons[i]) * (lats[i + 1] - lats[i]);
+    }
   }
 }
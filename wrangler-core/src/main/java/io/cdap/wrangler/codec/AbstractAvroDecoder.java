@@ -16,26 +16,56 @@
 
 package io.cdap.wrangler.codec;
 
+import com.google.gson.Gson;
 import io.cdap.wrangler.api.Row;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.DatumReader;
+import org.apache.avro.util.Utf8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This class {@link AbstractAvroDecoder} is implementation of {@link Decoder} interface using type {@link Row}.
  * All implementations of AVRO decoder should extend from this class.
  */
 public abstract class AbstractAvroDecoder implements Decoder<Row> {
+  private static final Gson GSON = new Gson();
+
   // Schema associated with record or data file being read.
   private final Schema schema;
 
   // Reader for reading data based on the schema.
   private final DatumReader<GenericRecord> reader;
 
+  // Names of the schema fields, by position.
+  private final String[] names;
+
+  // Keeps nested records, arrays and maps as Row, List and Map instead of JSON strings.
+  private final boolean nativeNested;
+
   protected AbstractAvroDecoder(Schema schema) {
+    this(schema, false);
+  }
+
+  protected AbstractAvroDecoder(Schema schema, boolean nativeNested) {
     this.schema = schema;
     this.reader = new GenericDatumReader<>(this.schema);
+    this.nativeNested = nativeNested;
+    List<Schema.Field> fields = schema.getFields();
+    this.names = new String[fields.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = fields.get(i).name();
+    }
   }
 
   protected Schema getSchema() {
@@ -45,4 +75,96 @@ public abstract class AbstractAvroDecoder implements Decoder<Row> {
   protected DatumReader<GenericRecord> getReader() {
     return reader;
   }
+
+  /**
+   * Converts a decoded record into a {@link Row}, with a column for every field of the schema.
+   *
+   * Strings are converted from {@link Utf8}. Unless nested values are kept native, {@link List} and
+   * {@link Map} values are converted into their JSON representation and other values are added as they are.
+   * Otherwise nested records become {@link Row}s, arrays and maps become {@link List}s and {@link Map}s with
+   * {@link String} keys, enums become {@link String}s and bytes and fixed values become byte arrays.
+   *
+   * @param record the decoded record.
+   * @return the row, which does not share any objects with the record if nested values are kept native.
+   */
+  protected Row toRow(GenericRecord record) {
+    Row row = new Row();
+    row.ensureCapacity(names.length);
+    for (int i = 0; i < names.length; i++) {
+      Object object = record.get(i);
+      if (nativeNested) {
+        object = toNative(object);
+      } else if (object instanceof Utf8) {
+        object = object.toString();
+      } else if (object instanceof Map || object instanceof List) {
+        object = GSON.toJson(object);
+      }
+      row.add(names[i], object);
+    }
+    return row;
+  }
+
+  /**
+   * Returns whether records can be decoded into the instance decoded before.
+   *
+   * The reader reuses nested objects of such a record, so this is only the case if {@link #toRow(GenericRecord)}
+   * copies every field value that the reader could reuse.
+   */
+  protected boolean canReuseRecords() {
+    if (nativeNested) {
+      return true;
+    }
+    for (Schema.Field field : schema.getFields()) {
+      Schema type = field.schema();
+      List<Schema> types = type.getType() == Schema.Type.UNION ? type.getTypes() : Collections.singletonList(type);
+      for (Schema branch : types) {
+        switch (branch.getType()) {
+          case RECORD:
+          case BYTES:
+          case FIXED:
+            return false;
+          default:
+            break;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static Object toNative(Object object) {
+    if (object instanceof Utf8 || object instanceof GenericEnumSymbol) {
+      return object.toString();
+    } else if (object instanceof GenericRecord) {
+      GenericRecord record = (GenericRecord) object;
+      List<Schema.Field> fields = record.getSchema().getFields();
+      Row row = new Row();
+      row.ensureCapacity(fields.size());
+      for (int i = 0; i < fields.size(); i++) {
+        row.add(fields.get(i).name(), toNative(record.get(i)));
+      }
+      return row;
+    } else if (object instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) object;
+      Map<String, Object> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        result.put(entry.getKey().toString(), toNative(entry.getValue()));
+      }
+      return result;
+    } else if (object instanceof Collection) {
+      Collection<?> collection = (Collection<?>) object;
+      List<Object> result = new ArrayList<>(collection.size());
+      for (Object element : collection) {
+        result.add(toNative(element));
+      }
+      return result;
+    } else if (object instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) object).duplicate();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    } else if (object instanceof GenericFixed) {
+      return ((GenericFixed) object).bytes().clone();
+    }
+    return object;
+  }
 }
@@ -16,14 +16,12 @@
 
 package io.cdap.wrangler.codec;
 
-import com.google.gson.Gson;
 import io.cdap.wrangler.api.Row;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.JsonDecoder;
-import org.apache.avro.util.Utf8;
 
 import java.io.ByteArrayInputStream;
 import java.io.EOFException;
@@ -36,11 +34,17 @@ import java.util.Map;
  * This class {@link JsonAvroDecoder} decodes a byte array of AVRO Json Records into the {@link Row} structure.
  */
 public class JsonAvroDecoder extends AbstractAvroDecoder {
-  private final Gson gson;
-
   public JsonAvroDecoder(Schema schema) {
-    super(schema);
-    this.gson = new Gson();
+    this(schema, false);
+  }
+
+  /**
+   * @param schema the schema of the records.
+   * @param nativeNested whether nested records, arrays and maps are kept as {@link Row}, {@link List} and
+   *                     {@link Map} objects instead of being converted to JSON.
+   */
+  public JsonAvroDecoder(Schema schema, boolean nativeNested) {
+    super(schema, nativeNested);
   }
 
   @Override
@@ -53,19 +57,7 @@ public class JsonAvroDecoder extends AbstractAvroDecoder {
       while (true) {
         try {
           GenericRecord gRecord = getReader().read(null, decoder);
-          List<Schema.Field> fields = getSchema().getFields();
-          Row r = new Row();
-          for (Schema.Field field : fields) {
-            Object object = gRecord.get(field.name());
-            if (object instanceof Utf8) {
-              Utf8 o = (Utf8) object;
-              object = o.toString();
-            } else if (object instanceof Map || object instanceof List) {
-              object = gson.toJson(object);
-            }
-            r.add(field.name(), object);
-          }
-          rows.add(r);
+          rows.add(toRow(gRecord));
         } catch (EOFException e) {
           break; // Reached end of buffer.
         }
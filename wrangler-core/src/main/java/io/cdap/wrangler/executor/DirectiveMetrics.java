@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class <code>DirectiveMetrics</code> keeps the rows in, rows out, errors and wall time of every directive of
+ * a recipe, by position of the directive in the recipe.
+ *
+ * <p>Rows and errors are counted on every invocation. The wall time is only measured on one of every
+ * <code>sampleInterval</code> invocations of a directive, and kept in a histogram with power of two buckets, so the
+ * percentiles are accurate within a factor of two. This class is not thread safe, executors running on different
+ * threads keep their own metrics, which are combined with {@link #merge(DirectiveMetrics)}.</p>
+ */
+public final class DirectiveMetrics {
+  // Bucket i counts the durations d with 2^(i-1) <= d < 2^i nanoseconds, bucket 0 the durations of 0.
+  private static final int BUCKETS = 64;
+
+  private final List<String> names;
+  private final int sampleInterval;
+  // Counts the invocations to decide which ones are measured, it is not cleared by reset.
+  private final long[] counters;
+  private final long[] invocations;
+  private final long[] rowsIn;
+  private final long[] rowsOut;
+  private final long[] errors;
+  private final long[] samples;
+  private final long[] sampledNanos;
+  private final long[] maxNanos;
+  private final long[][] histograms;
+
+  /**
+   * Creates metrics for the directives of a recipe.
+   *
+   * @param names names of the directives, in the order of the recipe.
+   * @param sampleInterval the wall time of a directive is measured once every this number of invocations.
+   */
+  public DirectiveMetrics(List<String> names, int sampleInterval) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("Sample interval must be at least 1, but was " + sampleInterval);
+    }
+    int size = names.size();
+    this.names = Collections.unmodifiableList(new ArrayList<>(names));
+    this.sampleInterval = sampleInterval;
+    this.counters = new long[size];
+    this.invocations = new long[size];
+    this.rowsIn = new long[size];
+    this.rowsOut = new long[size];
+    this.errors = new long[size];
+    this.samples = new long[size];
+    this.sampledNanos = new long[size];
+    this.maxNanos = new long[size];
+    this.histograms = new long[size][BUCKETS];
+  }
+
+  /**
+   * @return number of directives.
+   */
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * @return the wall time of a directive is measured once every this number of invocations.
+   */
+  public int getSampleInterval() {
+    return sampleInterval;
+  }
+
+  /**
+   * @return names of the directives, in the order of the recipe.
+   */
+  public List<String> getNames() {
+    return names;
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return name of the directive.
+   */
+  public String getName(int directive) {
+    return names.get(directive);
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return number of times the directive was executed.
+   */
+  public long getInvocations(int directive) {
+    return invocations[directive];
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return number of rows passed to the directive.
+   */
+  public long getRowsIn(int directive) {
+    return rowsIn[directive];
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return number of rows returned by the directive.
+   */
+  public long getRowsOut(int directive) {
+    return rowsOut[directive];
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return number of invocations of the directive that failed or sent rows to the error collector.
+   */
+  public long getErrors(int directive) {
+    return errors[directive];
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return number of invocations whose wall time was measured.
+   */
+  public long getSamples(int directive) {
+    return samples[directive];
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return total wall time of all the invocations, extrapolated from the measured invocations.
+   */
+  public long getEstimatedNanos(int directive) {
+    if (samples[directive] == 0) {
+      return 0L;
+    }
+    return (long) ((double) sampledNanos[directive] / samples[directive] * invocations[directive]);
+  }
+
+  /**
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @return longest measured wall time of an invocation.
+   */
+  public long getMaxNanos(int directive) {
+    return maxNanos[directive];
+  }
+
+  /**
+   * Returns an upper bound of the wall time of the given percentile of the measured invocations.
+   *
+   * @param directive position of the directive in the recipe, starting at 0.
+   * @param percentile between 0 and 100.
+   * @return wall time in nanoseconds, or 0 if no invocation was measured.
+   */
+  public long getPercentileNanos(int directive, double percentile) {
+    long[] histogram = histograms[directive];
+    long rank = (long) Math.ceil(samples[directive] * percentile / 100.0);
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += histogram[i];
+      if (count > 0 && count >= rank) {
+        return Math.min(i == 0 ? 0L : (1L << i) - 1, maxNanos[directive]);
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Adds the metrics of the same recipe kept by another executor.
+   *
+   * @param other metrics of the same directives.
+   */
+  public void merge(DirectiveMetrics other) {
+    if (!names.equals(other.names)) {
+      throw new IllegalArgumentException("Cannot merge metrics of different directives.");
+    }
+    for (int i = 0; i < names.size(); i++) {
+      invocations[i] += other.invocations[i];
+      rowsIn[i] += other.rowsIn[i];
+      rowsOut[i] += other.rowsOut[i];
+      errors[i] += other.errors[i];
+      if (other.samples[i] > 0) {
+        samples[i] += other.samples[i];
+        sampledNanos[i] += other.sampledNanos[i];
+        maxNanos[i] = Math.max(maxNanos[i], other.maxNanos[i]);
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+          histograms[i][bucket] += other.histograms[i][bucket];
+        }
+      }
+    }
+  }
+
+  /**
+   * Clears all the metrics, for instance after they were emitted.
+   */
+  public void reset() {
+    Arrays.fill(invocations, 0L);
+    Arrays.fill(rowsIn, 0L);
+    Arrays.fill(rowsOut, 0L);
+    Arrays.fill(errors, 0L);
+    for (int i = 0; i < names.size(); i++) {
+      if (samples[i] > 0) {
+        Arrays.fill(histograms[i], 0L);
+      }
+    }
+    Arrays.fill(samples, 0L);
+    Arrays.fill(sampledNanos, 0L);
+    Arrays.fill(maxNanos, 0L);
+  }
+
+  /**
+   * Counts an invocation of a directive and tells whether its wall time should be measured.
+   */
+  boolean start(int directive) {
+    invocations[directive]++;
+    return counters[directive]++ % sampleInterval == 0;
+  }
+
+  /**
+   * Records the rows of an invocation, with its wall time or a negative value if it was not measured.
+   */
+  void record(int directive, int in, int out, long nanos) {
+    rowsIn[directive] += in;
+    rowsOut[directive] += out;
+    if (nanos >= 0) {
+      samples[directive]++;
+      sampledNanos[directive] += nanos;
+      maxNanos[directive] = Math.max(maxNanos[directive], nanos);
+      histograms[directive][64 - Long.numberOfLeadingZeros(nanos)]++;
+    }
+  }
+
+  /**
+   * Records a failed invocation of a directive and the rows passed to it, its wall time is not measured.
+   */
+  void error(int directive, int in) {
+    rowsIn[directive] += in;
+    errors[directive]++;
+  }
+}
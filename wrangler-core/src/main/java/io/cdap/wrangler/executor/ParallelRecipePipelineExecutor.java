@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Directive;
+import io.cdap.wrangler.api.ErrorRecord;
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.RecipeParser;
+import io.cdap.wrangler.api.RecipePipeline;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.Stateful;
+import io.cdap.wrangler.api.TransientStore;
+import io.cdap.wrangler.api.TransientVariableScope;
+import io.cdap.wrangler.utils.RecordConvertor;
+import io.cdap.wrangler.utils.RecordConvertorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * The class <code>ParallelRecipePipelineExecutor</code> executes a recipe on multiple threads.
+ *
+ * <p>The input is split into contiguous partitions. Each partition is executed by a worker that has its own
+ * compiled directives and its own {@link ExecutorContext}, and the results and errors are merged back in
+ * input order.</p>
+ *
+ * <p>Parallel execution is opt-in: the recipe is executed by the first worker alone when any of its directives
+ * does not implement {@link Parallelizable} or is not parallelizable as configured, when schema management is
+ * enabled or when the input is too small to be split. After a parallel execution, the state of the
+ * {@link Stateful} directives of the other workers is merged into the directives of the first worker.</p>
+ *
+ * <p>Before a parallel execution, the {@link TransientVariableScope#GLOBAL} variables of the first worker are
+ * copied to the other workers, so that the result does not depend on how the input was split.</p>
+ *
+ * <p>Partitions are executed on a pool of daemon threads shared by all the executors, so that creating an
+ * executor per request does not create threads.</p>
+ */
+public final class ParallelRecipePipelineExecutor implements RecipePipeline<Row, StructuredRecord, ErrorRecord> {
+  // Inputs smaller than this per worker are not worth the cost of dispatching to the pool.
+  private static final int DEFAULT_MIN_PARTITION_SIZE = 256;
+  private static final ExecutorService POOL = Executors.newFixedThreadPool(
+    Runtime.getRuntime().availableProcessors(), new ThreadFactoryBuilder()
+      .setNameFormat("wrangler-executor-%d")
+      .setDaemon(true)
+      .build());
+
+  private final RecordConvertor convertor = new RecordConvertor();
+  private final List<RecipePipelineExecutor> workers = new ArrayList<>();
+  private final List<ExecutorContext> workerContexts = new ArrayList<>();
+  private final List<ErrorRecord> errors = new ArrayList<>();
+  private final ExecutorContext context;
+  private final int minPartitionSize;
+  private Boolean parallelizable;
+
+  /**
+   * Creates an executor that splits the input across <code>parallelism</code> workers.
+   *
+   * @param recipeParser parser providing the directives, it must create new instances on every parse. The other
+   *                     workers only parse the recipe when the input is split.
+   * @param context context of the first worker, which is also used when the recipe is not executed in parallel.
+   * @param workerContexts supplies the context, with its own {@link io.cdap.wrangler.api.TransientStore},
+   *                       of each of the other workers.
+   * @param parallelism maximum number of workers executing the recipe at the same time.
+   */
+  public ParallelRecipePipelineExecutor(RecipeParser recipeParser, @Nullable ExecutorContext context,
+                                        Supplier<ExecutorContext> workerContexts, int parallelism) {
+    this(recipeParser, context, workerContexts, parallelism, RecipePipelineExecutor.DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates an executor that splits the input across <code>parallelism</code> workers, each of which pushes up to
+   * <code>batchSize</code> rows of its partition through the directives at a time.
+   *
+   * @param recipeParser parser providing the directives, it must create new instances on every parse.
+   * @param context context of the first worker, which is also used when the recipe is not executed in parallel.
+   * @param workerContexts supplies the context, with its own {@link io.cdap.wrangler.api.TransientStore},
+   *                       of each of the other workers.
+   * @param parallelism maximum number of workers executing the recipe at the same time.
+   * @param batchSize maximum number of rows pushed through the directives at a time by a worker.
+   * @see RecipePipelineExecutor#RecipePipelineExecutor(RecipeParser, ExecutorContext, int)
+   */
+  public ParallelRecipePipelineExecutor(RecipeParser recipeParser, @Nullable ExecutorContext context,
+                                        Supplier<ExecutorContext> workerContexts, int parallelism, int batchSize) {
+    this(recipeParser, context, workerContexts, parallelism, batchSize, DEFAULT_MIN_PARTITION_SIZE);
+  }
+
+  @VisibleForTesting
+  ParallelRecipePipelineExecutor(RecipeParser recipeParser, @Nullable ExecutorContext context,
+                                 Supplier<ExecutorContext> workerContexts, int parallelism, int batchSize,
+                                 int minPartitionSize) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism);
+    }
+    this.context = context;
+    this.minPartitionSize = minPartitionSize;
+    workers.add(new RecipePipelineExecutor(recipeParser, context, batchSize));
+    for (int i = 1; i < parallelism; i++) {
+      ExecutorContext workerContext = workerContexts.get();
+      this.workerContexts.add(workerContext);
+      workers.add(new RecipePipelineExecutor(recipeParser, workerContext, batchSize));
+    }
+  }
+
+  /**
+   * Enables the collection of {@link DirectiveMetrics} by every worker.
+   *
+   * @param sampleInterval number of invocations of a directive per measurement of its wall time.
+   * @see RecipePipelineExecutor#enableDirectiveMetrics(int)
+   */
+  public void enableDirectiveMetrics(int sampleInterval) {
+    for (RecipePipelineExecutor worker : workers) {
+      worker.enableDirectiveMetrics(sampleInterval);
+    }
+  }
+
+  /**
+   * Returns the metrics of the directives of all the workers, accumulated over all the executions. Unlike
+   * {@link RecipePipelineExecutor#getDirectiveMetrics()}, the metrics are a copy that is not updated by later
+   * executions.
+   *
+   * @return metrics of the directives, or null if they are not enabled or the recipe was never executed.
+   */
+  @Nullable
+  public DirectiveMetrics getDirectiveMetrics() {
+    DirectiveMetrics combined = null;
+    for (RecipePipelineExecutor worker : workers) {
+      DirectiveMetrics metrics = worker.getDirectiveMetrics();
+      if (metrics == null) {
+        continue;
+      }
+      if (combined == null) {
+        combined = new DirectiveMetrics(metrics.getNames(), metrics.getSampleInterval());
+      }
+      combined.merge(metrics);
+    }
+    return combined;
+  }
+
+  /**
+   * Destroys the directives of every worker. The shared threads are left running.
+   */
+  @Override
+  public void close() {
+    for (RecipePipelineExecutor worker : workers) {
+      worker.close();
+    }
+  }
+
+  /**
+   * Executes the pipeline on the input.
+   *
+   * @param rows List of Input record of type I.
+   * @param schema Schema to which the output should be mapped.
+   * @return Parsed output list of record of type O
+   */
+  @Override
+  public List<StructuredRecord> execute(List<Row> rows, Schema schema) throws RecipeException {
+    try {
+      return convertor.toStructureRecord(execute(rows), schema);
+    } catch (RecordConvertorException e) {
+      throw new RecipeException("Problem converting into output record. Reason : " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Executes the pipeline on the input, splitting it across the workers when possible.
+   *
+   * @param rows List of input record of type I.
+   * @return Parsed output list of record of type I, in the order of the input.
+   */
+  @Override
+  public List<Row> execute(List<Row> rows) throws RecipeException {
+    errors.clear();
+    int partitions = Math.min(workers.size(), rows.size() / Math.max(1, minPartitionSize));
+    if (partitions < 2 || !isParallelizable()) {
+      RecipePipelineExecutor worker = workers.get(0);
+      List<Row> results = worker.execute(rows);
+      errors.addAll(worker.errors());
+      return results;
+    }
+
+    copyGlobalVariables(partitions);
+    int partitionSize = (rows.size() + partitions - 1) / partitions;
+    List<Future<List<Row>>> futures = new ArrayList<>(partitions);
+    for (int start = 0; start < rows.size(); start += partitionSize) {
+      RecipePipelineExecutor worker = workers.get(futures.size());
+      List<Row> partition = rows.subList(start, Math.min(start + partitionSize, rows.size()));
+      futures.add(POOL.submit(() -> worker.execute(partition)));
+    }
+
+    // Wait for every worker before returning, so that no worker is still running when the next call comes in.
+    List<Row> results = new ArrayList<>(rows.size());
+    RecipeException failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        results.addAll(futures.get(i).get());
+        errors.addAll(workers.get(i).errors());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RecipeException("Interrupted while waiting for the recipe to be executed.", e);
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = toRecipeException(e.getCause(), i * partitionSize);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+
+    mergeState(futures.size());
+    return results;
+  }
+
+  /**
+   * Returns records that are errored out.
+   *
+   * @return records that have errored out, in the order of the input.
+   */
+  @Override
+  public List<ErrorRecord> errors() {
+    return errors;
+  }
+
+  /**
+   * Compiles the directives of every worker and checks whether they can be executed in parallel.
+   */
+  private boolean isParallelizable() throws RecipeException {
+    if (parallelizable != null) {
+      return parallelizable;
+    }
+
+    parallelizable = context == null || !context.isSchemaManagementEnabled();
+    List<Directive> directives = workers.get(0).getDirectives();
+    for (Directive directive : directives) {
+      if (!(directive instanceof Parallelizable) || !((Parallelizable) directive).isParallelizable()) {
+        parallelizable = false;
+      }
+    }
+    // Directives are compiled on the calling thread, as parsers are not required to be thread safe.
+    for (int i = 1; i < workers.size() && parallelizable; i++) {
+      List<Directive> workerDirectives = workers.get(i).getDirectives();
+      if (!directives.isEmpty() && workerDirectives.get(0) == directives.get(0)) {
+        // The parser hands out the same instances, which cannot be shared between threads.
+        parallelizable = false;
+      }
+    }
+    return parallelizable;
+  }
+
+  /**
+   * Replaces the global variables of the other workers by the ones of the first worker, such as variables set
+   * before the recipe is executed or the keys of the schema.
+   */
+  private void copyGlobalVariables(int partitions) {
+    if (context == null || context.getTransientStore() == null) {
+      return;
+    }
+    TransientStore store = context.getTransientStore();
+    // Local variables belong to the row being executed and are reset before every row, what is left are globals.
+    store.reset(TransientVariableScope.LOCAL);
+    for (int i = 1; i < partitions; i++) {
+      ExecutorContext workerContext = workerContexts.get(i - 1);
+      if (workerContext == null || workerContext.getTransientStore() == null) {
+        continue;
+      }
+      TransientStore workerStore = workerContext.getTransientStore();
+      workerStore.reset(TransientVariableScope.GLOBAL);
+      for (String name : store.getVariables()) {
+        workerStore.set(TransientVariableScope.GLOBAL, name, store.get(name));
+      }
+    }
+  }
+
+  private void mergeState(int partitions) throws RecipeException {
+    List<Directive> directives = workers.get(0).getDirectives();
+    for (int i = 0; i < directives.size(); i++) {
+      if (!(directives.get(i) instanceof Stateful)) {
+        continue;
+      }
+      Stateful state = (Stateful) directives.get(i);
+      for (int worker = 1; worker < partitions; worker++) {
+        state.merge((Stateful) workers.get(worker).getDirectives().get(i));
+      }
+    }
+  }
+
+  private RecipeException toRecipeException(Throwable cause, int rowOffset) {
+    if (cause instanceof RecipeException) {
+      RecipeException e = (RecipeException) cause;
+      int rowIndex = e.getRowIndex() == RecipeException.UNKNOWN_INDEX ?
+        RecipeException.UNKNOWN_INDEX : e.getRowIndex() + rowOffset;
+      return new RecipeException(e.getMessage(), e.getCause(), rowIndex, e.getDirectiveIndex());
+    }
+    return new RecipeException(cause.getMessage(), cause);
+  }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Directive;
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.RecipeParser;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.Stateful;
+import io.cdap.wrangler.api.parser.UsageDefinition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+
+/**
+ * This class <code>RecipeCheckpoints</code> keeps the rows produced by a recipe after every few directives, so
+ * that executing a recipe that shares its first directives with the previously executed one resumes from the
+ * last checkpoint within the shared directives instead of starting over from the sample.
+ *
+ * <p>Directives are identified by their source text. The checkpoints of a sample are only valid for that
+ * sample, the owner is expected to drop them when the sample changes. The rows kept take at most an estimated
+ * <code>maxBytes</code> of heap, the checkpoints of the earliest directives are dropped first.</p>
+ *
+ * <p>A recipe resumed from a checkpoint does not execute the skipped directives again. Checkpoints must not be
+ * used when the output of the recipe depends on the skipped directives having been executed, such as when the
+ * output schema is generated from every directive. For the same reason, no checkpoint is taken at or after a
+ * directive that does not implement {@link Parallelizable}, as such a directive may have effects other than on
+ * its rows, such as setting a transient variable.</p>
+ */
+public final class RecipeCheckpoints {
+  public static final int DEFAULT_INTERVAL = 10;
+  public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+  // Estimated heap taken by a row and by each of its cells, in addition to the names and values themselves.
+  private static final int ROW_BYTES = 64;
+  private static final int CELL_BYTES = 16;
+  private static final int STRING_BYTES = 40;
+  private static final int VALUE_BYTES = 24;
+
+  private final String sampleId;
+  private final int interval;
+  private final long maxBytes;
+  private final NavigableMap<Integer, List<Row>> checkpoints = new TreeMap<>();
+  private final NavigableMap<Integer, Long> sizes = new TreeMap<>();
+  private List<String> sources = Collections.emptyList();
+  private long bytes;
+
+  /**
+   * @param sampleId identifies the sample the recipes are executed on.
+   * @param interval number of directives between two checkpoints.
+   * @param maxBytes maximum estimated number of bytes of heap taken by the rows of all the checkpoints.
+   */
+  public RecipeCheckpoints(String sampleId, int interval, long maxBytes) {
+    if (interval < 1) {
+      throw new IllegalArgumentException("Checkpoint interval must be at least 1, but was " + interval);
+    }
+    this.sampleId = sampleId;
+    this.interval = interval;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @return identifier of the sample the checkpoints were created from.
+   */
+  public String getSampleId() {
+    return sampleId;
+  }
+
+  /**
+   * @return estimated number of bytes of heap taken by the rows of the checkpoints.
+   */
+  public synchronized long getEstimatedBytes() {
+    return bytes;
+  }
+
+  /**
+   * Starts an execution of a recipe, resuming from the last valid checkpoint.
+   *
+   * @param recipe source text of each directive of the recipe, in order.
+   * @param sample rows the recipe is executed on when there is no valid checkpoint.
+   * @return the execution, holding the rows to execute the remaining directives on.
+   */
+  public synchronized Execution start(List<String> recipe, List<Row> sample) {
+    int shared = sharedPrefix(recipe);
+    Map.Entry<Integer, List<Row>> checkpoint = checkpoints.floorEntry(shared);
+    if (checkpoint == null) {
+      return new Execution(recipe, 0, sample);
+    }
+    // Directives modify rows in place, the checkpoint is copied so that it can be used again.
+    List<Row> rows = new ArrayList<>(checkpoint.getValue().size());
+    for (Row row : checkpoint.getValue()) {
+      rows.add(new Row(row));
+    }
+    return new Execution(recipe, checkpoint.getKey(), rows);
+  }
+
+  private int sharedPrefix(List<String> recipe) {
+    int shared = 0;
+    while (shared < recipe.size() && shared < sources.size() && recipe.get(shared).equals(sources.get(shared))) {
+      shared++;
+    }
+    return shared;
+  }
+
+  private synchronized void commit(List<String> recipe, Map<Integer, List<Row>> captured) {
+    // Checkpoints taken after the first changed directive are not valid for the new recipe.
+    int shared = sharedPrefix(recipe);
+    checkpoints.tailMap(shared, false).clear();
+    sizes.tailMap(shared, false).clear();
+    for (Map.Entry<Integer, List<Row>> checkpoint : captured.entrySet()) {
+      checkpoints.put(checkpoint.getKey(), checkpoint.getValue());
+      sizes.put(checkpoint.getKey(), estimateBytes(checkpoint.getValue()));
+    }
+    sources = new ArrayList<>(recipe);
+
+    bytes = 0;
+    for (long size : sizes.values()) {
+      bytes += size;
+    }
+    while (bytes > maxBytes && !checkpoints.isEmpty()) {
+      checkpoints.pollFirstEntry();
+      bytes -= sizes.pollFirstEntry().getValue();
+    }
+  }
+
+  /**
+   * Estimates the heap taken by rows. Values other than strings and byte arrays are counted as small objects.
+   */
+  static long estimateBytes(List<Row> rows) {
+    long total = 0;
+    for (Row row : rows) {
+      total += ROW_BYTES;
+      int values = Math.min(row.width(), row.valueCount());
+      for (int i = 0; i < row.width(); i++) {
+        total += CELL_BYTES + estimateBytes(row.getColumn(i));
+        if (i < values) {
+          total += estimateBytes(row.getValue(i));
+        }
+      }
+    }
+    return total;
+  }
+
+  private static long estimateBytes(@Nullable Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof CharSequence) {
+      return STRING_BYTES + 2L * ((CharSequence) value).length();
+    }
+    if (value instanceof byte[]) {
+      return CELL_BYTES + ((byte[]) value).length;
+    }
+    return VALUE_BYTES;
+  }
+
+  /**
+   * A single execution of a recipe, which records new checkpoints for the directives it executes.
+   */
+  public final class Execution {
+    private final List<String> recipe;
+    private final int skipped;
+    private final List<Row> rows;
+    private final List<Integer> positions = new ArrayList<>();
+    // Positions of the checkpoint directives among the wrapped directives.
+    private final BitSet checkpointPositions = new BitSet();
+    private List<Checkpoint> captures;
+
+    private Execution(List<String> recipe, int skipped, List<Row> rows) {
+      this.recipe = recipe;
+      this.skipped = skipped;
+      this.rows = rows;
+    }
+
+    /**
+     * @return number of directives at the beginning of the recipe that are skipped.
+     */
+    public int getSkipped() {
+      return skipped;
+    }
+
+    /**
+     * @return rows the remaining directives are executed on.
+     */
+    public List<Row> getRows() {
+      return rows;
+    }
+
+    /**
+     * Returns a parser that skips the directives already applied to the rows, and adds a directive capturing a
+     * checkpoint after every <code>interval</code> directives. A new instance of each directive is created on every
+     * call, the checkpoints are taken from the directives returned by the first call. No checkpoint is added after
+     * the first directive that is not {@link Parallelizable}.
+     *
+     * @param parser providing all the directives of the recipe.
+     * @return parser of the directives to execute.
+     */
+    public RecipeParser wrap(RecipeParser parser) {
+      return () -> {
+        List<Directive> directives = parser.parse();
+        for (Directive directive : directives.subList(0, Math.min(skipped, directives.size()))) {
+          directive.destroy();
+        }
+        int last = 0;
+        while (last < directives.size() && directives.get(last) instanceof Parallelizable) {
+          last++;
+        }
+
+        List<Directive> result = new ArrayList<>();
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        BitSet checkpointIndexes = new BitSet();
+        for (int i = skipped; i < directives.size(); i++) {
+          result.add(directives.get(i));
+          indexes.add(i + 1);
+          if ((i + 1) % interval == 0 && i < last) {
+            Checkpoint checkpoint = new Checkpoint(i + 1);
+            checkpoints.add(checkpoint);
+            checkpointIndexes.set(result.size());
+            result.add(checkpoint);
+            indexes.add(i + 1);
+          }
+        }
+        if (captures == null) {
+          captures = checkpoints;
+          positions.addAll(indexes);
+          checkpointPositions.or(checkpointIndexes);
+        }
+        return result;
+      };
+    }
+
+    /**
+     * Returns the position in the whole recipe of a directive returned by the wrapped parser.
+     *
+     * @param directive position of the directive among the wrapped directives, starting at 0.
+     * @return position of the directive in the recipe starting at 0, or -1 for a directive capturing a checkpoint.
+     */
+    public int getRecipeIndex(int directive) {
+      if (checkpointPositions.get(directive)) {
+        return -1;
+      }
+      return directive < positions.size() ? positions.get(directive) - 1 : directive + skipped;
+    }
+
+    /**
+     * Keeps the checkpoints captured by the execution. Must only be called once the recipe has been successfully
+     * executed on all the rows.
+     */
+    public void commit() {
+      Map<Integer, List<Row>> captured = new TreeMap<>();
+      if (captures != null) {
+        for (Checkpoint checkpoint : captures) {
+          captured.put(checkpoint.index, checkpoint.rows);
+        }
+      }
+      RecipeCheckpoints.this.commit(recipe, captured);
+    }
+
+    /**
+     * Converts an exception thrown by the execution to refer to the directive in the whole recipe. Rows are not
+     * rows of the sample when resuming from a checkpoint, in which case the row is unknown.
+     *
+     * @param e exception thrown while executing the wrapped directives.
+     * @return the exception with the index of the directive in the recipe.
+     */
+    public RecipeException toRecipeException(RecipeException e) {
+      int directiveIndex = e.getDirectiveIndex();
+      if (directiveIndex > 0 && directiveIndex <= positions.size()) {
+        directiveIndex = positions.get(directiveIndex - 1);
+      } else if (directiveIndex > 0) {
+        directiveIndex += skipped;
+      }
+      int rowIndex = skipped > 0 ? RecipeException.UNKNOWN_INDEX : e.getRowIndex();
+      return new RecipeException(e.getMessage(), e.getCause(), rowIndex, directiveIndex);
+    }
+  }
+
+  /**
+   * Directive copying the rows that reach it. Instances executed by different workers are merged in the order
+   * of the input. The copies of a batch of rows that is replayed are dropped by the executor with
+   * {@link #truncate(int)}.
+   */
+  static final class Checkpoint implements Directive, Stateful {
+    private final int index;
+    private final List<Row> rows = new ArrayList<>();
+
+    private Checkpoint(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public UsageDefinition define() {
+      return UsageDefinition.builder("checkpoint").build();
+    }
+
+    @Override
+    public void initialize(Arguments args) {
+      // no-op
+    }
+
+    @Override
+    public List<Row> execute(List<Row> rows, ExecutorContext context) {
+      for (Row row : rows) {
+        this.rows.add(new Row(row));
+      }
+      return rows;
+    }
+
+    @Override
+    public void destroy() {
+      // no-op
+    }
+
+    /**
+     * @return number of rows copied so far.
+     */
+    int size() {
+      return rows.size();
+    }
+
+    /**
+     * Drops the rows copied after the first <code>size</code> ones.
+     */
+    void truncate(int size) {
+      rows.subList(size, rows.size()).clear();
+    }
+
+    @Override
+    public void merge(Stateful other) {
+      Checkpoint checkpoint = (Checkpoint) other;
+      rows.addAll(checkpoint.rows);
+      checkpoint.rows.clear();
+    }
+  }
+}
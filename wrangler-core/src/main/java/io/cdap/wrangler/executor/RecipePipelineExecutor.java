@@ -18,17 +18,20 @@ package io.cdap.wrangler.executor;
 
 import io.cdap.cdap.api.data.format.StructuredRecord;
 import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Columnar;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.ErrorRecord;
 import io.cdap.wrangler.api.ErrorRowException;
-import io.cdap.wrangler.api.Executor;
 import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Parallelizable;
 import io.cdap.wrangler.api.RecipeException;
 import io.cdap.wrangler.api.RecipeParser;
 import io.cdap.wrangler.api.RecipePipeline;
 import io.cdap.wrangler.api.ReportErrorAndProceed;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
+import io.cdap.wrangler.api.Stateful;
 import io.cdap.wrangler.api.TransientVariableScope;
 import io.cdap.wrangler.schema.DirectiveOutputSchemaGenerator;
 import io.cdap.wrangler.schema.DirectiveSchemaResolutionContext;
@@ -40,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -50,16 +54,84 @@ public final class RecipePipelineExecutor implements RecipePipeline<Row, Structu
 
   private static final Logger LOG = LoggerFactory.getLogger(RecipePipelineExecutor.class);
 
+  /**
+   * Default number of rows pushed through the directives at a time, which keeps the row-at-a-time behavior.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1;
+
   private final ErrorRecordCollector collector = new ErrorRecordCollector();
   private final RecordConvertor convertor = new RecordConvertor();
   private final SchemaConverter generator = new SchemaConverter();
   private final RecipeParser recipeParser;
   private final ExecutorContext context;
+  private final int batchSize;
   private List<Directive> directives;
+  private int metricsSampleInterval;
+  private DirectiveMetrics metrics;
+  // Metrics of a batch, only added to the metrics once no row of the batch has to be replayed.
+  private DirectiveMetrics batchMetrics;
 
   public RecipePipelineExecutor(RecipeParser recipeParser, @Nullable ExecutorContext context) {
+    this(recipeParser, context, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates an executor that pushes up to <code>batchSize</code> rows through each directive at a time.
+   *
+   * <p>With a batch size greater than one, the per-directive setup and loop overhead is paid once per batch
+   * instead of once per row. When a directive reports a row level error for a batch, the batch is replayed one
+   * row at a time so that only the failing rows are sent to the error collector.</p>
+   *
+   * <p>The {@link TransientVariableScope#LOCAL} scope is reset once per batch instead of once per row. Variables
+   * set in it by a directive are seen by the later directives for every row of the batch, and counters of
+   * invocations, such as the <code>dq_total</code> of <code>send-to-error-and-continue</code>, are incremented
+   * once per batch. Callers reading the local scope after every row must keep the default batch size.</p>
+   *
+   * <p>Replaying a batch executes its rows through the directives a second time, so recipes are only executed in
+   * batches when every directive is {@link Parallelizable} and does not keep state across rows. Other recipes,
+   * such as ones detecting a CSV header or incrementing a transient variable, are executed one row at a time
+   * whatever the batch size. Directives capturing {@link RecipeCheckpoints} only copy the rows and drop the
+   * copies of a replayed batch, so they do not prevent batching.</p>
+   *
+   * <p>Within a batch of rows sharing the same columns, consecutive {@link Columnar} directives are executed on
+   * a single {@link RowBatch}, which is converted back to rows before the next directive that is not columnar.</p>
+   *
+   * @param recipeParser parser providing the directives to be executed.
+   * @param context context passed to the directives.
+   * @param batchSize maximum number of rows pushed through the directives at a time.
+   */
+  public RecipePipelineExecutor(RecipeParser recipeParser, @Nullable ExecutorContext context, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1, but was " + batchSize);
+    }
     this.context = context;
     this.recipeParser = recipeParser;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Enables the collection of {@link DirectiveMetrics} for the directives of the recipe. Rows and errors are
+   * counted on every invocation of a directive, its wall time is measured once every <code>sampleInterval</code>
+   * invocations to keep the overhead low.
+   *
+   * @param sampleInterval number of invocations of a directive per measurement of its wall time.
+   */
+  public void enableDirectiveMetrics(int sampleInterval) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("Sample interval must be at least 1, but was " + sampleInterval);
+    }
+    this.metricsSampleInterval = sampleInterval;
+  }
+
+  /**
+   * Returns the metrics of the directives, accumulated over all the executions. The same instance is updated by
+   * later executions, and can be {@link DirectiveMetrics#reset() reset} once the metrics were reported.
+   *
+   * @return metrics of the directives, or null if they are not enabled or the recipe was never executed.
+   */
+  @Nullable
+  public DirectiveMetrics getDirectiveMetrics() {
+    return metrics;
   }
 
   /**
@@ -104,10 +176,7 @@ public final class RecipePipelineExecutor implements RecipePipeline<Row, Structu
   @Override
   public List<Row> execute(List<Row> rows) throws RecipeException {
     List<Directive> directives = getDirectives();
-    List<String> messages = new ArrayList<>();
     List<Row> results = new ArrayList<>();
-    int i = 0;
-    int directiveIndex = 0;
     // Initialize schema with input schema from TransientStore if running in service env (design-time) / testing env
     boolean schemaManagementEnabled = context != null && context.isSchemaManagementEnabled();
     Schema inputSchema = schemaManagementEnabled ?
@@ -120,54 +189,172 @@ public final class RecipePipelineExecutor implements RecipePipeline<Row, Structu
       }
     }
 
+    collector.reset();
+    int size = isReplayable(directives) ? batchSize : 1;
+    int i = 0;
+    while (i < rows.size()) {
+      int end = Math.min(i + size, rows.size());
+      if (end - i == 1) {
+        executeRow(rows.get(i), i, directives, outputSchemaGenerators, results);
+      } else {
+        executeBatch(rows.subList(i, end), i, directives, outputSchemaGenerators, results);
+      }
+      i = end;
+    }
+    // Schema generation
+    if (schemaManagementEnabled && inputSchema != null) {
+      context.getTransientStore().set(TransientVariableScope.GLOBAL, TransientStoreKeys.OUTPUT_SCHEMA,
+                                        getOutputSchema(inputSchema, outputSchemaGenerators));
+    }
+    return results;
+  }
+
+  /**
+   * Executes the directives on a single row, sending the row to the error collector if any directive errors it.
+   */
+  private void executeRow(Row row, int rowIndex, List<Directive> directives,
+                          List<DirectiveOutputSchemaGenerator> outputSchemaGenerators,
+                          List<Row> results) throws RecipeException {
+    resetLocalScope();
     try {
-      collector.reset();
-      while (i < rows.size()) {
-        messages.clear();
-        // Resets the scope of local variable.
-        if (context != null) {
-          context.getTransientStore().reset(TransientVariableScope.LOCAL);
-        }
+      results.addAll(executeDirectives(Collections.singletonList(row), rowIndex, directives, outputSchemaGenerators,
+                                       metrics));
+    } catch (ReportErrorAndProceed e) {
+      collector.add(new ErrorRecord(row, String.format("%s (ecode: %d)", e.getMessage(), e.getCode()),
+                                    e.getCode(), true));
+    } catch (ErrorRowException e) {
+      collector.add(new ErrorRecord(row, String.format("%s", e.getMessage()), e.getCode(), e.isShownInWrangler()));
+    }
+  }
+
+  /**
+   * Executes the directives on a batch of rows. Directives modify rows in place, so a shallow copy of the batch
+   * is kept and, if any row of the batch errors, the batch is replayed from that copy one row at a time.
+   */
+  private void executeBatch(List<Row> batch, int rowIndex, List<Directive> directives,
+                            List<DirectiveOutputSchemaGenerator> outputSchemaGenerators,
+                            List<Row> results) throws RecipeException {
+    List<Row> snapshot = new ArrayList<>(batch.size());
+    for (Row row : batch) {
+      snapshot.add(new Row(row));
+    }
+    // Rows captured by the checkpoints before the batch, the copies of a replayed batch are dropped.
+    int[] captured = new int[directives.size()];
+    for (int i = 0; i < directives.size(); i++) {
+      if (directives.get(i) instanceof RecipeCheckpoints.Checkpoint) {
+        captured[i] = ((RecipeCheckpoints.Checkpoint) directives.get(i)).size();
+      }
+    }
+
+    resetLocalScope();
+    if (batchMetrics != null) {
+      batchMetrics.reset();
+    }
+    try {
+      results.addAll(executeDirectives(batch, rowIndex, directives, outputSchemaGenerators, batchMetrics));
+      if (metrics != null) {
+        metrics.merge(batchMetrics);
+      }
+      return;
+    } catch (ReportErrorAndProceed | ErrorRowException e) {
+      LOG.trace("Replaying batch starting at row {} one row at a time to isolate errors.", rowIndex, e);
+    }
+    for (int i = 0; i < directives.size(); i++) {
+      if (directives.get(i) instanceof RecipeCheckpoints.Checkpoint) {
+        ((RecipeCheckpoints.Checkpoint) directives.get(i)).truncate(captured[i]);
+      }
+    }
+
+    for (int i = 0; i < snapshot.size(); i++) {
+      executeRow(snapshot.get(i), rowIndex + i, directives, outputSchemaGenerators, results);
+    }
+  }
 
-        List<Row> cumulativeRows = rows.subList(i, i + 1);
-        directiveIndex = 0;
-        try {
-          for (Executor<List<Row>, List<Row>> directive : directives) {
-            try {
-              directiveIndex++;
-              cumulativeRows = directive.execute(cumulativeRows, context);
-              if (cumulativeRows.size() < 1) {
-                break;
-              }
-              if (schemaManagementEnabled && inputSchema != null) {
-                outputSchemaGenerators.get(directiveIndex - 1).addNewOutputFields(cumulativeRows);
-              }
-            } catch (ReportErrorAndProceed e) {
-              messages.add(String.format("%s (ecode: %d)", e.getMessage(), e.getCode()));
-              collector
-                .add(new ErrorRecord(rows.subList(i, i + 1).get(0), String.join(",", messages), e.getCode(), true));
-              cumulativeRows = new ArrayList<>();
-              break;
+  private List<Row> executeDirectives(List<Row> rows, int rowIndex, List<Directive> directives,
+                                      List<DirectiveOutputSchemaGenerator> outputSchemaGenerators,
+                                      @Nullable DirectiveMetrics metrics)
+    throws RecipeException, ErrorRowException, ReportErrorAndProceed {
+    List<Row> cumulativeRows = rows;
+    // Batch shared by consecutive columnar directives, cumulativeRows is stale while it is set.
+    RowBatch batch = null;
+    boolean batchable = outputSchemaGenerators.isEmpty();
+    int directiveIndex = 0;
+    int rowsIn = 0;
+    try {
+      for (Directive directive : directives) {
+        directiveIndex++;
+        long start = metrics != null && metrics.start(directiveIndex - 1) ? System.nanoTime() : -1L;
+        if (directive instanceof Columnar && batchable && cumulativeRows.size() > 1) {
+          if (batch == null) {
+            batch = RowBatch.of(cumulativeRows);
+            // Rows with different columns stay on the row path until a row directive reshapes them.
+            batchable = batch != null;
+          }
+          if (batch != null) {
+            rowsIn = batch.size();
+            batch = ((Columnar) directive).execute(batch, context);
+            if (metrics != null) {
+              metrics.record(directiveIndex - 1, rowsIn, batch.size(), start < 0 ? -1L : System.nanoTime() - start);
             }
+            continue;
           }
-          results.addAll(cumulativeRows);
-        } catch (ErrorRowException e) {
-          messages.add(String.format("%s", e.getMessage()));
-          collector
-            .add(new ErrorRecord(rows.subList(i, i + 1).get(0), String.join(",", messages), e.getCode(),
-              e.isShownInWrangler()));
         }
-        ++i;
+        if (batch != null) {
+          cumulativeRows = batch.toRows();
+          batch = null;
+        }
+        batchable = outputSchemaGenerators.isEmpty();
+        rowsIn = cumulativeRows.size();
+        cumulativeRows = directive.execute(cumulativeRows, context);
+        if (metrics != null) {
+          metrics.record(directiveIndex - 1, rowsIn, cumulativeRows.size(),
+                         start < 0 ? -1L : System.nanoTime() - start);
+        }
+        if (cumulativeRows.size() < 1) {
+          break;
+        }
+        if (!outputSchemaGenerators.isEmpty()) {
+          outputSchemaGenerators.get(directiveIndex - 1).addNewOutputFields(cumulativeRows);
+        }
+      }
+      if (batch != null) {
+        cumulativeRows = batch.toRows();
       }
     } catch (DirectiveExecutionException e) {
-      throw new RecipeException(e.getMessage(), e, i, directiveIndex);
+      if (metrics != null) {
+        metrics.error(directiveIndex - 1, rowsIn);
+      }
+      throw new RecipeException(e.getMessage(), e, rowIndex, directiveIndex);
+    } catch (ErrorRowException | ReportErrorAndProceed e) {
+      if (metrics != null) {
+        metrics.error(directiveIndex - 1, rowsIn);
+      }
+      throw e;
     }
-    // Schema generation
-    if (schemaManagementEnabled && inputSchema != null) {
-      context.getTransientStore().set(TransientVariableScope.GLOBAL, TransientStoreKeys.OUTPUT_SCHEMA,
-                                        getOutputSchema(inputSchema, outputSchemaGenerators));
+    return cumulativeRows;
+  }
+
+  /**
+   * Checks whether the rows of a batch can be executed again by the directives without changing their outcome.
+   */
+  private static boolean isReplayable(List<Directive> directives) {
+    for (Directive directive : directives) {
+      if (directive instanceof RecipeCheckpoints.Checkpoint) {
+        continue;
+      }
+      if (!(directive instanceof Parallelizable) || !((Parallelizable) directive).isParallelizable()
+        || directive instanceof Stateful) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void resetLocalScope() {
+    // Resets the scope of local variable.
+    if (context != null) {
+      context.getTransientStore().reset(TransientVariableScope.LOCAL);
     }
-    return results;
   }
 
   /**
@@ -180,10 +367,18 @@ public final class RecipePipelineExecutor implements RecipePipeline<Row, Structu
     return collector.get();
   }
 
-  private List<Directive> getDirectives() throws RecipeException {
+  List<Directive> getDirectives() throws RecipeException {
     if (directives == null) {
       this.directives = recipeParser.parse();
     }
+    if (metricsSampleInterval > 0 && metrics == null) {
+      List<String> names = new ArrayList<>(directives.size());
+      for (Directive directive : directives) {
+        names.add(directive.define().getDirectiveName());
+      }
+      metrics = new DirectiveMetrics(names, metricsSampleInterval);
+      batchMetrics = new DirectiveMetrics(names, metricsSampleInterval);
+    }
     return directives;
   }
 
@@ -18,6 +18,9 @@ package io.cdap.wrangler.expression;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.cdap.cdap.api.common.Bytes;
 import io.cdap.functions.DDL;
 import io.cdap.functions.DataQuality;
@@ -45,12 +48,29 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 /**
  * This class <code>EL</code> is a Expression Language Handler.
+ *
+ * <p>A {@link JexlEngine} is shared by all the expressions compiled with the same functions, and compiled
+ * expressions are kept in a bounded cache keyed by the engine and the expression text. An {@link EL} is
+ * immutable and can be executed concurrently with different {@link ELContext}s.</p>
  */
 public final class EL {
+  private static final int MAX_ENGINES = 16;
+  private static final int MAX_SCRIPTS = 4096;
+
+  // Engines keyed by the namespaces returned by ELRegistration#functions().
+  private static final Cache<Map<String, Object>, JexlEngine> ENGINES = CacheBuilder.newBuilder()
+    .maximumSize(MAX_ENGINES)
+    .build();
+  private static final Cache<ScriptKey, EL> SCRIPTS = CacheBuilder.newBuilder()
+    .maximumSize(MAX_SCRIPTS)
+    .recordStats()
+    .build();
 
   private static volatile boolean used;
 
@@ -81,13 +101,12 @@ public final class EL {
    */
   public static EL compile(ELRegistration registration, String expression) throws ELException {
     used = true;
-    JexlEngine engine = new JexlBuilder()
-      .namespaces(registration.functions())
-      .silent(false)
-      .cache(1024)
-      .strict(true)
-      .logger(new NullLogger())
-      .create();
+    JexlEngine engine = getEngine(registration.functions());
+    ScriptKey key = new ScriptKey(engine, expression);
+    EL el = SCRIPTS.getIfPresent(key);
+    if (el != null) {
+      return el;
+    }
 
     try {
       Set<String> variables = new HashSet<>();
@@ -97,7 +116,9 @@ public final class EL {
         variables.add(Joiner.on(".").join(vars));
       }
 
-      return new EL(script, variables);
+      el = new EL(script, variables);
+      SCRIPTS.put(key, el);
+      return el;
     } catch (JexlException e) {
       // JexlException.getMessage() uses 'io.cdap.wrangler.expression.EL' class name in the error message.
       // So instead use info object to get information about error message and create custom error message.
@@ -114,6 +135,34 @@ public final class EL {
 
   }
 
+  /**
+   * @return statistics of the hits and misses of the compiled expression cache.
+   */
+  public static CacheStats cacheStats() {
+    return SCRIPTS.stats();
+  }
+
+  /**
+   * @return number of compiled expressions in the cache.
+   */
+  public static long cacheSize() {
+    return SCRIPTS.size();
+  }
+
+  private static JexlEngine getEngine(Map<String, Object> functions) throws ELException {
+    try {
+      return ENGINES.get(functions, () -> new JexlBuilder()
+        .namespaces(functions)
+        .silent(false)
+        .cache(1024)
+        .strict(true)
+        .logger(new NullLogger())
+        .create());
+    } catch (ExecutionException e) {
+      throw new ELException(e.getCause());
+    }
+  }
+
   private EL(JexlScript script, Set<String> variables) {
     this.script = script;
     this.variables = Collections.unmodifiableSet(variables);
@@ -161,6 +210,36 @@ public final class EL {
     }
   }
 
+  /**
+   * Key of a compiled expression, engines are compared by identity as they are shared.
+   */
+  private static final class ScriptKey {
+    private final JexlEngine engine;
+    private final String expression;
+
+    private ScriptKey(JexlEngine engine, String expression) {
+      this.engine = engine;
+      this.expression = expression;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      ScriptKey key = (ScriptKey) o;
+      return engine == key.engine && Objects.equals(expression, key.expression);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(engine) + Objects.hashCode(expression);
+    }
+  }
+
   /**
    * @return List of registered functions.
    */
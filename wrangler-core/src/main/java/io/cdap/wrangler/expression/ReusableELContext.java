@@ -0,0 +1,116 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.expression;
+
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.TransientStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * This class <code>ReusableELContext</code> is an {@link ELContext} that is created once per directive and
+ * bound to each {@link Row} with {@link #reset(ExecutorContext, Row)}.
+ *
+ * <p>Unlike {@link ELContext#ELContext(ExecutorContext, EL, Row)}, no variables are copied into the context.
+ * Variables of the expression are read from the bound row, and transient store variables and 'ctx' are
+ * only resolved when the expression looks them up. A variable resolves to the same value as with
+ * {@link ELContext#ELContext(ExecutorContext, EL, Row)}: variables set on the context come first, then 'this',
+ * 'ctx', the transient store variables and finally the columns of the row.</p>
+ *
+ * <p>This class is not thread safe, each directive instance should have its own context.</p>
+ */
+public final class ReusableELContext extends ELContext {
+  private final Set<String> variables;
+  private ExecutorContext context;
+  private Row row;
+  private Context ctx;
+  // Variables set on the context, allocated only when an expression sets one.
+  private Map<String, Object> values;
+
+  /**
+   * Creates a context for the variables of the expression.
+   *
+   * @param el the expression evaluated with this context.
+   */
+  public ReusableELContext(EL el) {
+    this.variables = el.variables();
+  }
+
+  /**
+   * Binds the context to a row, dropping the variables set while evaluating the previous row.
+   *
+   * @param context to be examined for transient variables and 'ctx', can be null.
+   * @param row the row for 'this' and the variables of the expression.
+   * @return 'this' context.
+   */
+  public ReusableELContext reset(@Nullable ExecutorContext context, Row row) {
+    this.context = context;
+    this.row = row;
+    this.ctx = null;
+    if (values != null) {
+      values.clear();
+    }
+    return this;
+  }
+
+  @Override
+  public Object get(String name) {
+    if (values != null && values.containsKey(name)) {
+      return values.get(name);
+    }
+    if ("this".equals(name)) {
+      return row;
+    }
+    if (context != null) {
+      if ("ctx".equals(name)) {
+        if (ctx == null) {
+          ctx = new Context(context.getEnvironment().name(), context.getContextName());
+        }
+        return ctx;
+      }
+      TransientStore store = context.getTransientStore();
+      if (store.contains(name)) {
+        return store.get(name);
+      }
+    }
+    return variables.contains(name) ? row.getValue(name) : null;
+  }
+
+  @Override
+  public void set(String name, Object value) {
+    if (values == null) {
+      values = new HashMap<>();
+    }
+    values.put(name, value);
+  }
+
+  @Override
+  public ELContext add(String name, Object value) {
+    set(name, value);
+    return this;
+  }
+
+  @Override
+  public boolean has(String name) {
+    return (values != null && values.containsKey(name)) || "this".equals(name) || variables.contains(name)
+      || (context != null && ("ctx".equals(name) || context.getTransientStore().contains(name)));
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.parser;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.cdap.wrangler.api.CompileException;
+import io.cdap.wrangler.api.CompileStatus;
+import io.cdap.wrangler.api.Compiler;
+import io.cdap.wrangler.api.RecipeSymbol;
+import org.apache.twill.filesystem.Location;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * This class <code>CompiledRecipeCache</code> keeps the {@link RecipeSymbol} of recently compiled recipes, so
+ * that a recipe that is executed again is not lexed and parsed again.
+ *
+ * <p>Entries are keyed by namespace, recipe text and the fingerprint of the user directives of the namespace, and
+ * the least recently used entries are evicted once the cache is full. Entries compiled with user directives that
+ * were since changed are no longer looked up and age out. Recipes that fail to compile are not cached.</p>
+ */
+public final class CompiledRecipeCache {
+  public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+  private final Compiler compiler = new RecipeCompiler();
+  private final Cache<Key, RecipeSymbol> cache;
+
+  public CompiledRecipeCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * @param maximumSize maximum number of compiled recipes kept in the cache.
+   */
+  public CompiledRecipeCache(int maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Returns a {@link Compiler} that compiles recipes through this cache.
+   *
+   * @param namespace the recipes are executed in.
+   * @param directivesFingerprint fingerprint of the user directives of the namespace, which must be the same for
+   *                              the same directives whichever registry loaded them.
+   * @return a compiler sharing the entries of this cache.
+   */
+  public Compiler compiler(String namespace, String directivesFingerprint) {
+    return new CachingCompiler(namespace, directivesFingerprint);
+  }
+
+  /**
+   * @return statistics of the hits and misses of the cache.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * @return number of compiled recipes in the cache.
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Compiler looking up recipes compiled from strings in the cache. Recipes read from a location or a path are
+   * always compiled.
+   */
+  private final class CachingCompiler implements Compiler {
+    private final String namespace;
+    private final String directivesFingerprint;
+
+    private CachingCompiler(String namespace, String directivesFingerprint) {
+      this.namespace = namespace;
+      this.directivesFingerprint = directivesFingerprint;
+    }
+
+    @Override
+    public CompileStatus compile(String recipe) throws CompileException {
+      Key key = new Key(namespace, recipe, directivesFingerprint);
+      RecipeSymbol symbols = cache.getIfPresent(key);
+      if (symbols != null) {
+        return new CompileStatus(symbols);
+      }
+      CompileStatus status = compiler.compile(recipe);
+      if (status.isSuccess()) {
+        cache.put(key, status.getSymbols());
+      }
+      return status;
+    }
+
+    @Override
+    public CompileStatus compile(Location location) throws CompileException {
+      return compiler.compile(location);
+    }
+
+    @Override
+    public CompileStatus compile(Path path) throws CompileException {
+      return compiler.compile(path);
+    }
+  }
+
+  private static final class Key {
+    private final String namespace;
+    private final String recipe;
+    private final String directivesFingerprint;
+
+    private Key(String namespace, String recipe, String directivesFingerprint) {
+      this.namespace = namespace;
+      this.recipe = recipe;
+      this.directivesFingerprint = directivesFingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return namespace.equals(key.namespace) && recipe.equals(key.recipe)
+        && directivesFingerprint.equals(key.directivesFingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(namespace, recipe, directivesFingerprint);
+    }
+  }
+}
@@ -18,6 +18,7 @@ package io.cdap.wrangler.parser;
 
 import com.google.common.base.Joiner;
 import io.cdap.wrangler.api.Arguments;
+import io.cdap.wrangler.api.Compiler;
 import io.cdap.wrangler.api.Directive;
 import io.cdap.wrangler.api.DirectiveContext;
 import io.cdap.wrangler.api.DirectiveLoadException;
@@ -25,11 +26,13 @@ import io.cdap.wrangler.api.DirectiveNotFoundException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.RecipeException;
 import io.cdap.wrangler.api.RecipeParser;
+import io.cdap.wrangler.api.TokenGroup;
 import io.cdap.wrangler.api.parser.UsageDefinition;
 import io.cdap.wrangler.registry.DirectiveInfo;
 import io.cdap.wrangler.registry.DirectiveRegistry;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,6 +47,8 @@ public class GrammarBasedParser implements RecipeParser {
   private final DirectiveRegistry registry;
   private final String recipe;
   private final DirectiveContext context;
+  private final Compiler compiler;
+  private volatile List<Command> commands;
 
   public GrammarBasedParser(String namespace, String recipe, DirectiveRegistry registry) {
     this(namespace, recipe, registry, new NoOpDirectiveContext());
@@ -55,14 +60,26 @@ public class GrammarBasedParser implements RecipeParser {
   }
 
   public GrammarBasedParser(String namespace, String recipe, DirectiveRegistry registry, DirectiveContext context) {
+    this(namespace, recipe, registry, context, new RecipeCompiler());
+  }
+
+  /**
+   * Creates a parser compiling the recipe with the given {@link Compiler}, such as one backed by a
+   * {@link CompiledRecipeCache}.
+   */
+  public GrammarBasedParser(String namespace, String recipe, DirectiveRegistry registry, DirectiveContext context,
+                            Compiler compiler) {
     this.namespace = namespace;
     this.recipe = recipe;
     this.registry = registry;
     this.context = context;
+    this.compiler = compiler;
   }
 
   /**
    * Parses the recipe provided to this class and instantiate a list of {@link Directive} from the recipe.
+   * The recipe is compiled on the first successful parse only, later parses create new instances of the
+   * directives from the same commands.
    *
    * @return List of {@link Directive}.
    */
@@ -71,28 +88,22 @@ public class GrammarBasedParser implements RecipeParser {
     AtomicInteger directiveIndex = new AtomicInteger();
     try {
       List<Directive> result = new ArrayList<>();
-
-      new GrammarWalker(new RecipeCompiler(), context).walk(recipe, (command, tokenGroup) -> {
-        directiveIndex.getAndIncrement();
-        DirectiveInfo info = registry.get(namespace, command);
-        if (info == null) {
-          throw new DirectiveNotFoundException(
-            String.format("Directive '%s' not found in system and user scope. Check the name of directive.", command)
-          );
+      List<Command> compiled = commands;
+      if (compiled != null) {
+        for (Command command : compiled) {
+          directiveIndex.getAndIncrement();
+          result.add(instantiate(command.name, command.tokenGroup));
         }
+        return result;
+      }
 
-        try {
-          Directive directive = info.instance();
-          UsageDefinition definition = directive.define();
-          Arguments arguments = new MapArguments(definition, tokenGroup);
-          directive.initialize(arguments);
-          result.add(directive);
-
-        } catch (IllegalAccessException | InstantiationException e) {
-          throw new DirectiveLoadException(e.getMessage(), e);
-        }
+      List<Command> walked = new ArrayList<>();
+      new GrammarWalker(compiler, context).walk(recipe, (command, tokenGroup) -> {
+        directiveIndex.getAndIncrement();
+        result.add(instantiate(command, tokenGroup));
+        walked.add(new Command(command, tokenGroup));
       });
-
+      commands = Collections.unmodifiableList(walked);
       return result;
     } catch (DirectiveLoadException | DirectiveNotFoundException | DirectiveParseException e) {
       throw new RecipeException(e.getMessage(), e, directiveIndex.get());
@@ -100,4 +111,37 @@ public class GrammarBasedParser implements RecipeParser {
       throw new RecipeException(e.getMessage(), e);
     }
   }
+
+  private Directive instantiate(String command, TokenGroup tokenGroup)
+    throws DirectiveLoadException, DirectiveNotFoundException, DirectiveParseException {
+    DirectiveInfo info = registry.get(namespace, command);
+    if (info == null) {
+      throw new DirectiveNotFoundException(
+        String.format("Directive '%s' not found in system and user scope. Check the name of directive.", command)
+      );
+    }
+
+    try {
+      Directive directive = info.instance();
+      UsageDefinition definition = directive.define();
+      Arguments arguments = new MapArguments(definition, tokenGroup);
+      directive.initialize(arguments);
+      return directive;
+    } catch (IllegalAccessException | InstantiationException e) {
+      throw new DirectiveLoadException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Directive name and arguments of a step of the compiled recipe.
+   */
+  private static final class Command {
+    private final String name;
+    private final TokenGroup tokenGroup;
+
+    private Command(String name, TokenGroup tokenGroup) {
+      this.name = name;
+      this.tokenGroup = tokenGroup;
+    }
+  }
 }
@@ -18,6 +18,8 @@ package io.cdap.wrangler.registry;
 
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.cdap.cdap.api.artifact.ArtifactId;
 import io.cdap.cdap.api.artifact.ArtifactInfo;
 import io.cdap.cdap.api.artifact.ArtifactManager;
@@ -36,6 +38,7 @@ import io.cdap.wrangler.api.DirectiveLoadException;
 import io.cdap.wrangler.utils.ArtifactSummaryComparator;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -44,6 +47,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import javax.annotation.Nullable;
 
@@ -72,8 +76,10 @@ import javax.annotation.Nullable;
 public final class UserDirectiveRegistry implements DirectiveRegistry {
   private static final String WRANGLER_TRANSFORM = "wrangler-transform";
   private static final String WRANGLER_PLUGIN = "Wrangler";
+  private static final String EMPTY_FINGERPRINT = fingerprint(Collections.emptyMap());
   private final Map<String, Map<String, DirectiveInfo>> registry = new ConcurrentSkipListMap<>();
   private final List<CloseableClassLoader> classLoaders = new ArrayList<>();
+  private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
   private StageContext context;
   private HttpServiceContext manager;
   private ArtifactSummary wranglerArtifact;
@@ -220,6 +226,8 @@ public final class UserDirectiveRegistry implements DirectiveRegistry {
           wranglerArtifact = latestWrangler;
         }
 
+        fingerprints.put(namespace, fingerprint(newRegistry));
+
         MapDifference<String, DirectiveInfo> difference = Maps.difference(currentRegistry, newRegistry);
 
         // Remove elements from the registry that are not present in newly loaded registry
@@ -242,6 +250,26 @@ public final class UserDirectiveRegistry implements DirectiveRegistry {
     }
   }
 
+  /**
+   * Returns a fingerprint of the user directives of a namespace as last loaded by {@link #reload(String)}. The
+   * fingerprint is computed from the name, class and artifact of every directive, so registries that loaded the
+   * same directives return the same fingerprint, and anything derived from the directives can be keyed by it.
+   *
+   * @param namespace of the directives.
+   * @return fingerprint of the directives of the namespace.
+   */
+  public String getFingerprint(String namespace) {
+    return fingerprints.getOrDefault(namespace, EMPTY_FINGERPRINT);
+  }
+
+  private static String fingerprint(Map<String, DirectiveInfo> directives) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    for (DirectiveInfo info : new TreeMap<>(directives).values()) {
+      hasher.putString(info.getDirectiveClass().toString(), StandardCharsets.UTF_8).putChar('\n');
+    }
+    return hasher.hash().toString();
+  }
+
   @Nullable
   private ArtifactManager getArtifactManager() {
     return manager != null ? manager :
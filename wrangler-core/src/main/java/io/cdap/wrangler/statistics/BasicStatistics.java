@@ -16,30 +16,75 @@
 
 package io.cdap.wrangler.statistics;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.sampling.Reservoir;
 import io.dataapps.chlorine.finder.FinderEngine;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Basic class to compute summary from a list of rows
+ *
+ * <p>General statistics (null, non-null and empty) are exact. Type detection runs the finder patterns over
+ * a reservoir sample of at most <code>maxCellsPerColumn</code> non-empty string cells of each column, on a
+ * shared pool with one task per column. Each cell is inspected up to <code>maxCellLength</code> characters and
+ * all columns share the same time budget. Type percentages are estimated from the cells that were scanned, and
+ * the summary reports, per column, how many cells were scanned and the confidence of the estimate.</p>
  */
 public class BasicStatistics implements Statistics {
   // default time out be 10s
   private static final long TIME_OUT_MILLIS = 10000;
+  // Matching patterns is very expensive for strings longer than a couple thousand characters.
+  private static final int MAX_CELL_LENGTH = 1024;
+  private static final int MAX_CELLS_PER_COLUMN = 1000;
+  // Fixed seed, so that the same rows always produce the same summary.
+  private static final long SEED = 0x5eedL;
+  // z-score of the 95% confidence level.
+  private static final double Z_95 = 1.96;
+
+  private static volatile FinderEngine sharedEngine;
+  private static volatile ExecutorService sharedPool;
+
   private final FinderEngine engine;
+  private final int maxCellsPerColumn;
+  private final int maxCellLength;
+  private final long timeoutMillis;
 
   public BasicStatistics() throws Exception {
-    engine = new FinderEngine("wrangler-finder.xml", true, false);
+    this(MAX_CELLS_PER_COLUMN, MAX_CELL_LENGTH, TIME_OUT_MILLIS);
+  }
+
+  /**
+   * @param maxCellsPerColumn maximum number of string cells of a column that are matched against finders.
+   * @param maxCellLength number of leading characters of a cell that are matched against finders.
+   * @param timeoutMillis time budget for detecting the types of all the columns.
+   */
+  public BasicStatistics(int maxCellsPerColumn, int maxCellLength, long timeoutMillis) throws Exception {
+    this.engine = getEngine();
+    this.maxCellsPerColumn = maxCellsPerColumn;
+    this.maxCellLength = maxCellLength;
+    this.timeoutMillis = timeoutMillis;
   }
 
   @Override
   public Row aggregate(List<Row> rows) {
     ColumnMetric types = new ColumnMetric();
     ColumnMetric stats = new ColumnMetric();
+    // Non empty string cells of each column.
+    Map<String, List<String>> cells = new HashMap<>();
 
-    long startTime = System.currentTimeMillis();
     Double count = new Double(0);
     for (Row row : rows) {
       ++count;
@@ -58,20 +103,32 @@ public class BasicStatistics implements Statistics {
           if (value.isEmpty()) {
             stats.increment(column, "empty");
           } else {
-            // this call is very expensive for string > 2000 characters, took seconds to return
-            Map<String, List<String>> finds = engine.findWithType(value);
-            for (String find : finds.keySet()) {
-              types.increment(column, find);
-            }
-            // TODO: this is a workaround for CDAP-18262, to proper fix we should revisit this computation logic
-            if (System.currentTimeMillis() - startTime > TIME_OUT_MILLIS) {
-              break;
-            }
+            cells.computeIfAbsent(column, c -> new ArrayList<>()).add(value);
           }
         }
       }
     }
 
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    Map<String, Future<ColumnTypes>> futures = new TreeMap<>();
+    for (Map.Entry<String, List<String>> entry : cells.entrySet()) {
+      List<String> values = entry.getValue();
+      futures.put(entry.getKey(), getPool().submit(() -> detect(values, deadline)));
+    }
+
+    Row rowScanned = new Row();
+    Row rowConfidence = new Row();
+    for (Map.Entry<String, Future<ColumnTypes>> entry : futures.entrySet()) {
+      String column = entry.getKey();
+      ColumnTypes result = getUnchecked(entry.getValue());
+      for (Map.Entry<String, Integer> hits : result.hits.entrySet()) {
+        // Scale hits in the scanned cells up to the number of string cells of the column.
+        types.set(column, hits.getKey(), (double) hits.getValue() * result.total / result.scanned);
+      }
+      rowScanned.add(column, (double) result.scanned);
+      rowConfidence.add(column, result.confidence());
+    }
+
     Row rowTypes = new Row();
     for (String column : types.getColumns()) {
       rowTypes.add(column, types.percentage(column, count));
@@ -86,7 +143,96 @@ public class BasicStatistics implements Statistics {
     row.add("types", rowTypes);
     row.add("stats", rowStats);
     row.add("total", count);
+    row.add("scanned", rowScanned);
+    row.add("confidence", rowConfidence);
 
     return row;
   }
+
+  /**
+   * Runs the finders over a sample of the values of a column, stopping at the deadline.
+   */
+  private ColumnTypes detect(List<String> values, long deadline) {
+    Iterator<String> sample = values.size() > maxCellsPerColumn
+      ? new Reservoir<String>(maxCellsPerColumn, SEED).sample(values.iterator()) : values.iterator();
+    ColumnTypes result = new ColumnTypes(values.size());
+    while (sample.hasNext() && System.nanoTime() < deadline) {
+      String value = sample.next();
+      if (value.length() > maxCellLength) {
+        value = value.substring(0, maxCellLength);
+      }
+      for (String find : engine.findWithType(value).keySet()) {
+        result.hits.merge(find, 1, Integer::sum);
+      }
+      result.scanned++;
+    }
+    return result;
+  }
+
+  private static ColumnTypes getUnchecked(Future<ColumnTypes> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while computing column statistics", e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Types found in the scanned cells of a column.
+   */
+  private static final class ColumnTypes {
+    private final Map<String, Integer> hits = new TreeMap<>();
+    private final int total;
+    private int scanned;
+
+    ColumnTypes(int total) {
+      this.total = total;
+    }
+
+    /**
+     * @return one minus the worst case margin of error of the type percentages at the 95% confidence level,
+     * with the finite population correction. All cells scanned gives 1 and no cell scanned gives 0.
+     */
+    double confidence() {
+      if (scanned == 0) {
+        return 0;
+      }
+      if (scanned >= total) {
+        return 1;
+      }
+      double margin = Z_95 * Math.sqrt(0.25 / scanned) * Math.sqrt((double) (total - scanned) / (total - 1));
+      return Math.max(0, 1 - margin);
+    }
+  }
+
+  // The finder engine only holds compiled patterns, so a single instance can be shared by all threads.
+  private static FinderEngine getEngine() throws Exception {
+    if (sharedEngine == null) {
+      synchronized (BasicStatistics.class) {
+        if (sharedEngine == null) {
+          sharedEngine = new FinderEngine("wrangler-finder.xml", true, false);
+        }
+      }
+    }
+    return sharedEngine;
+  }
+
+  private static ExecutorService getPool() {
+    if (sharedPool == null) {
+      synchronized (BasicStatistics.class) {
+        if (sharedPool == null) {
+          sharedPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                    new ThreadFactoryBuilder()
+                                                      .setNameFormat("wrangler-statistics-%d")
+                                                      .setDaemon(true)
+                                                      .build());
+        }
+      }
+    }
+    return sharedPool;
+  }
 }
@@ -21,6 +21,7 @@ import io.cdap.cdap.api.data.schema.Schema.LogicalType;
 import io.cdap.wrangler.api.DirectiveExecutionException;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -28,6 +29,7 @@ import java.math.RoundingMode;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 /**
  * Utility class that converts a {@link Row} column into another column.
@@ -65,6 +67,33 @@ public final class ColumnConverter {
     }
   }
 
+  /**
+   * Renames a column of every row of a batch. The renamed column must not exist in the batch. The comparision is
+   * case insensitive.
+   *
+   * @param batch source batch to be modified.
+   * @param column name of the column within source batch.
+   * @param toName the target name of the column.
+   * @throws DirectiveExecutionException when a column matching the target name already exists
+   */
+  public static void rename(String directiveName, RowBatch batch, String column, String toName)
+      throws DirectiveExecutionException {
+    int idx = batch.find(column);
+    int existingColumn = batch.find(toName);
+    if (idx == -1) {
+      return;
+    }
+
+    if (existingColumn == -1 || idx == existingColumn) {
+      batch.setColumn(idx, toName);
+    } else {
+      throw new DirectiveExecutionException(
+          directiveName, String.format("Column '%s' already exists. Apply the 'drop %s' directive before " +
+              "renaming '%s' to '%s'.",
+          toName, toName, column, toName));
+    }
+  }
+
   /**
    * Converts the column type into another type. Only target types int, short, long, double, boolean, string, and bytes
    * are supported.
@@ -83,20 +112,36 @@ public final class ColumnConverter {
       if (object == null || (object instanceof String && ((String) object).trim().isEmpty())) {
         return;
       }
-      try {
-        Object converted = ColumnConverter.convertType(column, toType, object);
-        if (toType.equalsIgnoreCase(ColumnTypeNames.DECIMAL)) {
-          row.setValue(idx, setDecimalScaleAndPrecision((BigDecimal) converted, scale,
-              precision, roundingMode));
-        } else {
-          row.setValue(idx, converted);
-        }
-      } catch (DirectiveExecutionException e) {
-        throw e;
-      } catch (Exception e) {
-        throw new DirectiveExecutionException(
-            directiveName, String.format("Column '%s' cannot be converted to a '%s'.", column, toType), e);
+      row.setValue(idx, convertType(directiveName, column, object, toType, scale, precision, roundingMode));
+    }
+  }
+
+  /**
+   * Converts a value of a column into another type. Null values and blank strings are not converted.
+   *
+   * @param column name of the column holding the value.
+   * @param object value to be converted.
+   * @param toType the target type of the column.
+   * @return the converted value.
+   * @throws DirectiveExecutionException when an unsupported type is specified or the value can not be converted.
+   */
+  public static Object convertType(String directiveName, String column, @Nullable Object object, String toType,
+      Integer scale, Integer precision, RoundingMode roundingMode)
+      throws DirectiveExecutionException {
+    if (object == null || (object instanceof String && ((String) object).trim().isEmpty())) {
+      return object;
+    }
+    try {
+      Object converted = ColumnConverter.convertType(column, toType, object);
+      if (toType.equalsIgnoreCase(ColumnTypeNames.DECIMAL)) {
+        return setDecimalScaleAndPrecision((BigDecimal) converted, scale, precision, roundingMode);
       }
+      return converted;
+    } catch (DirectiveExecutionException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new DirectiveExecutionException(
+          directiveName, String.format("Column '%s' cannot be converted to a '%s'.", column, toType), e);
     }
   }
 
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class <code>DelimitedLineTokenizer</code> splits a line into the fields of delimited records, the same way as
+ * <code>CSVParser</code> with <code>CSVFormat.DEFAULT</code> and the given delimiter does.
+ *
+ * <p>Fields may be enclosed in quotes, in which case they can contain delimiters and line breaks, and a quote is
+ * escaped by doubling it. Whitespace between a closing quote and the next delimiter is ignored. Empty lines are
+ * skipped, and a line containing line breaks holds one record per line.</p>
+ *
+ * <p>Unlike <code>CSVParser</code>, an instance is created once and reused for every line. Fields are substrings of
+ * the line, only fields with escaped quotes are copied through a reused buffer. This class is not thread safe.</p>
+ */
+public final class DelimitedLineTokenizer {
+  private static final int END_OF_STREAM = -1;
+  private static final int UNDEFINED = -2;
+  private static final char CR = '\r';
+  private static final char LF = '\n';
+
+  // Types of the tokens read from the line.
+  private static final int TOKEN = 0;
+  private static final int END_OF_RECORD = 1;
+  // Last token of the line, which holds a field.
+  private static final int END_OF_LINE = 2;
+  // No more tokens.
+  private static final int END = 3;
+
+  private final char delimiter;
+  private final char quote;
+  private final StringBuilder buffer = new StringBuilder();
+  private final List<String> fields = new ArrayList<>();
+
+  private String line;
+  private int length;
+  private int position;
+  private int lastChar;
+  // Value of the last token read.
+  private String value;
+
+  /**
+   * Creates a tokenizer for fields quoted with double quotes.
+   *
+   * @param delimiter of the fields.
+   */
+  public DelimitedLineTokenizer(char delimiter) {
+    this(delimiter, '"');
+  }
+
+  /**
+   * Creates a tokenizer.
+   *
+   * @param delimiter of the fields.
+   * @param quote character enclosing the fields containing delimiters, quotes or line breaks.
+   */
+  public DelimitedLineTokenizer(char delimiter, char quote) {
+    if (delimiter == CR || delimiter == LF) {
+      throw new IllegalArgumentException("The delimiter cannot be a line break");
+    }
+    if (quote == CR || quote == LF) {
+      throw new IllegalArgumentException("The quote character cannot be a line break");
+    }
+    if (delimiter == quote) {
+      throw new IllegalArgumentException(
+        String.format("The quote character and the delimiter cannot be the same ('%s')", quote));
+    }
+    this.delimiter = delimiter;
+    this.quote = quote;
+  }
+
+  /**
+   * Starts tokenizing a line, dropping the fields of the previous line.
+   *
+   * @param line to be split into records.
+   * @return 'this' tokenizer.
+   */
+  public DelimitedLineTokenizer reset(String line) {
+    this.line = line;
+    this.length = line.length();
+    this.position = 0;
+    this.lastChar = UNDEFINED;
+    this.fields.clear();
+    return this;
+  }
+
+  /**
+   * Reads the next record of the line.
+   *
+   * @return true if a record was read, false if there are no more records in the line.
+   * @throws IOException if a quoted field is not properly closed.
+   */
+  public boolean next() throws IOException {
+    fields.clear();
+    int type;
+    do {
+      type = nextToken();
+      if (type != END) {
+        fields.add(value);
+      }
+    } while (type == TOKEN);
+    return !fields.isEmpty();
+  }
+
+  /**
+   * @return number of fields of the current record.
+   */
+  public int size() {
+    return fields.size();
+  }
+
+  /**
+   * @param idx of the field in the current record.
+   * @return value of the field.
+   */
+  public String get(int idx) {
+    return fields.get(idx);
+  }
+
+  private int nextToken() throws IOException {
+    int last = lastChar;
+    int c = read();
+    boolean eol = readEndOfLine(c);
+    // Skips empty lines.
+    while (eol && isStartOfLine(last)) {
+      last = c;
+      c = read();
+      eol = readEndOfLine(c);
+      if (c == END_OF_STREAM) {
+        return END;
+      }
+    }
+    if (last == END_OF_STREAM || (last != delimiter && c == END_OF_STREAM)) {
+      return END;
+    }
+    value = "";
+    if (c == delimiter) {
+      return TOKEN;
+    }
+    if (eol) {
+      return END_OF_RECORD;
+    }
+    if (c == quote) {
+      return readQuoted();
+    }
+    if (c == END_OF_STREAM) {
+      return END_OF_LINE;
+    }
+    return readSimple(c);
+  }
+
+  private int readSimple(int c) {
+    int start = position - 1;
+    while (true) {
+      if (c == END_OF_STREAM) {
+        value = line.substring(start);
+        return END_OF_LINE;
+      }
+      int end = position - 1;
+      if (readEndOfLine(c)) {
+        value = line.substring(start, end);
+        return END_OF_RECORD;
+      }
+      if (c == delimiter) {
+        value = line.substring(start, end);
+        return TOKEN;
+      }
+      c = read();
+    }
+  }
+
+  private int readQuoted() throws IOException {
+    int startPosition = position;
+    int start = position;
+    boolean escaped = false;
+    while (true) {
+      int c = read();
+      if (c == quote) {
+        if (lookAhead() == quote) {
+          // An escaped quote, the part read so far and one quote are copied to the buffer.
+          if (!escaped) {
+            buffer.setLength(0);
+            escaped = true;
+          }
+          buffer.append(line, start, position);
+          read();
+          start = position;
+          continue;
+        }
+        value = escaped ? buffer.append(line, start, position - 1).toString() : line.substring(start, position - 1);
+        while (true) {
+          c = read();
+          if (c == delimiter) {
+            return TOKEN;
+          }
+          if (c == END_OF_STREAM) {
+            return END_OF_LINE;
+          }
+          if (readEndOfLine(c)) {
+            return END_OF_RECORD;
+          }
+          if (!Character.isWhitespace((char) c)) {
+            throw new IOException(String.format("(line %d) invalid char between encapsulated token and delimiter",
+                                                countLineBreaks(position) + 1));
+          }
+        }
+      }
+      if (c == END_OF_STREAM) {
+        throw new IOException(String.format("(startline %d) EOF reached before encapsulated token finished",
+                                            countLineBreaks(startPosition) + 1));
+      }
+    }
+  }
+
+  private int read() {
+    lastChar = position < length ? line.charAt(position++) : END_OF_STREAM;
+    return lastChar;
+  }
+
+  private int lookAhead() {
+    return position < length ? line.charAt(position) : END_OF_STREAM;
+  }
+
+  /**
+   * Tells whether the character is a line break, reading the line feed of a carriage return line feed pair.
+   */
+  private boolean readEndOfLine(int c) {
+    if (c == CR && lookAhead() == LF) {
+      c = read();
+    }
+    return c == LF || c == CR;
+  }
+
+  private static boolean isStartOfLine(int c) {
+    return c == LF || c == CR || c == UNDEFINED;
+  }
+
+  /**
+   * Counts the line breaks before the given position, only used to report errors.
+   */
+  private int countLineBreaks(int end) {
+    int count = 0;
+    for (int i = 0; i < end; i++) {
+      char c = line.charAt(i);
+      if (c == CR || (c == LF && (i == 0 || line.charAt(i - 1) != CR))) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -26,9 +26,12 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import io.cdap.cdap.api.artifact.ArtifactId;
 import io.cdap.cdap.api.data.schema.Schema;
 import io.cdap.wrangler.api.RemoteDirectiveResponse;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.parser.DirectiveClass;
+import io.cdap.wrangler.registry.DirectiveScope;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -72,6 +75,8 @@ public class KryoSerializer {
     kryo.register(java.sql.Date.class);
     kryo.register(Time.class);
     kryo.register(Timestamp.class);
+    // DirectiveClass does not have no-arg constructor, it is sent in remote directive requests
+    kryo.register(DirectiveClass.class, new DirectiveClassSerializer());
   }
 
   public byte[] fromRemoteDirectiveResponse(RemoteDirectiveResponse response) {
@@ -85,6 +90,51 @@ public class KryoSerializer {
     return (RemoteDirectiveResponse) kryo.readClassAndObject(input);
   }
 
+  /**
+   * Serializes an object with its class. The class must have a no-arg constructor, and all its fields must be
+   * registered with this serializer or have a no-arg constructor.
+   *
+   * @param object to serialize
+   * @return the serialized bytes
+   */
+  public byte[] fromObject(Object object) {
+    Output output = new Output(1024, -1);
+    kryo.writeClassAndObject(output, object);
+    return output.toBytes();
+  }
+
+  /**
+   * Deserializes an object serialized by {@link #fromObject(Object)}.
+   *
+   * @param bytes the serialized bytes
+   * @param type of the object
+   * @return the deserialized object
+   */
+  public <T> T toObject(byte[] bytes, Class<T> type) {
+    return type.cast(kryo.readClassAndObject(new Input(bytes)));
+  }
+
+  static class DirectiveClassSerializer extends Serializer<DirectiveClass> {
+
+    @Override
+    public void write(Kryo kryo, Output output, DirectiveClass object) {
+      output.writeString(object.getName());
+      output.writeString(object.getClassName());
+      output.writeString(object.getScope().name());
+      output.writeString(object.getArtifactId() == null ? null : GSON.toJson(object.getArtifactId()));
+    }
+
+    @Override
+    public DirectiveClass read(Kryo kryo, Input input, Class<DirectiveClass> type) {
+      String name = input.readString();
+      String className = input.readString();
+      DirectiveScope scope = DirectiveScope.valueOf(input.readString());
+      String artifactId = input.readString();
+      return new DirectiveClass(name, className, scope,
+                                artifactId == null ? null : GSON.fromJson(artifactId, ArtifactId.class));
+    }
+  }
+
   static class JsonSerializer extends Serializer<JsonElement> {
 
     @Override
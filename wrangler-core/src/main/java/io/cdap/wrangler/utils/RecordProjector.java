@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.utils;
+
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.format.UnexpectedFormatException;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Row;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Writes {@link Row}s into {@link StructuredRecord}s of a fixed output schema.
+ *
+ * <p>Produces the same records as {@link RecordConvertor#decodeRecord(Row, Schema)} followed by a copy into a
+ * builder of the same schema, but with a single builder and a single walk over the fields. Field names,
+ * nullability and the type a value can be set without conversion are resolved once per schema, values of
+ * that type are set as is and all the others go through {@link RecordConvertor}.</p>
+ */
+public final class RecordProjector {
+  private final Schema schema;
+  private final FieldWriter[] writers;
+  private final RecordConvertor convertor = new RecordConvertor();
+
+  public RecordProjector(Schema schema) {
+    this.schema = schema;
+    List<Schema.Field> fields = schema.getFields();
+    this.writers = new FieldWriter[fields.size()];
+    for (int i = 0; i < writers.length; i++) {
+      writers[i] = new FieldWriter(fields.get(i));
+    }
+  }
+
+  /**
+   * @return the output schema of the records.
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Converts a Wrangler {@link Row} into a {@link StructuredRecord} of the output schema.
+   *
+   * @param row to be converted.
+   * @return Populated {@link StructuredRecord}
+   */
+  public StructuredRecord project(Row row) throws RecordConvertorException {
+    StructuredRecord.Builder builder = StructuredRecord.builder(schema);
+    // A row holding just a record is emitted as that record, copied field by field into the output schema.
+    if (row.width() == 1 && row.getValue(0) instanceof StructuredRecord) {
+      StructuredRecord record = (StructuredRecord) row.getValue(0);
+      for (FieldWriter writer : writers) {
+        writer.copy(builder, record.get(writer.name));
+      }
+      return builder.build();
+    }
+
+    // Rows usually list their columns in the order of the output schema, so positions are tried first.
+    int firstUnclaimedField = 0;
+    for (FieldWriter writer : writers) {
+      String name = writer.name;
+      int idx;
+      if (firstUnclaimedField < row.width() && name.equals(row.getColumn(firstUnclaimedField))) {
+        idx = firstUnclaimedField;
+        firstUnclaimedField++;
+      } else {
+        idx = row.find(name, firstUnclaimedField);
+        if (idx == firstUnclaimedField) {
+          firstUnclaimedField++;
+        }
+      }
+      writer.write(builder, idx == -1 ? null : row.getValue(idx), convertor);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Sets one field of the output record, resolved once from the schema of the field.
+   */
+  private static final class FieldWriter {
+    private final String name;
+    private final Schema schema;
+    private final boolean nullable;
+    // Class of the values that decoding leaves untouched and that can be set as is, null if there is none.
+    private final Class<?> direct;
+
+    FieldWriter(Schema.Field field) {
+      this.name = field.getName();
+      this.schema = field.getSchema();
+      this.nullable = schema.isNullable();
+      Schema nonNullable = nullable ? schema.getNonNullable() : schema;
+      this.direct = nonNullable.getLogicalType() == null ? directClass(nonNullable.getType()) : null;
+    }
+
+    private static Class<?> directClass(Schema.Type type) {
+      switch (type) {
+        case BOOLEAN:
+          return Boolean.class;
+        case INT:
+          return Integer.class;
+        case LONG:
+          return Long.class;
+        case FLOAT:
+          return Float.class;
+        case DOUBLE:
+          return Double.class;
+        case STRING:
+          return String.class;
+        default:
+          return null;
+      }
+    }
+
+    void write(StructuredRecord.Builder builder, Object value, RecordConvertor convertor)
+      throws RecordConvertorException {
+      try {
+        if (value == null && nullable) {
+          builder.set(name, null);
+        } else if (value != null && value.getClass() == direct) {
+          // String to a non empty string is the only conversion, and it is the identity.
+          builder.set(name, value);
+        } else {
+          set(builder, convertor.decode(name, value, schema));
+        }
+      } catch (UnexpectedFormatException e) {
+        throw new RecordConvertorException(
+          String.format("Field '%s' of type '%s' cannot be set to '%s'. Make sure the value is " +
+                          "being set is inline with the specified schema.",
+                        name, nullable ? schema.getNonNullable().getDisplayName() : schema.getDisplayName(),
+                        value == null ? "NULL" : value), e);
+      }
+    }
+
+    private void set(StructuredRecord.Builder builder, Object decoded) {
+      if (decoded instanceof String) {
+        builder.convertAndSet(name, (String) decoded);
+      } else if (decoded instanceof LocalDate) {
+        builder.setDate(name, (LocalDate) decoded);
+      } else if (decoded instanceof LocalTime) {
+        builder.setTime(name, (LocalTime) decoded);
+      } else if (decoded instanceof ZonedDateTime) {
+        builder.setTimestamp(name, (ZonedDateTime) decoded);
+      } else if (decoded instanceof BigDecimal) {
+        builder.setDecimal(name, (BigDecimal) decoded);
+      } else if (decoded instanceof LocalDateTime) {
+        builder.setDateTime(name, (LocalDateTime) decoded);
+      } else {
+        builder.set(name, decoded);
+      }
+    }
+
+    void copy(StructuredRecord.Builder builder, Object value) {
+      if (value instanceof String) {
+        builder.convertAndSet(name, (String) value);
+      } else {
+        builder.set(name, value);
+      }
+    }
+  }
+}
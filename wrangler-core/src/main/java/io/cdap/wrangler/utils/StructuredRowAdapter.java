@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.utils;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.cdap.cdap.api.common.Bytes;
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.format.UnexpectedFormatException;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Row;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Converts {@link StructuredRecord}s of one schema into {@link Row}s, the same way
+ * {@link StructuredToRowTransformer} does.
+ *
+ * <p>How each field is read and converted is resolved once per schema, instead of looking the field up and
+ * switching on its type for every record. Adapters are cached by schema, see {@link #of(Schema)}.</p>
+ */
+public final class StructuredRowAdapter {
+  private static final LoadingCache<Schema, StructuredRowAdapter> ADAPTERS = CacheBuilder.newBuilder()
+    .maximumSize(256)
+    .build(CacheLoader.from(StructuredRowAdapter::new));
+
+  // Adapter returned last, records of a stage almost always share the same schema instance.
+  private static volatile StructuredRowAdapter last;
+
+  private final Schema schema;
+  private final String[] names;
+  private final FieldReader[] readers;
+  private final Map<String, Integer> positions = new HashMap<>();
+
+  private StructuredRowAdapter(Schema schema) {
+    this.schema = schema;
+    List<Schema.Field> fields = schema.getFields();
+    this.names = new String[fields.size()];
+    this.readers = new FieldReader[fields.size()];
+    for (int i = 0; i < names.length; i++) {
+      Schema.Field field = fields.get(i);
+      names[i] = field.getName();
+      readers[i] = reader(field);
+      positions.putIfAbsent(names[i], i);
+    }
+  }
+
+  /**
+   * @param schema of the records to be converted.
+   * @return the adapter for records of the schema.
+   */
+  public static StructuredRowAdapter of(Schema schema) {
+    StructuredRowAdapter adapter = last;
+    if (adapter == null || adapter.schema != schema) {
+      adapter = ADAPTERS.getUnchecked(schema);
+      last = adapter;
+    }
+    return adapter;
+  }
+
+  /**
+   * @return the schema of the records converted by this adapter.
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Converts the record into a row, with one column per field of the record.
+   *
+   * @param record the record to transform
+   * @return the row corresponding to the record
+   */
+  public Row toRow(StructuredRecord record) {
+    return toRow(record, false);
+  }
+
+  /**
+   * Converts the record into a row, with one column per field of the record.
+   *
+   * @param record the record to transform
+   * @param lazyNested whether nested records and arrays are only converted once a directive reads them.
+   * @return the row corresponding to the record
+   */
+  public Row toRow(StructuredRecord record, boolean lazyNested) {
+    Row row = new Row().ensureCapacity(names.length);
+    for (int i = 0; i < names.length; i++) {
+      FieldReader reader = readers[i];
+      if (lazyNested && reader instanceof NestedReader) {
+        Object value = record.get(names[i]);
+        if (value != null) {
+          ValueConverter converter = ((NestedReader) reader).converter;
+          String name = names[i];
+          row.addLazy(name, () -> converter.convert(value, name));
+          continue;
+        }
+      }
+      row.add(names[i], reader.read(record));
+    }
+    return row;
+  }
+
+  /**
+   * Get the field value from the given record
+   *
+   * @param record input record
+   * @param fieldName field name to get value from
+   * @return the value of the field in the row
+   */
+  @Nullable
+  public Object getValue(StructuredRecord record, String fieldName) {
+    Integer position = positions.get(fieldName);
+    if (position == null) {
+      throw new IllegalArgumentException(String.format("Field '%s' is not in the schema of the record.", fieldName));
+    }
+    return readers[position].read(record);
+  }
+
+  /**
+   * Reads the value of one field from a record.
+   */
+  private interface FieldReader {
+    @Nullable
+    Object read(StructuredRecord record);
+  }
+
+  /**
+   * Converts a value of a field, or of an element of an array field, into its row representation.
+   */
+  private interface ValueConverter {
+    @Nullable
+    Object convert(Object value, String fieldName);
+  }
+
+  /**
+   * Reads and converts fields that hold records or arrays.
+   */
+  private static final class NestedReader implements FieldReader {
+    private final String name;
+    private final ValueConverter converter;
+
+    NestedReader(String name, ValueConverter converter) {
+      this.name = name;
+      this.converter = converter;
+    }
+
+    @Nullable
+    @Override
+    public Object read(StructuredRecord record) {
+      Object value = record.get(name);
+      return value == null ? null : converter.convert(value, name);
+    }
+  }
+
+  /**
+   * Converts nested records with the adapter of their own schema, remembering the last one used.
+   */
+  private static final class RecordConverter implements ValueConverter {
+    private volatile StructuredRowAdapter adapter;
+
+    @Override
+    public Object convert(Object value, String fieldName) {
+      StructuredRecord record = (StructuredRecord) value;
+      StructuredRowAdapter current = adapter;
+      if (current == null || current.schema != record.getSchema()) {
+        current = ADAPTERS.getUnchecked(record.getSchema());
+        adapter = current;
+      }
+      return current.toRow(record);
+    }
+  }
+
+  private static FieldReader reader(Schema.Field field) {
+    String name = field.getName();
+    Schema fieldSchema = field.getSchema();
+    fieldSchema = fieldSchema.isNullable() ? fieldSchema.getNonNullable() : fieldSchema;
+    Schema.LogicalType logicalType = fieldSchema.getLogicalType();
+
+    if (logicalType != null) {
+      switch (logicalType) {
+        case DATE:
+          return record -> record.getDate(name);
+        case TIME_MILLIS:
+        case TIME_MICROS:
+          return record -> record.getTime(name);
+        case TIMESTAMP_MILLIS:
+        case TIMESTAMP_MICROS:
+          return record -> record.getTimestamp(name);
+        case DECIMAL:
+          return record -> record.getDecimal(name);
+        case DATETIME:
+          return record -> record.getDateTime(name);
+        default:
+          return record -> {
+            throw new UnexpectedFormatException("Field type " + logicalType + " is not supported.");
+          };
+      }
+    }
+
+    ValueConverter converter = converter(fieldSchema);
+    if (converter == null) {
+      return record -> record.get(name);
+    }
+    if (fieldSchema.getType() == Schema.Type.BYTES) {
+      return record -> {
+        Object value = record.get(name);
+        return value == null ? null : converter.convert(value, name);
+      };
+    }
+    return new NestedReader(name, converter);
+  }
+
+  /**
+   * @return the converter for values of the schema, null when values are used as they are.
+   */
+  @Nullable
+  private static ValueConverter converter(Schema schema) {
+    switch (schema.getType()) {
+      // if the type is bytes, need to make sure the value is byte array since byte buffer is not serializable
+      case BYTES:
+        return (value, fieldName) -> value instanceof ByteBuffer ? Bytes.toBytes((ByteBuffer) value) : value;
+      case RECORD:
+        return new RecordConverter();
+      case ARRAY:
+        Schema componentSchema = schema.getComponentSchema();
+        ValueConverter component = componentSchema == null ? null : converter(componentSchema);
+        return (value, fieldName) -> {
+          if (!(value instanceof Iterable)) {
+            throw new IllegalArgumentException(
+              "Field " + fieldName + " expected an array but received an invalid value");
+          }
+          List<Object> rowList = value instanceof List ? new ArrayList<>(((List<?>) value).size()) : new ArrayList<>();
+          for (Object item : (Iterable<?>) value) {
+            rowList.add(item == null || component == null ? item : component.convert(item, fieldName));
+          }
+          return rowList;
+        };
+      default:
+        // If the logical type is present in complex types, it will be retrieved as corresponding
+        // simple type (int/long).
+        return null;
+    }
+  }
+}
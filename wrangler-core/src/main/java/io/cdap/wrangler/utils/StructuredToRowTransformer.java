@@ -17,19 +17,15 @@
 
 package io.cdap.wrangler.utils;
 
-import io.cdap.cdap.api.common.Bytes;
 import io.cdap.cdap.api.data.format.StructuredRecord;
-import io.cdap.cdap.api.data.format.UnexpectedFormatException;
-import io.cdap.cdap.api.data.schema.Schema;
 import io.cdap.wrangler.api.Row;
 
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
 import javax.annotation.Nullable;
 
 /**
  * Transformer to transform {@link StructuredRecord} to {@link Row}
+ *
+ * @see StructuredRowAdapter
  */
 public class StructuredToRowTransformer {
   private StructuredToRowTransformer() {
@@ -42,11 +38,7 @@ public class StructuredToRowTransformer {
    * @return the row corresponding to the record
    */
   public static Row transform(StructuredRecord record) {
-    Row row = new Row();
-    for (Schema.Field field : record.getSchema().getFields()) {
-      row.add(field.getName(), getValue(record, field.getName()));
-    }
-    return row;
+    return StructuredRowAdapter.of(record.getSchema()).toRow(record);
   }
 
   /**
@@ -58,63 +50,6 @@ public class StructuredToRowTransformer {
    */
   @Nullable
   public static Object getValue(StructuredRecord input, String fieldName) {
-    Schema fieldSchema = input.getSchema().getField(fieldName).getSchema();
-    fieldSchema = fieldSchema.isNullable() ? fieldSchema.getNonNullable() : fieldSchema;
-    Schema.LogicalType logicalType = fieldSchema.getLogicalType();
-
-    if (logicalType != null) {
-      switch (logicalType) {
-        case DATE:
-          return input.getDate(fieldName);
-        case TIME_MILLIS:
-        case TIME_MICROS:
-          return input.getTime(fieldName);
-        case TIMESTAMP_MILLIS:
-        case TIMESTAMP_MICROS:
-          return input.getTimestamp(fieldName);
-        case DECIMAL:
-          return input.getDecimal(fieldName);
-        case DATETIME:
-          return input.getDateTime(fieldName);
-        default:
-          throw new UnexpectedFormatException("Field type " + logicalType + " is not supported.");
-      }
-    }
-
-    Object val = input.get(fieldName);
-    return processValue(val, fieldSchema, fieldName);
-  }
-
-  @Nullable
-  private static Object processValue(@Nullable Object val, Schema schema, String fieldName) {
-    if (val == null) {
-      return null;
-    }
-    switch(schema.getType()) {
-      // if the type is bytes, need to make sure the value is byte array since byte buffer is not serializable
-      case BYTES:
-        return val instanceof ByteBuffer ? Bytes.toBytes((ByteBuffer) val) : val;
-      // Recursively process structured records.
-      case RECORD:
-        return transform((StructuredRecord) val);
-      case ARRAY:
-        if (val instanceof Iterable) {
-          List<Object> rowList = new ArrayList<>();
-          for (Object item : (Iterable<?>) val) {
-            if ((item != null) && (schema.getComponentSchema() != null)) {
-              rowList.add(processValue(item, schema.getComponentSchema(), fieldName));
-            } else {
-              rowList.add(item);
-            }
-          }
-          return rowList;
-        } else {
-          throw new IllegalArgumentException("Field " + fieldName + " expected an array but received an invalid value");
-        }
-      default:
-        // If the logical type is present in complex types, it will be retrieved as corresponding
-        // simple type (int/long).
-        return val;
-    }
+    return StructuredRowAdapter.of(input.getSchema()).getValue(input, fieldName);
   }
 }
@@ -17,6 +17,7 @@
 package io.cdap.directives.parser;
 
 import io.cdap.wrangler.TestingRig;
+import io.cdap.wrangler.api.Pair;
 import io.cdap.wrangler.api.Row;
 import org.junit.Assert;
 import org.junit.Test;
@@ -142,4 +143,24 @@ public class CsvParserTest {
     Assert.assertEquals("0033445566", rows.get(0).getValue("student_id"));
     Assert.assertEquals("0044333433", rows.get(1).getValue("student_id"));
   }
+
+  @Test
+  public void testQuotedFieldsAndUnclosedQuote() throws Exception {
+    String[] directives = new String[] { "parse-as-csv body , false" };
+
+    List<Row> rows = Arrays.asList(
+      new Row("body", "1,\"Potter, Harry\",\"say \"\"hi\"\"\""),
+      new Row("body", "2,\"Weasley"),
+      new Row("body", "3,Granger,Hermione,extra")
+    );
+
+    Pair<List<Row>, List<Row>> result = TestingRig.executeWithErrors(directives, rows);
+    List<Row> results = result.getFirst();
+    Assert.assertEquals(2, results.size());
+    Assert.assertEquals(1, result.getSecond().size());
+    Assert.assertEquals("Potter, Harry", results.get(0).getValue("body_2"));
+    Assert.assertEquals("say \"hi\"", results.get(0).getValue("body_3"));
+    Assert.assertEquals("extra", results.get(1).getValue("body_4"));
+    Assert.assertEquals(5, results.get(1).width());
+  }
 }
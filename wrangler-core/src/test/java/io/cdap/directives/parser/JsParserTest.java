@@ -16,12 +16,14 @@
 
 package io.cdap.directives.parser;
 
+import com.google.gson.JsonParser;
 import io.cdap.wrangler.TestingRig;
 import io.cdap.wrangler.api.Row;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -267,4 +269,81 @@ public class JsParserTest {
     Assert.assertNotEquals(rows.get(0).find("body6_name_first_n"), -1);
     Assert.assertNotEquals(rows.get(0).find("body6_name_first_m"), -1);
   }
+
+  @Test
+  public void testParseSelectedFields() throws Exception {
+    String[] directives = new String[] {
+      "parse-as-json body 3 'name.first,age'"
+    };
+
+    List<Row> rows = Arrays.asList(
+      new Row("body", "{\"id\": 1, \"name\": {\"first\": \"Root\", \"last\": \"Joltie\"}, \"age\": 22}"),
+      new Row("body", "[{\"age\": 21}]")
+    );
+
+    rows = TestingRig.execute(directives, rows);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals(2, rows.get(0).width());
+    Assert.assertEquals("Root", rows.get(0).getValue("body_name_first"));
+    Assert.assertEquals(22L, rows.get(0).getValue("body_age"));
+    // Arrays are not projected.
+    Assert.assertEquals(1, rows.get(1).width());
+  }
+
+  @Test
+  public void testParseSelectedFieldsWithDuplicateKeys() throws Exception {
+    String[] directives = new String[] {
+      "parse-as-json body 3 'name.first,age'"
+    };
+
+    // Duplicate keys are parsed into a tree, where the last value of the key is kept.
+    List<Row> rows = Collections.singletonList(
+      new Row("body", "{\"id\": 1, \"name\": {\"first\": \"Old\"}, \"name\": {\"first\": \"Root\", " +
+        "\"last\": \"Joltie\"}, \"age\": 22}")
+    );
+
+    rows = TestingRig.execute(directives, rows);
+    Assert.assertEquals(1, rows.size());
+    Assert.assertEquals(2, rows.get(0).width());
+    Assert.assertEquals("Root", rows.get(0).getValue("body_name_first"));
+    Assert.assertEquals(22L, rows.get(0).getValue("body_age"));
+  }
+
+  @Test
+  public void testParseSelectedFieldsOfNonObjectDocument() throws Exception {
+    String[] selected = new String[] {
+      "parse-as-json body 3 'age'"
+    };
+    String[] all = new String[] {
+      "parse-as-json body 3"
+    };
+
+    // The fields select members of objects, the elements of an array are kept as they are.
+    String document = "[{\"id\": 1, \"age\": 21}, {\"id\": 2}]";
+    List<Row> rows = TestingRig.execute(selected, Collections.singletonList(new Row("body", document)));
+    Assert.assertEquals(TestingRig.execute(all, Collections.singletonList(new Row("body", document))), rows);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals(new JsonParser().parse("{\"id\": 2}"), rows.get(1).getValue("body"));
+  }
+
+  @Test
+  public void testParseSelectedFieldsOfParsedValues() throws Exception {
+    String[] directives = new String[] {
+      "parse-as-json body 3 'name.first,age'"
+    };
+
+    JsonParser parser = new JsonParser();
+    List<Row> rows = Arrays.asList(
+      new Row("body", parser.parse("{\"id\": 1, \"name\": {\"first\": \"Root\", \"last\": \"Joltie\"}, " +
+        "\"age\": 22}")),
+      new Row("body", parser.parse("[{\"id\": 2, \"age\": 21}]"))
+    );
+
+    rows = TestingRig.execute(directives, rows);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals(2, rows.get(0).width());
+    Assert.assertEquals("Root", rows.get(0).getValue("body_name_first"));
+    Assert.assertEquals(22L, rows.get(0).getValue("body_age"));
+    Assert.assertEquals(parser.parse("{\"id\": 2, \"age\": 21}"), rows.get(1).getValue("body"));
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.parser;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cdap.wrangler.api.Row;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests {@link JsonStreamFlattener}
+ */
+public class JsonStreamFlattenerTest {
+  private static final String DOCUMENT = "{\"id\": 1, \"name\": {\"first\": {\"n\": \"Root\", \"m\": null}, " +
+    "\"last\": \"Joltie\"}, \"tags\": [1, {\"a\": 2}], \"height\": 5.8, \"big\": 12345678901234567890, " +
+    "\"ok\": true, \"empty\": {}}  ";
+
+  @Test
+  public void testSameAsTreeFlattening() {
+    for (int depth : new int[] {1, 2, 3, Integer.MAX_VALUE}) {
+      Row expected = new Row("other", 1);
+      JsParser.jsonFlatten(new JsonParser().parse(DOCUMENT).getAsJsonObject(), "body", 1, depth, expected);
+
+      Row actual = new Row("other", 1);
+      Assert.assertTrue(new JsonStreamFlattener("body", depth, Collections.emptyList()).flatten(DOCUMENT, actual));
+      Assert.assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testProjection() {
+    JsonStreamFlattener flattener = new JsonStreamFlattener("body", Integer.MAX_VALUE,
+                                                            Arrays.asList("name.first.n", "ok", "id.x", "empty"));
+    Row row = new Row();
+    Assert.assertTrue(flattener.flatten(DOCUMENT, row));
+    Assert.assertEquals(new Row("body_name_first_n", "Root").add("body_ok", true), row);
+
+    // Objects deeper than the depth are kept whole.
+    flattener = new JsonStreamFlattener("body", 1, Arrays.asList("name.last", "name"));
+    row = new Row();
+    Assert.assertTrue(flattener.flatten(DOCUMENT, row));
+    Assert.assertEquals(1, row.width());
+    Assert.assertEquals("Joltie", ((JsonObject) row.getValue("body_name")).get("last").getAsString());
+  }
+
+  @Test
+  public void testDocumentsLeftToTreeParsing() {
+    JsonStreamFlattener flattener = new JsonStreamFlattener("body", Integer.MAX_VALUE, Collections.emptyList());
+    for (String document : new String[] {"[1, 2]", "5", "", "{\"a\": 1, \"a\": 2}", "{\"a\": {\"b\": 1} x",
+      "{\"a\": 1} {\"b\": 2}", "\u0001{\"a\": 1}"}) {
+      Row row = new Row("body", document).add("other", 1);
+      Assert.assertFalse(document, flattener.flatten(document, row));
+      Assert.assertEquals(new Row("body", document).add("other", 1), row);
+    }
+    Assert.assertFalse(new JsonStreamFlattener("body", 0, Collections.emptyList()).flatten("{}", new Row()));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.parser;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Tests {@link NaturalDateParser}
+ */
+public class NaturalDateParserTest {
+  private static final TimeZone TIMEZONE = TimeZone.getTimeZone("America/Los_Angeles");
+
+  @Test
+  public void testDetectsFormat() {
+    NaturalDateParser parser = new NaturalDateParser(TIMEZONE);
+    Parser natty = new Parser(TIMEZONE);
+    // Includes the hour the clocks are set back.
+    for (int day = 1; day <= NaturalDateParser.DETECTION_MATCHES + 5; day++) {
+      String value = String.format("2020-11-%02d 01:%02d:30", day, day * 3);
+      Assert.assertEquals(value, parse(natty, value), parser.parse(value));
+      Assert.assertEquals(day >= NaturalDateParser.DETECTION_MATCHES, parser.getFormat() != null);
+    }
+
+    // Values that do not match the format are parsed with natty.
+    for (String value : new String[] {"Jan 2, 2017 10:20:30", "2017-02-30 10:20:30", "2017-01-02T10:20:30Z", "x"}) {
+      Assert.assertEquals(value, parse(natty, value), parser.parse(value));
+    }
+  }
+
+  @Test
+  public void testDatesWithoutTimeAreNotDetected() {
+    NaturalDateParser parser = new NaturalDateParser(TIMEZONE);
+    for (int day = 1; day <= NaturalDateParser.DETECTION_MATCHES * 2; day++) {
+      Assert.assertEquals(1, parser.parse(String.format("2017-01-%02d", day)).size());
+    }
+    Assert.assertNull(parser.getFormat());
+  }
+
+  @Test
+  public void testDetectsFormatAfterOtherValues() {
+    NaturalDateParser parser = new NaturalDateParser(TIMEZONE);
+    parser.parse("2017-01-02 10:20:30 and 2017-01-03 10:20:30");
+    for (int day = 1; day <= NaturalDateParser.DETECTION_MATCHES * 2; day++) {
+      parser.parse(String.format("01/%02d/2017 10:20", day));
+    }
+    Assert.assertEquals("Value(MonthOfYear,2)'/'Value(DayOfMonth,2)'/'Value(Year,4,19,EXCEEDS_PAD)' '" +
+                          "Value(HourOfDay,2)':'Value(MinuteOfHour,2)", parser.getFormat().toString());
+  }
+
+  private static List<List<ZonedDateTime>> parse(Parser natty, String value) {
+    List<List<ZonedDateTime>> result = new ArrayList<>();
+    for (DateGroup group : natty.parse(value)) {
+      List<ZonedDateTime> dates = new ArrayList<>();
+      for (Date date : group.getDates()) {
+        dates.add(date.toInstant().atZone(TIMEZONE.toZoneId()));
+      }
+      result.add(dates);
+    }
+    return result;
+  }
+}
@@ -20,9 +20,13 @@ import io.cdap.wrangler.TestingRig;
 import io.cdap.wrangler.api.Pair;
 import io.cdap.wrangler.api.Row;
 import org.apache.commons.io.IOUtils;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,4 +91,72 @@ public class ParseExcelTest {
       }
     }
   }
+
+  @Test
+  public void testLimit() throws Exception {
+    try (InputStream stream = ParseAvroFileTest.class.getClassLoader().getResourceAsStream("titanic.xlsx")) {
+      byte[] data = IOUtils.toByteArray(stream);
+
+      String[] directives = new String[]{
+        "parse-as-excel :body '0' true 10",
+      };
+
+      List<Row> rows = new ArrayList<>();
+      rows.add(new Row("body", data));
+      rows.add(new Row("body", data));
+
+      List<Row> results = TestingRig.execute(directives, rows);
+      Assert.assertEquals(20, results.size());
+      for (int i = 0; i < 20; i += 10) {
+        Assert.assertEquals(1, results.get(i).getValue("fwd"));
+        Assert.assertEquals(9, results.get(i).getValue("bkd"));
+        Assert.assertEquals("1.0", results.get(i).getValue("PassengerId"));
+        Assert.assertEquals(10, results.get(i + 9).getValue("fwd"));
+        Assert.assertEquals(0, results.get(i + 9).getValue("bkd"));
+      }
+    }
+  }
+
+  @Test
+  public void testCellTypes() throws Exception {
+    XSSFWorkbook workbook = new XSSFWorkbook();
+    workbook.createSheet("First");
+    XSSFSheet sheet = workbook.createSheet("Second");
+    CellStyle date = workbook.createCellStyle();
+    date.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+    org.apache.poi.ss.usermodel.Row row = sheet.createRow(1);
+    row.createCell(0).setCellValue("text");
+    row.createCell(1).setCellValue(2.5);
+    row.createCell(2).setCellValue(true);
+    row.createCell(3).setCellFormula("1+1");
+    row.createCell(4).setCellValue(43101);
+    row.getCell(4).setCellStyle(date);
+    row.createCell(6).setCellStyle(date);
+    // Rows with only blank cells or blank strings are skipped.
+    sheet.createRow(2).createCell(0).setCellValue("  ");
+    sheet.createRow(3).createCell(27).setCellValue("last");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    workbook.write(out);
+
+    String[] directives = new String[]{
+      "parse-as-excel :body 'second'",
+    };
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row("body", out.toByteArray()).add("id", 7));
+
+    List<Row> results = TestingRig.execute(directives, rows);
+    Assert.assertEquals(2, results.size());
+    Row first = results.get(0);
+    Assert.assertEquals("text", first.getValue("A"));
+    Assert.assertEquals("2.5", first.getValue("B"));
+    Assert.assertEquals("true", first.getValue("C"));
+    Assert.assertEquals("", first.getValue("D"));
+    Assert.assertEquals("2018-01-01", first.getValue("E"));
+    Assert.assertEquals("", first.getValue("G"));
+    Assert.assertEquals(7, first.getValue("id"));
+    Assert.assertNull(first.getValue("body"));
+    Assert.assertEquals("last", results.get(1).getValue("AB"));
+    Assert.assertEquals(0, results.get(1).getValue("bkd"));
+  }
 }
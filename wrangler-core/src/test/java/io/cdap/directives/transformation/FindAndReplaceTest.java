@@ -51,4 +51,39 @@ public class FindAndReplaceTest {
                         rows.get(0).getValue("body"));
   }
 
+  @Test
+  public void testSubstituteFlags() throws Exception {
+    String[] directives = new String[] {
+      "find-and-replace first s/a(b?)/[$1]/2gi",
+      "find-and-replace second s/a(b?)/[$1]/2gi",
+      "find-and-replace third s/a/-/y",
+    };
+
+    List<Row> rows = Arrays.asList(
+      new Row("first", "ab ab AB").add("second", "$a a a").add("third", "aa")
+    );
+
+    rows = TestingRig.execute(directives, rows);
+
+    Assert.assertEquals(1, rows.size());
+    Assert.assertEquals("ab [b] [B]", rows.get(0).getValue("first"));
+    Assert.assertEquals("$a [] []", rows.get(0).getValue("second"));
+    Assert.assertEquals("aa", rows.get(0).getValue("third"));
+  }
+
+  @Test
+  public void testMultilineValues() throws Exception {
+    String[] directives = new String[] {
+      "find-and-replace body s/^a/b/",
+    };
+
+    List<Row> rows = Arrays.asList(
+      new Row("body", "ab\nab")
+    );
+
+    rows = TestingRig.execute(directives, rows);
+
+    // The whole value is a single line.
+    Assert.assertEquals("bb\nab", rows.get(0).getValue("body"));
+  }
 }
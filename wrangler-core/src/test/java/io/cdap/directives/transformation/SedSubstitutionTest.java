@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.directives.transformation;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.unix4j.Unix4j;
+
+import java.util.Random;
+
+/**
+ * Tests {@link SedSubstitution}
+ */
+public class SedSubstitutionTest {
+
+  @Test
+  public void testUnsupportedScripts() {
+    for (String script : new String[] {"y/abc/xyz/", "s/a/b/p", "s/a/b", "s\\a\\b\\", "s/a/b/0", "s/a/b/x", "s/a/b/ g",
+      "s/(/b/", "/a/p", ""}) {
+      Assert.assertNull(script, SedSubstitution.compile(script));
+    }
+  }
+
+  @Test
+  public void testFlags() {
+    Assert.assertEquals("xbAb", SedSubstitution.compile("s/a/x/").apply("abAb"));
+    Assert.assertEquals("xbxb", SedSubstitution.compile("s/a/x/ig").apply("abAb"));
+    Assert.assertEquals("xbxb", SedSubstitution.compile(" s/a/x/gI ").apply("abAb"));
+    Assert.assertEquals("aba--", SedSubstitution.compile("s/a/-/3g").apply("abaaa"));
+    Assert.assertEquals("ab", SedSubstitution.compile("s/a/-/3").apply("ab"));
+    Assert.assertEquals("a[b]c", SedSubstitution.compile("s|(b)|[$1]|").apply("abc"));
+  }
+
+  @Test
+  public void testSameResultsAsUnix4j() {
+    Random random = new Random(42);
+    String scriptChars = "ab/|\\.*()$^1g2I ";
+    String valueChars = "abAB/|\\.*()$1 \t\r\n";
+    for (int i = 0; i < 20000; i++) {
+      StringBuilder script = new StringBuilder(random.nextBoolean() ? "s/" : "s|");
+      int length = random.nextInt(10);
+      for (int j = 0; j < length; j++) {
+        script.append(scriptChars.charAt(random.nextInt(scriptChars.length())));
+      }
+      StringBuilder value = new StringBuilder();
+      length = random.nextInt(8);
+      for (int j = 0; j < length; j++) {
+        value.append(valueChars.charAt(random.nextInt(valueChars.length())));
+      }
+
+      if (value.length() > 0 && value.charAt(0) == '$') {
+        // Unix4j echo fails on these, taking them for variables.
+        continue;
+      }
+      String expected;
+      try {
+        expected = Unix4j.echo(value.toString()).sed(script.toString()).toStringResult();
+      } catch (Exception e) {
+        expected = null;
+      }
+      SedSubstitution substitution = SedSubstitution.compile(script.toString());
+      if (substitution == null) {
+        continue;
+      }
+      String actual;
+      try {
+        actual = substitution.apply(value.toString());
+      } catch (Exception e) {
+        actual = null;
+      }
+      Assert.assertEquals(script + " on '" + value + "'", expected, actual);
+    }
+  }
+}
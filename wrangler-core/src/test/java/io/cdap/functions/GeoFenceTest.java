@@ -19,6 +19,11 @@ package io.cdap.functions;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
 
 /**
  * Tests {@link GeoFences}
@@ -61,4 +66,61 @@ public class GeoFenceTest {
 
     GeoFences.InFence(43.46089378008257, -462.49145507812494, geoJsonFence);
   }
+
+  @Test
+  public void testParsedFenceIsCached() {
+    String geoJsonFence = collection(square(0, 0, 1));
+    Assert.assertSame(GeoFences.fence(geoJsonFence), GeoFences.fence(new String(geoJsonFence)));
+    Assert.assertTrue(GeoFences.InFence(0.5, 0.5, geoJsonFence));
+    Assert.assertFalse(GeoFences.InFence(1.5, 0.5, geoJsonFence));
+  }
+
+  @Test
+  public void testIndexedFenceMatchesEachPolygon() {
+    Random random = new Random(7);
+    List<String> polygons = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      double lat = random.nextDouble() * 10;
+      double lon = random.nextDouble() * 10;
+      polygons.add(String.format(Locale.ROOT, "[[%f,%f],[%f,%f],[%f,%f],[%f,%f]]",
+                                 lon, lat, lon + random.nextDouble(), lat - random.nextDouble(),
+                                 lon + random.nextDouble(), lat + random.nextDouble(), lon, lat));
+    }
+    String geoJsonFence = collection(polygons.toArray(new String[0]));
+    List<GeoFences.Fence> single = new ArrayList<>();
+    for (String polygon : polygons) {
+      single.add(GeoFences.fence(collection(polygon)));
+    }
+
+    int inside = 0;
+    int candidates = 0;
+    for (int i = 0; i < 2000; i++) {
+      double lat = random.nextDouble() * 12 - 1;
+      double lon = random.nextDouble() * 12 - 1;
+      boolean expected = false;
+      for (GeoFences.Fence fence : single) {
+        expected = expected || fence.contains(lat, lon);
+      }
+      Assert.assertEquals(expected, GeoFences.InFence(lat, lon, geoJsonFence));
+      inside += expected ? 1 : 0;
+      candidates += GeoFences.fence(geoJsonFence).candidates(lat, lon);
+    }
+    Assert.assertTrue(inside > 0);
+    Assert.assertTrue(candidates < 2000 * polygons.size() / 10);
+  }
+
+  private static String square(double lat, double lon, double size) {
+    return String.format(Locale.ROOT, "[[%f,%f],[%f,%f],[%f,%f],[%f,%f],[%f,%f]]",
+                         lon, lat, lon + size, lat, lon + size, lat + size, lon, lat + size, lon, lat);
+  }
+
+  private static String collection(String... perimeters) {
+    StringBuilder builder = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+    for (int i = 0; i < perimeters.length; i++) {
+      builder.append(i == 0 ? "" : ",")
+        .append("{\"type\":\"Feature\",\"properties\":{},\"geometry\":{\"type\":\"Polygon\",\"coordinates\":[")
+        .append(perimeters[i]).append("]}}");
+    }
+    return builder.append("]}").toString();
+  }
 }
@@ -28,7 +28,11 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Tests {@link BinaryAvroDecoder}
@@ -45,6 +49,15 @@ public class BinaryAvroDecoderTest {
     " ]\n" +
     "}";
 
+  private static final String NESTED_SCHEMA = "{\"type\": \"record\", \"name\": \"Order\", \"fields\": [\n" +
+    "  {\"name\": \"id\", \"type\": \"string\"},\n" +
+    "  {\"name\": \"tags\", \"type\": {\"type\": \"array\", \"items\": \"string\"}},\n" +
+    "  {\"name\": \"counts\", \"type\": {\"type\": \"map\", \"values\": \"int\"}},\n" +
+    "  {\"name\": \"payload\", \"type\": [\"null\", \"bytes\"]},\n" +
+    "  {\"name\": \"customer\", \"type\": {\"type\": \"record\", \"name\": \"Customer\", \"fields\": [\n" +
+    "    {\"name\": \"name\", \"type\": \"string\"}]}}\n" +
+    "]}";
+
   @Test
   public void testBasicFunctionality() throws Exception {
     // Parse schema and validate fields.
@@ -81,4 +94,75 @@ public class BinaryAvroDecoderTest {
     Assert.assertEquals("Root", rows.get(0).getValue("name"));
     Assert.assertEquals("Ben", rows.get(1).getValue("name"));
   }
+
+  @Test
+  public void testNestedValues() throws Exception {
+    Schema schema = new Schema.Parser().parse(NESTED_SCHEMA);
+    byte[] bytes = encode(schema, order(schema, "1", "ben"), order(schema, "2", "root"));
+
+    List<Row> rows = new BinaryAvroDecoder(schema).decode(bytes);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertTrue(rows.get(0).getValue("tags") instanceof String);
+    Assert.assertEquals("{\"c\":1}", rows.get(0).getValue("counts"));
+    Assert.assertEquals("ben", ((GenericRecord) rows.get(0).getValue("customer")).get("name").toString());
+    Assert.assertEquals("root", ((GenericRecord) rows.get(1).getValue("customer")).get("name").toString());
+    Assert.assertEquals(ByteBuffer.wrap(new byte[] {1}), rows.get(0).getValue("payload"));
+
+    rows = new BinaryAvroDecoder(schema, true).decode(bytes);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals(Arrays.asList("a1", "b1"), rows.get(0).getValue("tags"));
+    Assert.assertEquals(Arrays.asList("a2", "b2"), rows.get(1).getValue("tags"));
+    Assert.assertEquals(Collections.singletonMap("c", 1), rows.get(0).getValue("counts"));
+    Assert.assertTrue(rows.get(0).getValue("counts") instanceof Map);
+    Assert.assertEquals("ben", ((Row) rows.get(0).getValue("customer")).getValue("name"));
+    Assert.assertEquals("root", ((Row) rows.get(1).getValue("customer")).getValue("name"));
+    Assert.assertArrayEquals(new byte[] {1}, (byte[]) rows.get(0).getValue("payload"));
+    Assert.assertArrayEquals(new byte[] {2}, (byte[]) rows.get(1).getValue("payload"));
+  }
+
+  @Test
+  public void testDecoderReuse() throws Exception {
+    Schema schema = new Schema.Parser().parse(SCHEMA);
+    BinaryAvroDecoder decoder = new BinaryAvroDecoder(schema);
+    GenericRecord user = new GenericData.Record(schema);
+    user.put("name", "Root");
+    user.put("favorite_color", "blue");
+    List<Row> first = decoder.decode(encode(schema, user));
+
+    user.put("name", "Ben");
+    user.put("favorite_number", 7);
+    List<Row> second = decoder.decode(encode(schema, user, user));
+
+    Assert.assertEquals(1, first.size());
+    Assert.assertEquals("Root", first.get(0).getValue("name"));
+    Assert.assertNull(first.get(0).getValue("favorite_number"));
+    Assert.assertEquals(2, second.size());
+    Assert.assertEquals("Ben", second.get(1).getValue("name"));
+    Assert.assertEquals(7, second.get(1).getValue("favorite_number"));
+    Assert.assertEquals("blue", second.get(1).getValue("favorite_color"));
+    Assert.assertTrue(decoder.decode(new byte[0]).isEmpty());
+  }
+
+  private static GenericRecord order(Schema schema, String id, String name) {
+    GenericRecord customer = new GenericData.Record(schema.getField("customer").schema());
+    customer.put("name", name);
+    GenericRecord order = new GenericData.Record(schema);
+    order.put("id", id);
+    order.put("tags", Arrays.asList("a" + id, "b" + id));
+    order.put("counts", Collections.singletonMap("c", Integer.parseInt(id)));
+    order.put("payload", ByteBuffer.wrap(new byte[] {Byte.parseByte(id)}));
+    order.put("customer", customer);
+    return order;
+  }
+
+  private static byte[] encode(Schema schema, GenericRecord... records) throws Exception {
+    DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(schema);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    for (GenericRecord record : records) {
+      datumWriter.write(record, encoder);
+    }
+    encoder.flush();
+    return out.toByteArray();
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests {@link DirectiveMetrics}.
+ */
+public class DirectiveMetricsTest {
+
+  @Test
+  public void testPercentiles() {
+    DirectiveMetrics metrics = new DirectiveMetrics(Collections.singletonList("drop"), 1);
+    for (int i = 1; i <= 100; i++) {
+      Assert.assertTrue(metrics.start(0));
+      metrics.record(0, 1, 1, i * 1000L);
+    }
+    Assert.assertEquals(100, metrics.getSamples(0));
+    Assert.assertEquals(100000L, metrics.getMaxNanos(0));
+    Assert.assertEquals(5050000L, metrics.getEstimatedNanos(0));
+    // 50000 falls in [32768, 65536), 99000 in [65536, 131072) which is capped by the max.
+    Assert.assertEquals(65535L, metrics.getPercentileNanos(0, 50));
+    Assert.assertEquals(100000L, metrics.getPercentileNanos(0, 99));
+    Assert.assertTrue(metrics.getPercentileNanos(0, 1) >= 1000L);
+  }
+
+  @Test
+  public void testSampling() {
+    DirectiveMetrics metrics = new DirectiveMetrics(Arrays.asList("parse-as-csv", "drop"), 10);
+    int measured = 0;
+    for (int i = 0; i < 95; i++) {
+      boolean sampled = metrics.start(0);
+      measured += sampled ? 1 : 0;
+      metrics.record(0, 2, 1, sampled ? 100L : -1L);
+    }
+    Assert.assertEquals(10, measured);
+    Assert.assertEquals(95, metrics.getInvocations(0));
+    Assert.assertEquals(10, metrics.getSamples(0));
+    Assert.assertEquals(190, metrics.getRowsIn(0));
+    Assert.assertEquals(95, metrics.getRowsOut(0));
+    Assert.assertEquals(9500L, metrics.getEstimatedNanos(0));
+    Assert.assertEquals(0, metrics.getInvocations(1));
+    Assert.assertEquals(0L, metrics.getPercentileNanos(1, 50));
+
+    // The sampling continues where it stopped after a reset.
+    metrics.reset();
+    Assert.assertEquals(0, metrics.getInvocations(0));
+    Assert.assertEquals(0, metrics.getRowsIn(0));
+    Assert.assertEquals(0L, metrics.getMaxNanos(0));
+    Assert.assertFalse(metrics.start(0));
+    Assert.assertEquals(0L, metrics.getPercentileNanos(0, 50));
+  }
+
+  @Test
+  public void testMerge() {
+    DirectiveMetrics first = new DirectiveMetrics(Collections.singletonList("drop"), 1);
+    DirectiveMetrics second = new DirectiveMetrics(Collections.singletonList("drop"), 1);
+    first.start(0);
+    first.record(0, 3, 3, 10L);
+    second.start(0);
+    second.record(0, 4, 2, 2000L);
+    second.start(0);
+    second.error(0, 1);
+
+    first.merge(second);
+    Assert.assertEquals(3, first.getInvocations(0));
+    Assert.assertEquals(8, first.getRowsIn(0));
+    Assert.assertEquals(5, first.getRowsOut(0));
+    Assert.assertEquals(1, first.getErrors(0));
+    Assert.assertEquals(2, first.getSamples(0));
+    Assert.assertEquals(2000L, first.getMaxNanos(0));
+    Assert.assertEquals(15L, first.getPercentileNanos(0, 50));
+    Assert.assertEquals(2000L, first.getPercentileNanos(0, 100));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeOfDifferentDirectives() {
+    new DirectiveMetrics(Collections.singletonList("drop"), 1)
+      .merge(new DirectiveMetrics(Collections.singletonList("keep"), 1));
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import io.cdap.wrangler.TestingPipelineContext;
+import io.cdap.wrangler.TestingRig;
+import io.cdap.wrangler.api.ErrorRecord;
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.TransientVariableScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests {@link ParallelRecipePipelineExecutor}.
+ */
+public class ParallelRecipePipelineExecutorTest {
+
+  @Test
+  public void testResultsAreInInputOrder() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "rename body_1 id",
+      "filter-row-if-true body_2 == 'skip'",
+      "send-to-error exp:{id == '42'}"
+    };
+
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), new TestingPipelineContext(), TestingPipelineContext::new, 4, 1, 2)) {
+      List<Row> results = executor.execute(createRows(100));
+      List<ErrorRecord> errors = executor.errors();
+
+      Assert.assertEquals(89, results.size());
+      int previous = -1;
+      for (Row row : results) {
+        int id = Integer.parseInt((String) row.getValue("id"));
+        Assert.assertTrue(id > previous);
+        Assert.assertNotEquals(42, id);
+        Assert.assertNotEquals(0, id % 10);
+        previous = id;
+      }
+      Assert.assertEquals(1, errors.size());
+      Assert.assertEquals("42", errors.get(0).getRow().getValue("id"));
+    }
+  }
+
+  @Test
+  public void testWorkersExecuteBatches() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "rename body_1 id",
+      "uppercase body_2",
+      "send-to-error exp:{id == '42'}"
+    };
+
+    List<Row> expected = TestingRig.execute(recipe, createRows(100));
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), new TestingPipelineContext(), TestingPipelineContext::new, 4, 8, 2)) {
+      Assert.assertEquals(expected, executor.execute(createRows(100)));
+      Assert.assertEquals(1, executor.errors().size());
+      Assert.assertEquals("42", executor.errors().get(0).getRow().getValue("id"));
+    }
+  }
+
+  @Test
+  public void testStatefulDirectiveRunsOnSingleWorker() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body , true",
+      "drop body"
+    };
+
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row("body", "id,name"));
+    rows.addAll(createRows(50));
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), new TestingPipelineContext(), TestingPipelineContext::new, 4, 1, 2)) {
+      List<Row> results = executor.execute(rows);
+
+      Assert.assertEquals(50, results.size());
+      for (int i = 0; i < results.size(); i++) {
+        Assert.assertEquals(String.valueOf(i), results.get(i).getValue("id"));
+      }
+    }
+  }
+
+  @Test
+  public void testDirectiveWithSideEffectRunsOnSingleWorker() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "increment-variable skipped 1 exp:{body_2 == 'skip'}"
+    };
+
+    TestingPipelineContext context = new TestingPipelineContext();
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), context, TestingPipelineContext::new, 4, 1, 2)) {
+      executor.execute(createRows(100));
+
+      Assert.assertEquals(10L, (long) context.getTransientStore().get("skipped"));
+    }
+  }
+
+  @Test
+  public void testGlobalVariablesAreSeenByEveryWorker() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "filter-row-if-true body_2 == skipped",
+      "set-column marker skipped"
+    };
+
+    TestingPipelineContext context = new TestingPipelineContext();
+    context.getTransientStore().set(TransientVariableScope.GLOBAL, "skipped", "skip");
+    context.getTransientStore().set(TransientVariableScope.LOCAL, "row", "left over");
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), context, TestingPipelineContext::new, 4, 1, 2)) {
+      List<Row> results = executor.execute(createRows(100));
+
+      Assert.assertEquals(90, results.size());
+      for (Row row : results) {
+        Assert.assertEquals("skip", row.getValue("marker"));
+      }
+      Assert.assertFalse(context.getTransientStore().contains("row"));
+    }
+  }
+
+  @Test
+  public void testFailureReportsRowOfInput() throws Exception {
+    String[] recipe = new String[] {
+      "set-column body body.substring(3)"
+    };
+
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      rows.add(new Row("body", i == 17 ? "a" : "abcdef"));
+    }
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), new TestingPipelineContext(), TestingPipelineContext::new, 4, 1, 2)) {
+      executor.execute(rows);
+      Assert.fail("Expected the recipe to fail");
+    } catch (RecipeException e) {
+      Assert.assertEquals(17, e.getRowIndex());
+    }
+  }
+
+  @Test
+  public void testDirectiveMetricsOfAllWorkers() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "rename body_1 id",
+      "filter-row-if-true body_2 == 'skip'",
+      "send-to-error exp:{id == '42'}"
+    };
+
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      TestingRig.parse(recipe), new TestingPipelineContext(), TestingPipelineContext::new, 4, 1, 2)) {
+      Assert.assertNull(executor.getDirectiveMetrics());
+      executor.enableDirectiveMetrics(2);
+      executor.execute(createRows(100));
+
+      DirectiveMetrics metrics = executor.getDirectiveMetrics();
+      Assert.assertNotNull(metrics);
+      Assert.assertEquals(5, metrics.size());
+      Assert.assertEquals(100, metrics.getRowsIn(0));
+      Assert.assertEquals(100, metrics.getRowsIn(3));
+      Assert.assertEquals(90, metrics.getRowsOut(3));
+      Assert.assertEquals(90, metrics.getRowsIn(4));
+      Assert.assertEquals(89, metrics.getRowsOut(4));
+      Assert.assertEquals(1, metrics.getErrors(4));
+      Assert.assertTrue(metrics.getSamples(0) > 0);
+      Assert.assertTrue(metrics.getSamples(0) < metrics.getInvocations(0));
+    }
+  }
+
+  private static List<Row> createRows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(new Row("body", String.format("%d,%s", i, i % 10 == 0 ? "skip" : "keep")));
+    }
+    return rows;
+  }
+}
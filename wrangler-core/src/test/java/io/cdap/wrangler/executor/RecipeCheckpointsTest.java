@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.executor;
+
+import io.cdap.wrangler.TestingPipelineContext;
+import io.cdap.wrangler.TestingRig;
+import io.cdap.wrangler.api.RecipeException;
+import io.cdap.wrangler.api.Row;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests {@link RecipeCheckpoints}.
+ */
+public class RecipeCheckpointsTest {
+  private static final String[] RECIPE = new String[] {
+    "parse-as-csv body , true",
+    "drop body",
+    "set-column total a + b",
+    "filter-row-if-true a == '4'",
+    "rename b second"
+  };
+
+  @Test
+  public void testAppendedDirectiveResumesFromCheckpoint() throws Exception {
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    List<Row> first = execute(checkpoints, RECIPE, 0);
+    Assert.assertEquals(execute(RECIPE), first);
+
+    String[] appended = Arrays.copyOf(RECIPE, RECIPE.length + 1);
+    appended[RECIPE.length] = "uppercase second";
+    Assert.assertEquals(execute(appended), execute(checkpoints, appended, 4));
+  }
+
+  @Test
+  public void testChangedDirectiveInvalidatesLaterCheckpoints() throws Exception {
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    execute(checkpoints, RECIPE, 0);
+
+    String[] changed = RECIPE.clone();
+    changed[3] = "filter-row-if-true a == '5'";
+    Assert.assertEquals(execute(changed), execute(checkpoints, changed, 2));
+    // The checkpoint after the changed directive was replaced by the new one.
+    Assert.assertEquals(execute(changed), execute(checkpoints, changed, 4));
+    Assert.assertEquals(execute(RECIPE), execute(checkpoints, RECIPE, 2));
+  }
+
+  @Test
+  public void testEarliestCheckpointsAreDroppedFirst() throws Exception {
+    long last = RecipeCheckpoints.estimateBytes(execute(Arrays.copyOf(RECIPE, 4)));
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, last + 100);
+    execute(checkpoints, RECIPE, 0);
+    Assert.assertEquals(last, checkpoints.getEstimatedBytes());
+    String[] changed = RECIPE.clone();
+    changed[3] = "filter-row-if-true a == '5'";
+    // Only the checkpoint after the fourth directive fits.
+    Assert.assertEquals(0, checkpoints.start(Arrays.asList(changed), createRows(25)).getSkipped());
+    Assert.assertEquals(4, checkpoints.start(Arrays.asList(RECIPE), createRows(25)).getSkipped());
+  }
+
+  @Test
+  public void testLargeValuesCountTowardsLimit() throws Exception {
+    String[] recipe = Arrays.copyOf(RECIPE, RECIPE.length);
+    recipe[2] = "set-column total a + b + '" + new String(new char[4000]).replace('\0', 'x') + "'";
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, 100000);
+    execute(checkpoints, recipe, 0);
+    // The rows with the large column do not fit, the earlier checkpoint is dropped first and then that one.
+    Assert.assertEquals(0, checkpoints.getEstimatedBytes());
+
+    String[] appended = Arrays.copyOf(recipe, recipe.length + 1);
+    appended[recipe.length] = "uppercase second";
+    Assert.assertEquals(execute(appended), execute(checkpoints, appended, 0));
+  }
+
+  @Test
+  public void testNoCheckpointAfterDirectiveWithSideEffect() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body , true",
+      "drop body",
+      "set-variable last a",
+      "set-column total a + b",
+      "rename b second"
+    };
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    execute(checkpoints, recipe, 0);
+
+    String[] appended = Arrays.copyOf(recipe, recipe.length + 1);
+    appended[recipe.length] = "uppercase second";
+    RecipeCheckpoints.Execution execution = checkpoints.start(Arrays.asList(appended), createRows(25));
+    Assert.assertEquals(2, execution.getSkipped());
+    TestingPipelineContext context = new TestingPipelineContext();
+    try (RecipePipelineExecutor executor = new RecipePipelineExecutor(execution.wrap(TestingRig.parse(appended)),
+                                                                      context)) {
+      Assert.assertEquals(execute(appended), executor.execute(execution.getRows()));
+      Assert.assertEquals("24", context.getTransientStore().get("last"));
+    }
+  }
+
+  @Test
+  public void testReplayedBatchIsCapturedOnce() throws Exception {
+    String[] recipe = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "send-to-error exp:{body_1 == '3'}",
+      "rename body_2 second"
+    };
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    RecipeCheckpoints.Execution execution = checkpoints.start(Arrays.asList(recipe), createRows(25));
+    try (RecipePipelineExecutor executor = new RecipePipelineExecutor(execution.wrap(TestingRig.parse(recipe)),
+                                                                      new TestingPipelineContext(), 4)) {
+      Assert.assertEquals(25, executor.execute(execution.getRows()).size());
+      execution.commit();
+    }
+
+    String[] changed = recipe.clone();
+    changed[2] = "send-to-error exp:{body_1 == '5'}";
+    execution = checkpoints.start(Arrays.asList(changed), createRows(25));
+    Assert.assertEquals(2, execution.getSkipped());
+    // The batch holding the failing row was replayed one row at a time, its rows are captured once.
+    Assert.assertEquals(26, execution.getRows().size());
+  }
+
+  @Test
+  public void testFailureRefersToDirectiveOfRecipe() throws Exception {
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    execute(checkpoints, RECIPE, 0);
+
+    String[] failing = Arrays.copyOf(RECIPE, RECIPE.length + 1);
+    failing[RECIPE.length] = "set-column total total.substring(5)";
+    RecipeCheckpoints.Execution execution = checkpoints.start(Arrays.asList(failing), createRows(25));
+    try (RecipePipelineExecutor executor = new RecipePipelineExecutor(execution.wrap(TestingRig.parse(failing)),
+                                                                      new TestingPipelineContext())) {
+      executor.execute(execution.getRows());
+      Assert.fail("Expected the recipe to fail");
+    } catch (RecipeException e) {
+      RecipeException converted = execution.toRecipeException(e);
+      Assert.assertEquals(6, converted.getDirectiveIndex());
+      Assert.assertEquals(RecipeException.UNKNOWN_INDEX, converted.getRowIndex());
+    }
+  }
+
+  @Test
+  public void testRecipeIndexOfWrappedDirectives() throws Exception {
+    RecipeCheckpoints checkpoints = new RecipeCheckpoints("sample", 2, RecipeCheckpoints.DEFAULT_MAX_BYTES);
+    RecipeCheckpoints.Execution execution = checkpoints.start(Arrays.asList(RECIPE), createRows(25));
+    Assert.assertEquals(7, execution.wrap(TestingRig.parse(RECIPE)).parse().size());
+    int[] expected = {0, 1, -1, 2, 3, -1, 4};
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertEquals(expected[i], execution.getRecipeIndex(i));
+    }
+    execute(checkpoints, RECIPE, 0);
+
+    String[] appended = Arrays.copyOf(RECIPE, RECIPE.length + 1);
+    appended[RECIPE.length] = "uppercase second";
+    execution = checkpoints.start(Arrays.asList(appended), createRows(25));
+    execution.wrap(TestingRig.parse(appended)).parse();
+    Assert.assertEquals(4, execution.getRecipeIndex(0));
+    Assert.assertEquals(5, execution.getRecipeIndex(1));
+    Assert.assertEquals(-1, execution.getRecipeIndex(2));
+  }
+
+  private static List<Row> execute(RecipeCheckpoints checkpoints, String[] recipe, int skipped) throws Exception {
+    RecipeCheckpoints.Execution execution = checkpoints.start(Arrays.asList(recipe), createRows(25));
+    Assert.assertEquals(skipped, execution.getSkipped());
+    try (RecipePipelineExecutor executor = new RecipePipelineExecutor(execution.wrap(TestingRig.parse(recipe)),
+                                                                      new TestingPipelineContext())) {
+      List<Row> rows = executor.execute(execution.getRows());
+      execution.commit();
+      return rows;
+    }
+  }
+
+  private static List<Row> execute(String[] recipe) throws Exception {
+    return TestingRig.execute(recipe, createRows(25));
+  }
+
+  private static List<Row> createRows(int count) {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row("body", "a,b"));
+    for (int i = 0; i < count; i++) {
+      rows.add(new Row("body", String.format("%d,%d", i, i * 2)));
+    }
+    return rows;
+  }
+}
@@ -18,13 +18,20 @@ package io.cdap.wrangler.executor;
 
 import io.cdap.cdap.api.data.format.StructuredRecord;
 import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.TestingPipelineContext;
 import io.cdap.wrangler.TestingRig;
+import io.cdap.wrangler.api.Columnar;
+import io.cdap.wrangler.api.Directive;
+import io.cdap.wrangler.api.ErrorRecord;
 import io.cdap.wrangler.api.RecipePipeline;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.RowBatch;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Tests {@link RecipePipelineExecutor}.
@@ -96,4 +103,208 @@ public class RecipePipelineExecutorTest {
     Assert.assertEquals(1481666448L, record.<Long>get("timestamp").longValue());
     Assert.assertEquals(186.66f, record.get("weight"), 0.0001f);
   }
+
+  @Test
+  public void testBatchExecutionMatchesRowExecution() throws Exception {
+    String[] commands = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "set-column total body_1 + body_2",
+      "filter-row-if-true body_1 == '4'"
+    };
+
+    List<Row> expected = new RecipePipelineExecutor(TestingRig.parse(commands), new TestingPipelineContext())
+      .execute(createRows(25, false));
+    List<Row> actual = new RecipePipelineExecutor(TestingRig.parse(commands), new TestingPipelineContext(), 7)
+      .execute(createRows(25, false));
+
+    Assert.assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Row expectedRow = expected.get(i);
+      Row actualRow = actual.get(i);
+      Assert.assertEquals(expectedRow.width(), actualRow.width());
+      for (int j = 0; j < expectedRow.width(); j++) {
+        Assert.assertEquals(expectedRow.getColumn(j), actualRow.getColumn(j));
+        Assert.assertEquals(expectedRow.getValue(j), actualRow.getValue(j));
+      }
+    }
+  }
+
+  @Test
+  public void testBatchExecutionSendsOnlyFailingRowsToError() throws Exception {
+    String[] commands = new String[] {
+      "parse-as-csv body , true",
+      "drop body",
+      "send-to-error exp:{a == '3'}",
+      "send-to-error-and-continue exp:{b == '8'} 'b is eight'"
+    };
+
+    RecipePipeline pipeline = new RecipePipelineExecutor(TestingRig.parse(commands), new TestingPipelineContext(), 4);
+    List<Row> results = pipeline.execute(createRows(10));
+    List<ErrorRecord> errors = pipeline.errors();
+
+    Assert.assertEquals(8, results.size());
+    Assert.assertEquals(2, errors.size());
+    Assert.assertEquals("3", errors.get(0).getRow().getValue("a"));
+    Assert.assertEquals("4", errors.get(1).getRow().getValue("a"));
+    for (Row row : results) {
+      Assert.assertNotEquals("3", row.getValue("a"));
+      Assert.assertNotEquals("4", row.getValue("a"));
+    }
+  }
+
+  @Test
+  public void testStatefulRecipeIsNotReplayedInBatches() throws Exception {
+    String[] commands = new String[] {
+      "parse-as-csv body , true",
+      "drop body",
+      "send-to-error exp:{a == '1'}",
+      "increment-variable parsed 1 exp:{a != null}"
+    };
+
+    TestingPipelineContext rowContext = new TestingPipelineContext();
+    RecipePipeline expected = new RecipePipelineExecutor(TestingRig.parse(commands), rowContext);
+    List<Row> expectedRows = expected.execute(createRows(10));
+    TestingPipelineContext batchContext = new TestingPipelineContext();
+    RecipePipeline actual = new RecipePipelineExecutor(TestingRig.parse(commands), batchContext, 4);
+    List<Row> actualRows = actual.execute(createRows(10));
+
+    // The error is in the first batch, whose replay would parse the header as data and count rows twice.
+    Assert.assertEquals(9, actualRows.size());
+    Assert.assertEquals(expectedRows, actualRows);
+    Assert.assertEquals("0", actualRows.get(0).getValue("a"));
+    Assert.assertEquals(1, actual.errors().size());
+    Assert.assertEquals("1", ((ErrorRecord) actual.errors().get(0)).getRow().getValue("a"));
+    Assert.assertEquals(9L, (long) batchContext.getTransientStore().get("parsed"));
+    Assert.assertEquals((long) rowContext.getTransientStore().get("parsed"),
+                        (long) batchContext.getTransientStore().get("parsed"));
+  }
+
+  @Test
+  public void testColumnarExecutionMatchesRowExecution() throws Exception {
+    String[] commands = new String[] {
+      "parse-as-csv body ,",
+      "drop body",
+      "rename body_1 id",
+      "rename body_2 b",
+      "set-type id integer",
+      "set-type b double",
+      "quantize b bucket 0.0:20.0='LOW',20.1:100.0='HIGH'",
+      "set-column name '  Name ' + id",
+      "trim name",
+      "uppercase name",
+      "keep id,name,bucket",
+      "lowercase bucket"
+    };
+
+    List<Row> expected = new RecipePipelineExecutor(TestingRig.parse(commands), new TestingPipelineContext())
+      .execute(createRows(25, false));
+    List<Row> actual = new RecipePipelineExecutor(TestingRig.parse(commands), new TestingPipelineContext(), 10)
+      .execute(createRows(25, false));
+
+    Assert.assertEquals(25, expected.size());
+    Assert.assertEquals(expected, actual);
+    Assert.assertEquals(3, actual.get(3).getValue("id"));
+    Assert.assertEquals("NAME 3", actual.get(3).getValue("name"));
+    Assert.assertEquals("high", actual.get(24).getValue("bucket"));
+  }
+
+  @Test
+  public void testEachColumnarDirectiveMatchesRowExecution() throws Exception {
+    String[] commands = new String[] {
+      "drop b",
+      "drop b,c",
+      "keep a,c",
+      "rename b second",
+      "set-type a integer",
+      "set-type d string",
+      "set-type e double",
+      "quantize d bucket 0.0:20.0='LOW',20.1:100.0='HIGH'",
+      "trim c",
+      "uppercase c",
+      "lowercase c"
+    };
+
+    for (String command : commands) {
+      List<Directive> directives = TestingRig.parse(new String[] {command}).parse();
+      Assert.assertEquals(1, directives.size());
+      Directive directive = directives.get(0);
+      Assert.assertTrue(command, directive instanceof Columnar);
+
+      List<Row> expected = directive.execute(createColumnarRows(), new TestingPipelineContext());
+      RowBatch batch = RowBatch.of(createColumnarRows());
+      Assert.assertNotNull(batch);
+      List<Row> actual = ((Columnar) directive).execute(batch, new TestingPipelineContext()).toRows();
+      Assert.assertEquals(command, expected, actual);
+    }
+  }
+
+  @Test
+  public void testDirectiveMetrics() throws Exception {
+    String[] commands = new String[] {
+      "parse-as-csv body , true",
+      "drop body",
+      "send-to-error exp:{a == '3'}"
+    };
+
+    // The second batch is replayed one row at a time, its rows must be counted once.
+    for (int batchSize : new int[] {1, 4}) {
+      RecipePipelineExecutor executor = new RecipePipelineExecutor(TestingRig.parse(commands),
+                                                                   new TestingPipelineContext(), batchSize);
+      executor.enableDirectiveMetrics(1);
+      Assert.assertEquals(9, executor.execute(createRows(10)).size());
+
+      DirectiveMetrics metrics = executor.getDirectiveMetrics();
+      Assert.assertNotNull(metrics);
+      Assert.assertEquals(3, metrics.size());
+      Assert.assertEquals("parse-as-csv", metrics.getName(0));
+      Assert.assertEquals(11, metrics.getRowsIn(0));
+      Assert.assertEquals(10, metrics.getRowsOut(0));
+      Assert.assertEquals(10, metrics.getRowsIn(1));
+      Assert.assertEquals(10, metrics.getRowsOut(1));
+      Assert.assertEquals(10, metrics.getRowsIn(2));
+      Assert.assertEquals(9, metrics.getRowsOut(2));
+      Assert.assertEquals(0, metrics.getErrors(1));
+      Assert.assertEquals(1, metrics.getErrors(2));
+      for (int i = 0; i < metrics.size(); i++) {
+        Assert.assertEquals(metrics.getInvocations(i) - metrics.getErrors(i), metrics.getSamples(i));
+      }
+    }
+  }
+
+  @Test
+  public void testDirectiveMetricsAreDisabledByDefault() throws Exception {
+    RecipePipelineExecutor executor = new RecipePipelineExecutor(TestingRig.parse(new String[] {"drop body"}),
+                                                                 new TestingPipelineContext());
+    executor.execute(createRows(2));
+    Assert.assertNull(executor.getDirectiveMetrics());
+  }
+
+  private static List<Row> createRows(int count) {
+    return createRows(count, true);
+  }
+
+  private static List<Row> createColumnarRows() {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Row row = new Row("a", String.valueOf(i));
+      row.add("b", i * 2);
+      row.add("c", i % 3 == 0 ? null : String.format("  Mixed Case %d ", i));
+      row.add("d", i * 7.5d);
+      row.add("e", String.format("%d.25", i));
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static List<Row> createRows(int count, boolean header) {
+    List<Row> rows = new ArrayList<>();
+    if (header) {
+      rows.add(new Row("body", "a,b"));
+    }
+    for (int i = 0; i < count; i++) {
+      rows.add(new Row("body", String.format("%d,%d", i, i * 2)));
+    }
+    return rows;
+  }
 }
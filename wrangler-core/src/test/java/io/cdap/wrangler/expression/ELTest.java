@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,32 @@ public class ELTest {
     Assert.assertFalse(el.variables().contains("c"));
   }
 
+  @Test
+  public void testCompiledExpressionsAreShared() throws Exception {
+    String expression = "shared_x * 2 + shared_y";
+    long hits = EL.cacheStats().hitCount();
+    EL el = EL.compile(expression);
+    Assert.assertSame(el, EL.compile(expression));
+    Assert.assertSame(el, EL.compile(new EL.DefaultFunctions(), expression));
+    Assert.assertEquals(hits + 2, EL.cacheStats().hitCount());
+    Assert.assertNotSame(el, EL.compile(Collections::emptyMap, expression));
+    Assert.assertEquals(7, el.execute(new ELContext().add("shared_x", 2).add("shared_y", 3)).getInteger().intValue());
+  }
+
+  @Test
+  public void testFailedCompilationIsNotCached() throws Exception {
+    long size = EL.cacheSize();
+    for (int i = 0; i < 2; i++) {
+      try {
+        EL.compile("a + ");
+        Assert.fail("Expected compilation to fail");
+      } catch (ELException e) {
+        // expected
+      }
+    }
+    Assert.assertEquals(size, EL.cacheSize());
+  }
+
   @Test(expected = ELException.class)
   public void testUndefinedVariableException() throws Exception {
     EL el = EL.compile("a + b + c");
@@ -0,0 +1,68 @@
+/*
+ *  Copyright © 2026 Cask Data, Inc.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.cdap.wrangler.expression;
+
+import io.cdap.wrangler.TestingPipelineContext;
+import io.cdap.wrangler.api.ExecutorContext;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.api.TransientVariableScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link ReusableELContext}
+ */
+public class ReusableELContextTest {
+
+  @Test
+  public void testResolvesLikeELContext() throws Exception {
+    ExecutorContext context = new TestingPipelineContext();
+    context.getTransientStore().set(TransientVariableScope.GLOBAL, "b", 10);
+    EL el = EL.compile("a + b + (c == null ? 0 : c) + this.width() + ctx.name.length()");
+    ReusableELContext reusable = new ReusableELContext(el);
+
+    Row[] rows = {new Row("a", 1).add("b", 2), new Row("a", 5).add("c", 7), new Row("b", 3).add("a", 0)};
+    for (Row row : rows) {
+      Assert.assertEquals(el.execute(new ELContext(context, el, row)).getObject(),
+                          el.execute(reusable.reset(context, row)).getObject());
+    }
+    Assert.assertEquals(31, el.execute(reusable.reset(context, rows[1])).getInteger().intValue());
+  }
+
+  @Test
+  public void testResetDropsSetVariables() throws Exception {
+    EL el = EL.compile("a");
+    ReusableELContext ctx = new ReusableELContext(el);
+    ctx.reset(null, new Row("a", 1)).add("a", 2);
+    Assert.assertEquals(2, el.execute(ctx).getInteger().intValue());
+    Assert.assertEquals(3, el.execute(ctx.reset(null, new Row("a", 3))).getInteger().intValue());
+    Assert.assertTrue(ctx.has("this"));
+    Assert.assertFalse(ctx.has("ctx"));
+    Assert.assertFalse(ctx.has("b"));
+  }
+
+  @Test
+  public void testTransientVariablesAreReadOnEveryRow() throws Exception {
+    ExecutorContext context = new TestingPipelineContext();
+    EL el = EL.compile("a + total");
+    ReusableELContext ctx = new ReusableELContext(el);
+    context.getTransientStore().set(TransientVariableScope.GLOBAL, "total", 1);
+    Assert.assertEquals(2, el.execute(ctx.reset(context, new Row("a", 1))).getInteger().intValue());
+    context.getTransientStore().set(TransientVariableScope.GLOBAL, "total", 5);
+    Assert.assertEquals(6, el.execute(ctx.reset(context, new Row("a", 1))).getInteger().intValue());
+  }
+}
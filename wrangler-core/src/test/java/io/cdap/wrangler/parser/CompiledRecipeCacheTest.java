@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.parser;
+
+import io.cdap.wrangler.api.CompileStatus;
+import io.cdap.wrangler.api.Compiler;
+import io.cdap.wrangler.api.Directive;
+import io.cdap.wrangler.registry.SystemDirectiveRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Tests {@link CompiledRecipeCache}.
+ */
+public class CompiledRecipeCacheTest {
+  private static final String RECIPE = "parse-as-csv :body ',' true;\ndrop :body;";
+
+  @Test
+  public void testCompiledRecipeIsReused() throws Exception {
+    CompiledRecipeCache cache = new CompiledRecipeCache();
+    CompileStatus first = cache.compiler("default", "").compile(RECIPE);
+    CompileStatus second = cache.compiler("default", "").compile(RECIPE);
+
+    Assert.assertTrue(second.isSuccess());
+    Assert.assertSame(first.getSymbols(), second.getSymbols());
+    Assert.assertEquals(1, cache.stats().hitCount());
+    Assert.assertEquals(1, cache.stats().missCount());
+
+    // Recipes are cached per namespace.
+    Assert.assertNotSame(first.getSymbols(), cache.compiler("other", "").compile(RECIPE).getSymbols());
+  }
+
+  @Test
+  public void testRecipesAreCachedPerUserDirectives() throws Exception {
+    CompiledRecipeCache cache = new CompiledRecipeCache();
+    CompileStatus first = cache.compiler("default", "a").compile(RECIPE);
+    CompileStatus second = cache.compiler("default", "b").compile(RECIPE);
+    Assert.assertNotSame(first.getSymbols(), second.getSymbols());
+    Assert.assertEquals(2, cache.size());
+
+    // Handlers with different user directives do not invalidate the entries of each other.
+    Assert.assertSame(first.getSymbols(), cache.compiler("default", "a").compile(RECIPE).getSymbols());
+    Assert.assertSame(second.getSymbols(), cache.compiler("default", "b").compile(RECIPE).getSymbols());
+    Assert.assertEquals(2, cache.stats().hitCount());
+  }
+
+  @Test
+  public void testFailedCompilationIsNotCached() throws Exception {
+    CompiledRecipeCache cache = new CompiledRecipeCache();
+    Compiler compiler = cache.compiler("default", "");
+    Assert.assertFalse(compiler.compile("parse-as-csv :body ,,,;").isSuccess());
+    Assert.assertFalse(compiler.compile("parse-as-csv :body ,,,;").isSuccess());
+    Assert.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedRecipeIsEvicted() throws Exception {
+    CompiledRecipeCache cache = new CompiledRecipeCache(2);
+    Compiler compiler = cache.compiler("default", "");
+    compiler.compile("drop :a;");
+    compiler.compile("drop :b;");
+    compiler.compile("drop :a;");
+    compiler.compile("drop :c;");
+    Assert.assertEquals(2, cache.size());
+
+    compiler.compile("drop :a;");
+    Assert.assertEquals(2, cache.stats().hitCount());
+  }
+
+  @Test
+  public void testParserUsesCachedRecipe() throws Exception {
+    CompiledRecipeCache cache = new CompiledRecipeCache();
+    Compiler compiler = cache.compiler("default", "");
+    for (int i = 0; i < 2; i++) {
+      List<Directive> directives = new GrammarBasedParser("default", RECIPE, SystemDirectiveRegistry.INSTANCE,
+                                                          new NoOpDirectiveContext(), compiler).parse();
+      Assert.assertEquals(2, directives.size());
+    }
+    Assert.assertEquals(1, cache.stats().hitCount());
+  }
+}
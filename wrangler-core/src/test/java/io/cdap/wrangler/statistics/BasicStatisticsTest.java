@@ -17,12 +17,15 @@
 package io.cdap.wrangler.statistics;
 
 import io.cdap.wrangler.TestingRig;
+import io.cdap.wrangler.api.Pair;
 import io.cdap.wrangler.api.Row;
 import io.dataapps.chlorine.finder.FinderEngine;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,7 +60,7 @@ public class BasicStatisticsTest {
 
     Assert.assertTrue(rows.size() > 1);
 
-    Assert.assertEquals(3, summary.width());
+    Assert.assertEquals(5, summary.width());
     Assert.assertEquals(3.0, summary.getValue("total"));
 
     Row stats = (Row) summary.getValue("stats");
@@ -65,6 +68,73 @@ public class BasicStatisticsTest {
 
     Assert.assertEquals(7, stats.width());
     Assert.assertEquals(7, types.width());
+    Assert.assertEquals(3.0, ((Row) summary.getValue("scanned")).getValue("body_1"));
+    Assert.assertEquals(1.0, ((Row) summary.getValue("confidence")).getValue("body_1"));
+  }
+
+  @Test
+  public void testSampledColumns() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      Row row = new Row("email", "user" + i + "@example.com");
+      row.add("id", i);
+      row.add("note", i % 2 == 0 ? "" : "joe@example.com");
+      rows.add(row);
+    }
+
+    Row summary = new BasicStatistics(200, 1024, 60000).aggregate(rows);
+    Row scanned = (Row) summary.getValue("scanned");
+    Row confidence = (Row) summary.getValue("confidence");
+    Row types = (Row) summary.getValue("types");
+
+    // Only string columns are scanned, and no more than the sample size.
+    Assert.assertEquals(2, scanned.width());
+    Assert.assertEquals(200.0, scanned.getValue("email"));
+    Assert.assertEquals(200.0, scanned.getValue("note"));
+    double emailConfidence = (Double) confidence.getValue("email");
+    Assert.assertTrue(emailConfidence > 0.9 && emailConfidence < 1.0);
+
+    // Percentages are scaled from the sample to all the rows.
+    Assert.assertEquals(1.0, percentage(types, "email", "Email"), 0.0001);
+    Assert.assertEquals(0.5, percentage(types, "note", "Email"), 0.0001);
+    Row stats = (Row) summary.getValue("stats");
+    Assert.assertEquals(0.5, percentage(stats, "note", "empty"), 0.0001);
+  }
+
+  @Test
+  public void testCellLengthAndTimeBudget() throws Exception {
+    StringBuilder padding = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      padding.append(' ');
+    }
+    List<Row> rows = Collections.singletonList(new Row("body", padding + "joe@example.com"));
+
+    Row summary = new BasicStatistics(1000, 100, 60000).aggregate(rows);
+    Assert.assertEquals(0.0, percentage((Row) summary.getValue("types"), "body", "Email"), 0.0001);
+    Assert.assertEquals(1.0, ((Row) summary.getValue("scanned")).getValue("body"));
+
+    summary = new BasicStatistics(1000, 100000, 60000).aggregate(rows);
+    Assert.assertEquals(1.0, percentage((Row) summary.getValue("types"), "body", "Email"), 0.0001);
+
+    // Out of time, nothing is scanned and the estimate has no confidence.
+    summary = new BasicStatistics(1000, 100000, 0).aggregate(rows);
+    Assert.assertEquals(0, ((Row) summary.getValue("types")).width());
+    Assert.assertEquals(0.0, ((Row) summary.getValue("scanned")).getValue("body"));
+    Assert.assertEquals(0.0, ((Row) summary.getValue("confidence")).getValue("body"));
+    Assert.assertEquals(1.0, percentage((Row) summary.getValue("stats"), "body", "non-null"), 0.0001);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static double percentage(Row summary, String column, String measure) {
+    if (summary.find(column) == -1) {
+      return 0;
+    }
+    for (Pair<String, Double> pair : (List<Pair<String, Double>>) summary.getValue(column)) {
+      if (pair.getFirst().equals(measure)) {
+        return pair.getSecond();
+      }
+    }
+    return 0;
   }
 }
 
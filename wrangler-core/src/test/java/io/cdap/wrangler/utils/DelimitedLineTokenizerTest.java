@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.utils;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests {@link DelimitedLineTokenizer}
+ */
+public class DelimitedLineTokenizerTest {
+
+  @Test
+  public void testFields() throws Exception {
+    DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(',');
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b c", "", "d,\"e\"", "")),
+                        tokenize(tokenizer, "a,b c,,\"d,\"\"e\"\"\"  ,"));
+    Assert.assertEquals(Arrays.asList(Arrays.asList("1", "x\ny"), Arrays.asList("2", "z")),
+                        tokenize(tokenizer, "1,\"x\ny\"\r\n\n2,z\n"));
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a\"b", " c ")), tokenize(tokenizer, "a\"b, c "));
+    Assert.assertEquals(Arrays.asList(Arrays.asList("")), tokenize(tokenizer, "\"\""));
+    Assert.assertTrue(tokenize(tokenizer, "\n\r\n").isEmpty());
+    Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b")), tokenize(new DelimitedLineTokenizer('\t'), "a\tb"));
+  }
+
+  @Test
+  public void testInvalidQuotedFields() {
+    DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(',');
+    try {
+      tokenize(tokenizer, "a,\"b\"c");
+      Assert.fail("Expected an invalid character after the closing quote");
+    } catch (IOException e) {
+      Assert.assertEquals("(line 1) invalid char between encapsulated token and delimiter", e.getMessage());
+    }
+    try {
+      tokenize(tokenizer, "a\nb,\"c");
+      Assert.fail("Expected a missing closing quote");
+    } catch (IOException e) {
+      Assert.assertEquals("(startline 2) EOF reached before encapsulated token finished", e.getMessage());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testQuoteAsDelimiter() {
+    new DelimitedLineTokenizer('"');
+  }
+
+  @Test
+  public void testSameAsCSVParser() throws Exception {
+    Random random = new Random(42);
+    char[] alphabet = {'a', 'b', ' ', '\t', ',', ';', '"', '\r', '\n'};
+    for (char delimiter : new char[] {',', ';', '\t', ' '}) {
+      CSVFormat format = CSVFormat.DEFAULT.withDelimiter(delimiter);
+      DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(delimiter);
+      for (int i = 0; i < 20000; i++) {
+        char[] line = new char[random.nextInt(12) + 1];
+        for (int j = 0; j < line.length; j++) {
+          line[j] = alphabet[random.nextInt(alphabet.length)];
+        }
+        String input = new String(line);
+        Object expected;
+        try {
+          List<List<String>> records = new ArrayList<>();
+          for (CSVRecord record : CSVParser.parse(input, format).getRecords()) {
+            List<String> fields = new ArrayList<>();
+            record.forEach(fields::add);
+            records.add(fields);
+          }
+          expected = records;
+        } catch (IOException e) {
+          expected = e.getMessage();
+        }
+        Object actual;
+        try {
+          actual = tokenize(tokenizer, input);
+        } catch (IOException e) {
+          actual = e.getMessage();
+        }
+        Assert.assertEquals("Tokenizing '" + input + "'", expected, actual);
+      }
+    }
+  }
+
+  private static List<List<String>> tokenize(DelimitedLineTokenizer tokenizer, String line) throws IOException {
+    List<List<String>> records = new ArrayList<>();
+    tokenizer.reset(line);
+    while (tokenizer.next()) {
+      List<String> fields = new ArrayList<>();
+      for (int i = 0; i < tokenizer.size(); i++) {
+        fields.add(tokenizer.get(i));
+      }
+      records.add(fields);
+    }
+    return records;
+  }
+}
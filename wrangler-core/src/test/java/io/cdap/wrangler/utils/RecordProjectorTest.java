@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.utils;
+
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Row;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tests {@link RecordProjector}
+ */
+public class RecordProjectorTest {
+  private static final Schema INNER = Schema.recordOf("inner", Schema.Field.of("x", Schema.of(Schema.Type.INT)));
+  private static final Schema SCHEMA = Schema.recordOf(
+    "output",
+    Schema.Field.of("id", Schema.of(Schema.Type.INT)),
+    Schema.Field.of("name", Schema.nullableOf(Schema.of(Schema.Type.STRING))),
+    Schema.Field.of("score", Schema.nullableOf(Schema.of(Schema.Type.DOUBLE))),
+    Schema.Field.of("count", Schema.nullableOf(Schema.of(Schema.Type.LONG))),
+    Schema.Field.of("flag", Schema.nullableOf(Schema.of(Schema.Type.BOOLEAN))),
+    Schema.Field.of("date", Schema.nullableOf(Schema.of(Schema.LogicalType.DATE))),
+    Schema.Field.of("time", Schema.nullableOf(Schema.of(Schema.LogicalType.TIME_MICROS))),
+    Schema.Field.of("ts", Schema.nullableOf(Schema.of(Schema.LogicalType.TIMESTAMP_MICROS))),
+    Schema.Field.of("dt", Schema.nullableOf(Schema.of(Schema.LogicalType.DATETIME))),
+    Schema.Field.of("amount", Schema.nullableOf(Schema.decimalOf(10, 2))),
+    Schema.Field.of("tags", Schema.nullableOf(Schema.arrayOf(Schema.of(Schema.Type.STRING)))),
+    Schema.Field.of("inner", Schema.nullableOf(INNER)));
+
+  /**
+   * What the transform used to emit, the converted record copied into a second builder.
+   */
+  private static StructuredRecord twoPass(Row row) throws Exception {
+    StructuredRecord record = new RecordConvertor().decodeRecord(row, SCHEMA);
+    StructuredRecord.Builder builder = StructuredRecord.builder(SCHEMA);
+    for (Schema.Field field : SCHEMA.getFields()) {
+      Object value = record.get(field.getName());
+      if (value instanceof String) {
+        builder.convertAndSet(field.getName(), (String) value);
+      } else {
+        builder.set(field.getName(), value);
+      }
+    }
+    return builder.build();
+  }
+
+  private static void assertSameRecord(StructuredRecord expected, StructuredRecord actual) {
+    Assert.assertEquals(expected.getSchema(), actual.getSchema());
+    for (Schema.Field field : expected.getSchema().getFields()) {
+      Object expectedValue = expected.get(field.getName());
+      Object actualValue = actual.get(field.getName());
+      Assert.assertTrue(field.getName() + ": " + expectedValue + " != " + actualValue,
+                        Objects.deepEquals(expectedValue, actualValue));
+    }
+  }
+
+  @Test
+  public void testSameAsTwoPassConversion() throws Exception {
+    Row typed = new Row("id", 1);
+    typed.add("name", "joe");
+    typed.add("score", 2.5d);
+    typed.add("count", 7);
+    typed.add("flag", true);
+    typed.add("date", LocalDate.of(2020, 2, 29));
+    typed.add("time", LocalTime.of(10, 11, 12));
+    typed.add("ts", ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")));
+    typed.add("dt", LocalDateTime.of(2020, 1, 1, 1, 2, 3));
+    typed.add("amount", new BigDecimal("12.34"));
+    typed.add("tags", Arrays.asList("a", "b"));
+    typed.add("inner", new Row("x", 3));
+
+    // Strings that need conversion, columns out of schema order, extra and missing columns.
+    Row strings = new Row("extra", "ignored");
+    strings.add("score", "3.5");
+    strings.add("id", "42");
+    strings.add("count", " ");
+    strings.add("flag", "true");
+    strings.add("name", "");
+    strings.add("dt", "2020-01-01T01:02:03");
+
+    Row nulls = new Row("id", 5);
+    nulls.add("name", null);
+
+    RecordProjector projector = new RecordProjector(SCHEMA);
+    for (Row row : Arrays.asList(typed, strings, nulls)) {
+      assertSameRecord(twoPass(row), projector.project(row));
+    }
+  }
+
+  @Test
+  public void testRecordRow() throws Exception {
+    StructuredRecord inner = StructuredRecord.builder(
+      Schema.recordOf("in", Schema.Field.of("id", Schema.of(Schema.Type.INT)),
+                      Schema.Field.of("name", Schema.of(Schema.Type.STRING)))).set("id", 9).set("name", "n").build();
+    Row row = new Row("body", inner);
+    StructuredRecord record = new RecordProjector(SCHEMA).project(row);
+    assertSameRecord(twoPass(row), record);
+    Assert.assertEquals(SCHEMA, record.getSchema());
+    Assert.assertEquals(9, (int) record.get("id"));
+  }
+
+  @Test
+  public void testInvalidValues() throws Exception {
+    RecordProjector projector = new RecordProjector(SCHEMA);
+    try {
+      projector.project(new Row("id", "abc"));
+      Assert.fail();
+    } catch (RecordConvertorException e) {
+      Assert.assertEquals("Unable to convert 'abc' to integer for field name 'id'", e.getMessage());
+    }
+    try {
+      projector.project(new Row("name", "joe"));
+      Assert.fail();
+    } catch (RecordConvertorException e) {
+      Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Field 'id' of type 'int' cannot be set to 'NULL'"));
+    }
+  }
+}
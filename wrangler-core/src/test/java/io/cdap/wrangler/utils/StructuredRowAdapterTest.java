@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.utils;
+
+import io.cdap.cdap.api.data.format.StructuredRecord;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.wrangler.api.Row;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests {@link StructuredRowAdapter}
+ */
+public class StructuredRowAdapterTest {
+  private static final Schema INNER = Schema.recordOf("inner", Schema.Field.of("x", Schema.of(Schema.Type.INT)));
+  private static final Schema SCHEMA = Schema.recordOf(
+    "outer",
+    Schema.Field.of("id", Schema.of(Schema.Type.INT)),
+    Schema.Field.of("bytes", Schema.nullableOf(Schema.of(Schema.Type.BYTES))),
+    Schema.Field.of("date", Schema.nullableOf(Schema.of(Schema.LogicalType.DATE))),
+    Schema.Field.of("inner", Schema.nullableOf(INNER)),
+    Schema.Field.of("inners", Schema.arrayOf(Schema.nullableOf(INNER))),
+    Schema.Field.of("matrix", Schema.arrayOf(Schema.arrayOf(Schema.of(Schema.Type.BYTES)))));
+
+  private static StructuredRecord record(int id) {
+    StructuredRecord inner = StructuredRecord.builder(INNER).set("x", id).build();
+    return StructuredRecord.builder(SCHEMA)
+      .set("id", id)
+      .set("bytes", ByteBuffer.wrap(new byte[] {1, 2}))
+      .setDate("date", LocalDate.of(2020, 1, id))
+      .set("inner", inner)
+      .set("inners", Arrays.asList(inner, null))
+      .set("matrix", Collections.singletonList(Collections.singletonList(ByteBuffer.wrap(new byte[] {3}))))
+      .build();
+  }
+
+  // Byte arrays are compared by identity, so they are left out of row comparisons.
+  private static Row withoutBytes(Row row) {
+    row.remove(row.find("bytes"));
+    row.remove(row.find("matrix"));
+    return row;
+  }
+
+  @Test
+  public void testConversion() {
+    Row row = StructuredRowAdapter.of(SCHEMA).toRow(record(1));
+    Assert.assertEquals(6, row.width());
+    Assert.assertEquals(1, row.getValue("id"));
+    Assert.assertArrayEquals(new byte[] {1, 2}, (byte[]) row.getValue("bytes"));
+    Assert.assertEquals(LocalDate.of(2020, 1, 1), row.getValue("date"));
+    Assert.assertEquals(new Row("x", 1), row.getValue("inner"));
+    // Elements of arrays are converted with the schema of the array, which keeps nullable records as records.
+    List<?> inners = (List<?>) row.getValue("inners");
+    Assert.assertTrue(inners.get(0) instanceof StructuredRecord);
+    Assert.assertNull(inners.get(1));
+    List<?> matrix = (List<?>) ((List<?>) row.getValue("matrix")).get(0);
+    Assert.assertArrayEquals(new byte[] {3}, (byte[]) matrix.get(0));
+
+    Assert.assertEquals(new Row("x", 1), StructuredRowAdapter.of(SCHEMA).getValue(record(1), "inner"));
+    Assert.assertEquals(withoutBytes(row), withoutBytes(StructuredToRowTransformer.transform(record(1))));
+  }
+
+  @Test
+  public void testAdapterCachedBySchema() {
+    Schema copy = Schema.recordOf("outer", SCHEMA.getFields());
+    Assert.assertSame(StructuredRowAdapter.of(SCHEMA), StructuredRowAdapter.of(copy));
+    Assert.assertNotSame(StructuredRowAdapter.of(SCHEMA), StructuredRowAdapter.of(INNER));
+  }
+
+  @Test
+  public void testLazyNested() {
+    StructuredRowAdapter adapter = StructuredRowAdapter.of(SCHEMA);
+    Row row = adapter.toRow(record(2), true);
+    Assert.assertEquals(withoutBytes(adapter.toRow(record(2))), withoutBytes(row));
+    Assert.assertEquals(new Row("x", 2), row.getValue("inner"));
+
+    // Values that are not read are never converted, so they can be dropped for free.
+    Row dropped = adapter.toRow(record(3), true);
+    dropped.remove(dropped.find("inner"));
+    Assert.assertEquals(5, dropped.width());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingField() {
+    StructuredRowAdapter.of(SCHEMA).getValue(record(1), "missing");
+  }
+}
@@ -25,10 +25,20 @@ import javax.annotation.Nullable;
 public class ColumnStatistics {
   private final Map<String, Float> general;
   private final Map<String, Float> types;
+  // Number of cells the type percentages were computed from, and the confidence in them.
+  private final Integer scanned;
+  private final Float confidence;
 
   public ColumnStatistics(@Nullable Map<String, Float> general, @Nullable Map<String, Float> types) {
+    this(general, types, null, null);
+  }
+
+  public ColumnStatistics(@Nullable Map<String, Float> general, @Nullable Map<String, Float> types,
+                          @Nullable Integer scanned, @Nullable Float confidence) {
     this.general = general;
     this.types = types;
+    this.scanned = scanned;
+    this.confidence = confidence;
   }
 
   @Nullable
@@ -40,4 +50,14 @@ public class ColumnStatistics {
   public Map<String, Float> getTypes() {
     return types;
   }
+
+  @Nullable
+  public Integer getScanned() {
+    return scanned;
+  }
+
+  @Nullable
+  public Float getConfidence() {
+    return confidence;
+  }
 }
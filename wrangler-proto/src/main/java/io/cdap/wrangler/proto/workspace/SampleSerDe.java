@@ -0,0 +1,449 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.proto.workspace;
+
+import io.cdap.wrangler.api.Row;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serializes the rows of a workspace sample into a compact binary format, and reads them back from either that
+ * format or from Java serialization, which was used for samples before.
+ *
+ * <p>The format starts with a magic, a version and flags, followed by the body, which is deflated when the
+ * compression flag is set. The body holds a dictionary of all the column names, the values without a type tag,
+ * and the rows. Column names and values of the common types are written with a tag of their type, lengths and
+ * column indexes are written as varints. All the other values are written together with Java serialization, so
+ * that their class descriptions are only written once. Each row is written with its number of values, which is
+ * less than its width for rows created from a list of columns.</p>
+ */
+public final class SampleSerDe {
+  private static final byte[] MAGIC = new byte[] {'W', 'R'};
+  private static final byte VERSION = 2;
+  // Version without a tag before the column names, and with a flag telling whether a row has all of its values.
+  private static final byte VERSION_1 = 1;
+  private static final byte FLAG_DEFLATE = 0x01;
+  private static final int HEADER_LENGTH = MAGIC.length + 2;
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final byte TAG_NULL = 0;
+  private static final byte TAG_STRING = 1;
+  private static final byte TAG_INT = 2;
+  private static final byte TAG_LONG = 3;
+  private static final byte TAG_SHORT = 4;
+  private static final byte TAG_FLOAT = 5;
+  private static final byte TAG_DOUBLE = 6;
+  private static final byte TAG_TRUE = 7;
+  private static final byte TAG_FALSE = 8;
+  private static final byte TAG_BYTES = 9;
+  private static final byte TAG_DECIMAL = 10;
+  private static final byte TAG_DATE = 11;
+  private static final byte TAG_TIME = 12;
+  private static final byte TAG_OBJECT = 13;
+
+  private final boolean compress;
+
+  public SampleSerDe() {
+    this(true);
+  }
+
+  /**
+   * @param compress true if the rows are deflated when serialized.
+   */
+  public SampleSerDe(boolean compress) {
+    this.compress = compress;
+  }
+
+  /**
+   * Converts rows into bytes.
+   *
+   * @param rows to be serialized into bytes.
+   * @return byte array of the serialized rows.
+   */
+  public byte[] toByteArray(List<Row> rows) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    bos.write(MAGIC);
+    bos.write(VERSION);
+    bos.write(compress ? FLAG_DEFLATE : 0);
+
+    Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+    try {
+      OutputStream body = deflater == null ? bos : new DeflaterOutputStream(bos, deflater, BUFFER_SIZE);
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(body, BUFFER_SIZE))) {
+        write(out, rows);
+      }
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Converts bytes back into rows. Rows written with Java serialization are also accepted.
+   *
+   * @param bytes to be converted to rows.
+   * @return the rows deserialized from the byte array.
+   * @see SampleSerDe#toByteArray(List)
+   */
+  @SuppressWarnings("unchecked")
+  public List<Row> toRows(byte[] bytes) throws IOException, ClassNotFoundException {
+    if (isJavaSerialized(bytes)) {
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+        return (List<Row>) in.readObject();
+      }
+    }
+    if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC[0] || bytes[1] != MAGIC[1]) {
+      throw new IOException("Bytes are not serialized rows");
+    }
+    byte version = bytes[2];
+    if (version != VERSION && version != VERSION_1) {
+      throw new IOException(String.format("Unsupported version %d of serialized rows", version));
+    }
+
+    Inflater inflater = (bytes[3] & FLAG_DEFLATE) != 0 ? new Inflater() : null;
+    try {
+      InputStream body = new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+      if (inflater != null) {
+        body = new InflaterInputStream(body, inflater, BUFFER_SIZE);
+      }
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(body, BUFFER_SIZE))) {
+        return read(in, version);
+      }
+    } finally {
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
+
+  private static boolean isJavaSerialized(byte[] bytes) {
+    return bytes.length >= 2
+      && bytes[0] == (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8)
+      && bytes[1] == (byte) ObjectStreamConstants.STREAM_MAGIC;
+  }
+
+  private static void write(DataOutputStream out, List<Row> rows) throws IOException {
+    Map<String, Integer> columns = new LinkedHashMap<>();
+    List<Object> objects = new ArrayList<>();
+    for (Row row : rows) {
+      int values = countValues(row);
+      for (int i = 0; i < row.width(); i++) {
+        columns.putIfAbsent(row.getColumn(i), columns.size());
+        if (i < values && getTag(row.getValue(i)) == TAG_OBJECT) {
+          objects.add(row.getValue(i));
+        }
+      }
+    }
+
+    writeVarInt(out, columns.size());
+    for (String column : columns.keySet()) {
+      writeValue(out, column);
+    }
+
+    out.writeBoolean(!objects.isEmpty());
+    if (!objects.isEmpty()) {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+        oos.writeObject(objects);
+      }
+      writeBytes(out, bos.toByteArray());
+    }
+
+    writeVarInt(out, rows.size());
+    for (Row row : rows) {
+      int values = countValues(row);
+      writeVarInt(out, row.width());
+      writeVarInt(out, values);
+      for (int i = 0; i < row.width(); i++) {
+        writeVarInt(out, columns.get(row.getColumn(i)));
+      }
+      for (int i = 0; i < values; i++) {
+        writeValue(out, row.getValue(i));
+      }
+    }
+  }
+
+  /**
+   * Returns the number of values of a row, which is less than its width for rows created from a list of columns.
+   */
+  private static int countValues(Row row) {
+    return Math.min(row.valueCount(), row.width());
+  }
+
+  private static byte getTag(Object value) {
+    if (value == null) {
+      return TAG_NULL;
+    } else if (value instanceof String) {
+      return TAG_STRING;
+    } else if (value instanceof Integer) {
+      return TAG_INT;
+    } else if (value instanceof Long) {
+      return TAG_LONG;
+    } else if (value instanceof Short) {
+      return TAG_SHORT;
+    } else if (value instanceof Float) {
+      return TAG_FLOAT;
+    } else if (value instanceof Double) {
+      return TAG_DOUBLE;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? TAG_TRUE : TAG_FALSE;
+    } else if (value instanceof byte[]) {
+      return TAG_BYTES;
+    } else if (value.getClass() == BigDecimal.class) {
+      return TAG_DECIMAL;
+    } else if (value instanceof LocalDate) {
+      return TAG_DATE;
+    } else if (value instanceof LocalTime) {
+      return TAG_TIME;
+    }
+    return TAG_OBJECT;
+  }
+
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    byte tag = getTag(value);
+    out.writeByte(tag);
+    switch (tag) {
+      case TAG_STRING:
+        writeString(out, (String) value);
+        break;
+      case TAG_INT:
+        writeVarLong(out, zigZag((Integer) value));
+        break;
+      case TAG_LONG:
+        writeVarLong(out, zigZag((Long) value));
+        break;
+      case TAG_SHORT:
+        out.writeShort((Short) value);
+        break;
+      case TAG_FLOAT:
+        out.writeFloat((Float) value);
+        break;
+      case TAG_DOUBLE:
+        out.writeDouble((Double) value);
+        break;
+      case TAG_BYTES:
+        writeBytes(out, (byte[]) value);
+        break;
+      case TAG_DECIMAL:
+        BigDecimal decimal = (BigDecimal) value;
+        writeVarLong(out, zigZag(decimal.scale()));
+        writeBytes(out, decimal.unscaledValue().toByteArray());
+        break;
+      case TAG_DATE:
+        writeVarLong(out, zigZag(((LocalDate) value).toEpochDay()));
+        break;
+      case TAG_TIME:
+        writeVarLong(out, ((LocalTime) value).toNanoOfDay());
+        break;
+      default:
+        // null, booleans and objects are fully described by the tag
+        break;
+    }
+  }
+
+  private static List<Row> read(DataInputStream in, byte version) throws IOException, ClassNotFoundException {
+    String[] columns = new String[readVarInt(in)];
+    for (int i = 0; i < columns.length; i++) {
+      if (version == VERSION_1) {
+        columns[i] = readString(in);
+        continue;
+      }
+      Object column = readValue(in, Collections.emptyIterator());
+      if (column != null && !(column instanceof String)) {
+        throw new IOException("Serialized rows have a column name that is not a string");
+      }
+      columns[i] = (String) column;
+    }
+
+    Iterator<?> objects = Collections.emptyIterator();
+    if (in.readBoolean()) {
+      try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+        objects = ((List<?>) ois.readObject()).iterator();
+      }
+    }
+
+    int count = readVarInt(in);
+    List<Row> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int width = readVarInt(in);
+      if (version == VERSION_1) {
+        rows.add(readRowV1(in, columns, objects, width));
+        continue;
+      }
+      int values = readVarInt(in);
+      if (values > width) {
+        throw new IOException("Serialized rows have a row with more values than columns");
+      }
+      List<String> names = new ArrayList<>(width);
+      for (int j = 0; j < width; j++) {
+        names.add(columns[readVarInt(in)]);
+      }
+      // Rows with fewer values than columns are rebuilt from their first columns, adding the last columns together
+      // with the values, which gives back the same columns and values.
+      Row row = new Row(names.subList(0, width - values));
+      for (int j = 0; j < values; j++) {
+        row.add(names.get(width - values + j), readValue(in, objects));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static Row readRowV1(DataInputStream in, String[] columns, Iterator<?> objects,
+                               int width) throws IOException {
+    if (!in.readBoolean()) {
+      List<String> names = new ArrayList<>(width);
+      for (int j = 0; j < width; j++) {
+        names.add(columns[readVarInt(in)]);
+      }
+      return new Row(names);
+    }
+    Row row = new Row();
+    for (int j = 0; j < width; j++) {
+      row.add(columns[readVarInt(in)], readValue(in, objects));
+    }
+    return row;
+  }
+
+  private static Object readValue(DataInputStream in, Iterator<?> objects) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+      case TAG_STRING:
+        return readString(in);
+      case TAG_INT:
+        return (int) unZigZag(readVarLong(in));
+      case TAG_LONG:
+        return unZigZag(readVarLong(in));
+      case TAG_SHORT:
+        return in.readShort();
+      case TAG_FLOAT:
+        return in.readFloat();
+      case TAG_DOUBLE:
+        return in.readDouble();
+      case TAG_TRUE:
+        return true;
+      case TAG_FALSE:
+        return false;
+      case TAG_BYTES:
+        return readBytes(in);
+      case TAG_DECIMAL:
+        int scale = (int) unZigZag(readVarLong(in));
+        return new BigDecimal(new BigInteger(readBytes(in)), scale);
+      case TAG_DATE:
+        return LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+      case TAG_TIME:
+        return LocalTime.ofNanoOfDay(readVarLong(in));
+      case TAG_OBJECT:
+        if (!objects.hasNext()) {
+          throw new IOException("Serialized rows refer to more values than were written");
+        }
+        return objects.next();
+      default:
+        throw new IOException(String.format("Unknown type tag %d in serialized rows", tag));
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    return new String(readBytes(in), StandardCharsets.UTF_8);
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[readVarInt(in)];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    writeVarLong(out, value & 0xFFFFFFFFL);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    long value = readVarLong(in);
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new IOException("Invalid length in serialized rows");
+    }
+    return (int) value;
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new EOFException("Malformed varint in serialized rows");
+  }
+}
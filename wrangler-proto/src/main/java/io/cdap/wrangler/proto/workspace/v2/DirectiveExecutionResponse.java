@@ -19,6 +19,7 @@ package io.cdap.wrangler.proto.workspace.v2;
 
 import io.cdap.wrangler.proto.workspace.WorkspaceValidationResult;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,13 +31,20 @@ public class DirectiveExecutionResponse extends ServiceResponse<Map<String, Obje
   private final Set<String> headers;
   private final Map<String, String> types;
   private final WorkspaceValidationResult summary;
+  private final List<DirectiveMetric> directiveMetrics;
 
   public DirectiveExecutionResponse(List<Map<String, Object>> values, Set<String> headers, Map<String, String> types,
                                     WorkspaceValidationResult summary) {
+    this(values, headers, types, summary, Collections.emptyList());
+  }
+
+  public DirectiveExecutionResponse(List<Map<String, Object>> values, Set<String> headers, Map<String, String> types,
+                                    WorkspaceValidationResult summary, List<DirectiveMetric> directiveMetrics) {
     super(values);
     this.headers = headers;
     this.types = types;
     this.summary = summary;
+    this.directiveMetrics = directiveMetrics;
   }
 
   public Set<String> getHeaders() {
@@ -50,4 +58,8 @@ public class DirectiveExecutionResponse extends ServiceResponse<Map<String, Obje
   public WorkspaceValidationResult getSummary() {
     return summary;
   }
+
+  public List<DirectiveMetric> getDirectiveMetrics() {
+    return directiveMetrics;
+  }
 }
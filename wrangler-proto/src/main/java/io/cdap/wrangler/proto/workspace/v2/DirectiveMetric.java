@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+
+package io.cdap.wrangler.proto.workspace.v2;
+
+/**
+ * V2 execution metrics of a directive of the recipe
+ */
+public class DirectiveMetric {
+  private final int index;
+  private final String directive;
+  private final long rowsIn;
+  private final long rowsOut;
+  private final long errors;
+  private final long invocations;
+  private final long timeNanos;
+  private final long p50Nanos;
+  private final long p99Nanos;
+  private final long maxNanos;
+
+  public DirectiveMetric(int index, String directive, long rowsIn, long rowsOut, long errors, long invocations,
+                         long timeNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+    this.index = index;
+    this.directive = directive;
+    this.rowsIn = rowsIn;
+    this.rowsOut = rowsOut;
+    this.errors = errors;
+    this.invocations = invocations;
+    this.timeNanos = timeNanos;
+    this.p50Nanos = p50Nanos;
+    this.p99Nanos = p99Nanos;
+    this.maxNanos = maxNanos;
+  }
+
+  /**
+   * @return position of the directive in the recipe of the request, starting at 0.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  public String getDirective() {
+    return directive;
+  }
+
+  public long getRowsIn() {
+    return rowsIn;
+  }
+
+  public long getRowsOut() {
+    return rowsOut;
+  }
+
+  public long getErrors() {
+    return errors;
+  }
+
+  public long getInvocations() {
+    return invocations;
+  }
+
+  public long getTimeNanos() {
+    return timeNanos;
+  }
+
+  public long getP50Nanos() {
+    return p50Nanos;
+  }
+
+  public long getP99Nanos() {
+    return p99Nanos;
+  }
+
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+}
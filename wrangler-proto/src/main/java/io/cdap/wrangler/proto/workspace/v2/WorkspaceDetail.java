@@ -18,13 +18,12 @@
 package io.cdap.wrangler.proto.workspace.v2;
 
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import javax.annotation.Nullable;
 
 /**
  * Full information about the workspace, including sample data
@@ -33,19 +32,35 @@ public class WorkspaceDetail {
   private final Workspace workspace;
   private final List<Row> sample;
   private final byte[] sampleAsBytes;
+  private final String sampleId;
 
   public WorkspaceDetail(Workspace workspace, List<Row> sample) {
     this.workspace = workspace;
     this.sample = sample;
     this.sampleAsBytes = convertToBytes(sample);
+    this.sampleId = null;
+  }
+
+  /**
+   * Creates the workspace detail from a sample that is already serialized, such as when it is read from storage.
+   */
+  public WorkspaceDetail(Workspace workspace, List<Row> sample, byte[] sampleAsBytes) {
+    this(workspace, sample, sampleAsBytes, null);
+  }
+
+  /**
+   * Creates the workspace detail of a stored sample, identified by the id assigned when the sample was saved.
+   */
+  public WorkspaceDetail(Workspace workspace, List<Row> sample, byte[] sampleAsBytes, @Nullable String sampleId) {
+    this.workspace = workspace;
+    this.sample = sample;
+    this.sampleAsBytes = sampleAsBytes;
+    this.sampleId = sampleId;
   }
 
   private byte[] convertToBytes(List<Row> sample) {
-    try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-         ObjectOutput out = new ObjectOutputStream(bos)) {
-      out.writeObject(sample);
-      out.flush();
-      return bos.toByteArray();
+    try {
+      return new SampleSerDe().toByteArray(sample);
     } catch (Exception e) {
       throw new RuntimeException("Error getting bytes from sample", e);
     }
@@ -63,6 +78,15 @@ public class WorkspaceDetail {
     return sampleAsBytes;
   }
 
+  /**
+   * @return id assigned to the sample when it was saved, which changes every time the sample is saved, or null
+   *         if the sample was not read from storage or was saved before ids were assigned.
+   */
+  @Nullable
+  public String getSampleId() {
+    return sampleId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.proto.workspace.v2;
+
+import java.util.List;
+
+/**
+ * Represents a paginated list of workspaces as a response.
+ */
+public class WorkspaceListResponse extends ServiceResponse<Workspace> {
+  private final String nextPageToken;
+
+  public WorkspaceListResponse(List<Workspace> workspaces, String nextPageToken) {
+    super(workspaces);
+    this.nextPageToken = nextPageToken;
+  }
+
+  public String getNextPageToken() {
+    return nextPageToken;
+  }
+}
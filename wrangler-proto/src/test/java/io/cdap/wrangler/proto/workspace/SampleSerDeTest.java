@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.proto.workspace;
+
+import io.cdap.wrangler.api.Row;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests {@link SampleSerDe}
+ */
+public class SampleSerDeTest {
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    List<Row> rows = createRows(100);
+    for (boolean compress : new boolean[] {true, false}) {
+      SampleSerDe serDe = new SampleSerDe(compress);
+      List<Row> actual = serDe.toRows(serDe.toByteArray(rows));
+      Assert.assertEquals(rows.size(), actual.size());
+      for (int i = 0; i < rows.size(); i++) {
+        Row expected = rows.get(i);
+        Assert.assertEquals(expected.width(), actual.get(i).width());
+        for (int j = 0; j < expected.width(); j++) {
+          Assert.assertEquals(expected.getColumn(j), actual.get(i).getColumn(j));
+          if (expected.getValue(j) instanceof byte[]) {
+            Assert.assertArrayEquals((byte[]) expected.getValue(j), (byte[]) actual.get(i).getValue(j));
+          } else {
+            Assert.assertEquals(expected.getValue(j), actual.get(i).getValue(j));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRowsWithDifferentColumns() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row("a", Integer.MIN_VALUE).add("b", null).add("c", Long.MAX_VALUE));
+    rows.add(new Row("c", "x"));
+    rows.add(new Row());
+    rows.add(new Row(Arrays.asList("d", "e")));
+    SampleSerDe serDe = new SampleSerDe();
+    Assert.assertEquals(rows, serDe.toRows(serDe.toByteArray(rows)));
+    Assert.assertEquals(new ArrayList<>(), serDe.toRows(serDe.toByteArray(new ArrayList<>())));
+  }
+
+  @Test
+  public void testNullColumnNames() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(null, "a").add("b", null));
+    rows.add(new Row(Arrays.asList("c", null)));
+    SampleSerDe serDe = new SampleSerDe();
+    List<Row> actual = serDe.toRows(serDe.toByteArray(rows));
+    Assert.assertEquals(rows, actual);
+    Assert.assertNull(actual.get(0).getColumn(0));
+    Assert.assertNull(actual.get(1).getColumn(1));
+  }
+
+  @Test
+  public void testRowsWithSomeValues() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(Arrays.asList("a", "b", "c")).add("d", 1L).add("e", "x"));
+    rows.add(new Row(Arrays.asList("a", "b")).add("c", new ArrayList<>(Arrays.asList(1, 2))));
+    rows.add(new Row("a", 2L));
+    SampleSerDe serDe = new SampleSerDe();
+    List<Row> actual = serDe.toRows(serDe.toByteArray(rows));
+    Assert.assertEquals(rows, actual);
+    Assert.assertEquals(5, actual.get(0).width());
+    Assert.assertEquals(2, actual.get(0).valueCount());
+    Assert.assertEquals(1L, actual.get(0).getValue(0));
+    Assert.assertEquals(1, actual.get(1).valueCount());
+    // The binary format is used rather than Java serialization.
+    Assert.assertEquals('W', serDe.toByteArray(rows)[0]);
+  }
+
+  @Test
+  public void testReadsFirstVersion() throws Exception {
+    byte[] bytes = new byte[] {'W', 'R', 1, 0, 1, 1, 'a', 0, 2, 1, 1, 0, 1, 1, 'x', 1, 0, 0};
+    List<Row> rows = new SampleSerDe().toRows(bytes);
+    Assert.assertEquals(2, rows.size());
+    Assert.assertEquals(new Row("a", "x"), rows.get(0));
+    Assert.assertEquals(new Row(Arrays.asList("a")), rows.get(1));
+  }
+
+  @Test
+  public void testReadsJavaSerializedRows() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row("body", "a,b").add("id", 1L));
+    rows.add(new Row("body", "c,d").add("id", 2L));
+    Assert.assertEquals(rows, new SampleSerDe().toRows(javaSerialize(rows)));
+  }
+
+  @Test
+  public void testSmallerThanJavaSerialization() throws Exception {
+    List<Row> rows = createRows(1000);
+    int length = javaSerialize(rows).length;
+    Assert.assertTrue(new SampleSerDe(false).toByteArray(rows).length < length);
+    Assert.assertTrue(new SampleSerDe(true).toByteArray(rows).length < length);
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvalidBytes() throws Exception {
+    new SampleSerDe().toRows("not rows".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static byte[] javaSerialize(List<Row> rows) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+      out.writeObject(rows);
+    }
+    return bos.toByteArray();
+  }
+
+  private static List<Row> createRows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Row row = new Row("body", String.format("%d,name%d,%f", i, i, i * 1.5));
+      row.add("int", i);
+      row.add("long", (long) i * -100000L);
+      row.add("short", (short) i);
+      row.add("float", i * 0.5f);
+      row.add("double", i * 0.25d);
+      row.add("boolean", i % 2 == 0);
+      row.add("bytes", ("b" + i).getBytes(StandardCharsets.UTF_8));
+      row.add("null", null);
+      row.add("decimal", new BigDecimal(i).movePointLeft(2));
+      row.add("date", LocalDate.of(2018, 11, 11).plusDays(i));
+      row.add("time", LocalTime.of(11, 11, 11).plusSeconds(i));
+      row.add("timestamp", ZonedDateTime.of(2018, 11, 11, 11, 11, 11, 0, ZoneId.of("UTC")));
+      row.add("list", new ArrayList<>(Arrays.asList("x" + i, "y")));
+      rows.add(row);
+    }
+    return rows;
+  }
+}
@@ -19,6 +19,7 @@ package io.cdap.wrangler.service.adls;
 import com.google.common.base.Charsets;
 import com.google.common.base.Strings;
 import com.microsoft.azure.datalake.store.ADLException;
+import com.microsoft.azure.datalake.store.ADLFileInputStream;
 import com.microsoft.azure.datalake.store.ADLStoreClient;
 import com.microsoft.azure.datalake.store.DirectoryEntry;
 import com.microsoft.azure.datalake.store.DirectoryEntryType;
@@ -51,14 +52,11 @@ import io.cdap.wrangler.proto.adls.FileQueryDetails;
 import io.cdap.wrangler.proto.connection.Connection;
 import io.cdap.wrangler.proto.connection.ConnectionMeta;
 import io.cdap.wrangler.proto.connection.ConnectionType;
-import io.cdap.wrangler.sampling.Bernoulli;
-import io.cdap.wrangler.sampling.Poisson;
-import io.cdap.wrangler.sampling.Reservoir;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.FileTypeDetector;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.common.Format;
-import io.cdap.wrangler.service.explorer.BoundedLineInputStream;
-import io.cdap.wrangler.utils.ObjectSerDe;
+import io.cdap.wrangler.service.explorer.FileSampler;
 import io.cdap.wrangler.utils.ReferenceNames;
 
 import java.io.BufferedInputStream;
@@ -66,7 +64,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
@@ -258,7 +255,7 @@ public class ADLSHandler extends AbstractWranglerHandler {
     DirectoryEntry file = getFileFromClient(client, fileQueryDetails.getFilePath());
     try (InputStream inputStream = clientInputStream(client, fileQueryDetails)) {
       if ("text/plain".equalsIgnoreCase(fileQueryDetails.getHeader())) {
-        return loadSamplableFile(namespaceID, fileQueryDetails.getScope(), inputStream, file,
+        return loadSamplableFile(namespaceID, fileQueryDetails.getScope(), client, inputStream, file,
                 fileQueryDetails.getLines(), fileQueryDetails.getFraction(), fileQueryDetails.getSampler());
       } else {
         return loadFile(namespaceID, fileQueryDetails.getScope(), inputStream, file);
@@ -278,62 +275,63 @@ public class ADLSHandler extends AbstractWranglerHandler {
     return client.getDirectoryEntry(path);
   }
 
-  private ADLSConnectionSample loadSamplableFile(NamespacedId connectionId,
-                                                 String scope, InputStream inputStream, DirectoryEntry fileEntry,
+  private ADLSConnectionSample loadSamplableFile(NamespacedId connectionId, String scope, ADLStoreClient client,
+                                                 InputStream inputStream, DirectoryEntry fileEntry,
                                                  int lines, double fraction, String sampler) throws IOException {
     SamplingMethod samplingMethod = SamplingMethod.fromString(sampler);
 
     if (sampler == null || sampler.isEmpty() || SamplingMethod.fromString(sampler) == null) {
       samplingMethod = SamplingMethod.FIRST;
     }
-    final SamplingMethod samplingMethod1 = samplingMethod;
-    try (BoundedLineInputStream blis = BoundedLineInputStream.iterator(inputStream, Charsets.UTF_8, lines)) {
-      String name = fileEntry.name;
-      String file = String.format("%s:%s", scope, fileEntry.name);
-      String fileName = fileEntry.fullName;
-      String identifier = ServiceUtils.generateMD5(file);
-      // Set all properties and write to workspace.
-      Map<String, String> properties = new HashMap<>();
-      properties.put(PropertyIds.FILE_PATH, fileEntry.fullName);
-      properties.put(PropertyIds.NAME, name);
-      properties.put(PropertyIds.CONNECTION_TYPE, ConnectionType.ADLS.getType());
-      properties.put(PropertyIds.SAMPLER_TYPE, samplingMethod.getMethod());
-      properties.put(PropertyIds.CONNECTION_ID, connectionId.getId());
-
-      NamespacedId namespacedWorkspaceId = new NamespacedId(connectionId.getNamespace(), identifier);
-      WorkspaceMeta workspaceMeta = WorkspaceMeta.builder(fileName)
-              .setScope(scope)
-              .setProperties(properties)
-              .build();
-      TransactionRunners.run(getContext(), context -> {
-        WorkspaceDataset ws = WorkspaceDataset.get(context);
-        ws.writeWorkspaceMeta(namespacedWorkspaceId, workspaceMeta);
-
-        // Iterate through lines to extract only 'limit' random lines.
-        // Depending on the type, the sampling of the input is performed.
-        List<Row> rows = new ArrayList<>();
-        Iterator<String> it = blis;
-        if (samplingMethod1 == SamplingMethod.POISSON) {
-          it = new Poisson<String>(fraction).sample(blis);
-        } else if (samplingMethod1 == SamplingMethod.BERNOULLI) {
-          it = new Bernoulli<String>(fraction).sample(blis);
-        } else if (samplingMethod1 == SamplingMethod.RESERVOIR) {
-          it = new Reservoir<String>(lines).sample(blis);
-        }
-        while (it.hasNext()) {
-          rows.add(new Row(COLUMN_NAME, it.next()));
-        }
 
-        // Write rows to workspace.
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-        byte[] data = serDe.toByteArray(rows);
-        ws.updateWorkspaceData(namespacedWorkspaceId, DataType.RECORDS, data);
+    // Random samplers stream the whole file, stratified sampling seeks to evenly spaced offsets in it.
+    FileSampler fileSampler = new FileSampler(samplingMethod, lines, fraction);
+    List<String> lineSample;
+    if (samplingMethod == SamplingMethod.STRATIFIED) {
+      lineSample = fileSampler.sample(fileEntry.length, offset -> {
+        ADLFileInputStream input = client.getReadStream(fileEntry.fullName);
+        input.seek(offset);
+        return input;
       });
-
-      // Preparing return response to include mandatory fields : id and name.
-      return new ADLSConnectionSample(namespacedWorkspaceId.getId(), name, ConnectionType.ADLS.getType(),
-              samplingMethod.getMethod(), connectionId.getId());
+    } else {
+      lineSample = fileSampler.sample(inputStream);
     }
+
+    String name = fileEntry.name;
+    String file = String.format("%s:%s", scope, fileEntry.name);
+    String fileName = fileEntry.fullName;
+    String identifier = ServiceUtils.generateMD5(file);
+    // Set all properties and write to workspace.
+    Map<String, String> properties = new HashMap<>();
+    properties.put(PropertyIds.FILE_PATH, fileEntry.fullName);
+    properties.put(PropertyIds.NAME, name);
+    properties.put(PropertyIds.CONNECTION_TYPE, ConnectionType.ADLS.getType());
+    properties.put(PropertyIds.SAMPLER_TYPE, samplingMethod.getMethod());
+    properties.put(PropertyIds.CONNECTION_ID, connectionId.getId());
+
+    NamespacedId namespacedWorkspaceId = new NamespacedId(connectionId.getNamespace(), identifier);
+    WorkspaceMeta workspaceMeta = WorkspaceMeta.builder(fileName)
+            .setScope(scope)
+            .setProperties(properties)
+            .build();
+    TransactionRunners.run(getContext(), context -> {
+      WorkspaceDataset ws = WorkspaceDataset.get(context);
+      ws.writeWorkspaceMeta(namespacedWorkspaceId, workspaceMeta);
+
+      List<Row> rows = new ArrayList<>();
+      for (String line : lineSample) {
+        rows.add(new Row(COLUMN_NAME, line));
+      }
+
+      // Write rows to workspace.
+      SampleSerDe serDe = new SampleSerDe();
+      byte[] data = serDe.toByteArray(rows);
+      ws.updateWorkspaceData(namespacedWorkspaceId, DataType.RECORDS, data);
+    });
+
+    // Preparing return response to include mandatory fields : id and name.
+    return new ADLSConnectionSample(namespacedWorkspaceId.getId(), name, ConnectionType.ADLS.getType(),
+            samplingMethod.getMethod(), connectionId.getId());
   }
 
   private ADLSConnectionSample loadFile(NamespacedId connectionId, String scope, InputStream inputStream,
@@ -61,9 +61,9 @@ import io.cdap.wrangler.proto.bigquery.TableInfo;
 import io.cdap.wrangler.proto.connection.Connection;
 import io.cdap.wrangler.proto.connection.ConnectionMeta;
 import io.cdap.wrangler.proto.connection.ConnectionType;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.gcp.GCPUtils;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -250,7 +250,7 @@ public class BigQueryHandler extends AbstractWranglerHandler {
         WorkspaceDataset ws = WorkspaceDataset.get(context);
         NamespacedId workspaceId = ws.createWorkspace(ns, workspaceMeta);
 
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
+        SampleSerDe serDe = new SampleSerDe();
         byte[] data = serDe.toByteArray(tableData.getFirst());
         ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
         return workspaceId.getId();
@@ -48,9 +48,9 @@ import io.cdap.wrangler.proto.connection.ConnectionType;
 import io.cdap.wrangler.proto.db.AllowedDriverInfo;
 import io.cdap.wrangler.proto.db.DBSpec;
 import io.cdap.wrangler.proto.db.JDBCDriverInfo;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.macro.ServiceMacroEvaluator;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 import org.apache.commons.lang3.text.StrLookup;
 import org.apache.commons.lang3.text.StrSubstitutor;
@@ -435,7 +435,7 @@ public class DatabaseHandler extends AbstractWranglerHandler {
             WorkspaceDataset ws = WorkspaceDataset.get(context);
             NamespacedId workspaceId = ws.createWorkspace(ns, workspaceMeta);
 
-            ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
+            SampleSerDe serDe = new SampleSerDe();
             byte[] data = serDe.toByteArray(rows);
             ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
             return workspaceId.getId();
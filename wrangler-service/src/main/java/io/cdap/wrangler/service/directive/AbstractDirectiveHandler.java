@@ -24,6 +24,7 @@ import io.cdap.cdap.api.service.http.SystemHttpServiceContext;
 import io.cdap.cdap.features.Feature;
 import io.cdap.directives.aggregates.DefaultTransientStore;
 import io.cdap.wrangler.api.CompileException;
+import io.cdap.wrangler.api.Compiler;
 import io.cdap.wrangler.api.DirectiveConfig;
 import io.cdap.wrangler.api.DirectiveParseException;
 import io.cdap.wrangler.api.ErrorRecordBase;
@@ -34,18 +35,22 @@ import io.cdap.wrangler.api.RecipeException;
 import io.cdap.wrangler.api.RecipeParser;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.TransientStore;
+import io.cdap.wrangler.executor.DirectiveMetrics;
+import io.cdap.wrangler.executor.ParallelRecipePipelineExecutor;
+import io.cdap.wrangler.executor.RecipeCheckpoints;
 import io.cdap.wrangler.executor.RecipePipelineExecutor;
+import io.cdap.wrangler.parser.CompiledRecipeCache;
 import io.cdap.wrangler.parser.ConfigDirectiveContext;
 import io.cdap.wrangler.parser.GrammarBasedParser;
 import io.cdap.wrangler.parser.GrammarWalker;
 import io.cdap.wrangler.parser.MigrateToV2;
-import io.cdap.wrangler.parser.RecipeCompiler;
 import io.cdap.wrangler.proto.BadRequestException;
 import io.cdap.wrangler.proto.ErrorRecordsException;
 import io.cdap.wrangler.proto.workspace.ColumnStatistics;
 import io.cdap.wrangler.proto.workspace.ColumnValidationResult;
 import io.cdap.wrangler.proto.workspace.WorkspaceValidationResult;
 import io.cdap.wrangler.proto.workspace.v2.DirectiveExecutionResponse;
+import io.cdap.wrangler.proto.workspace.v2.DirectiveMetric;
 import io.cdap.wrangler.registry.CompositeDirectiveRegistry;
 import io.cdap.wrangler.registry.DirectiveRegistry;
 import io.cdap.wrangler.registry.SystemDirectiveRegistry;
@@ -63,6 +68,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -70,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Abstract handler which contains common logic for v1 and v2 endpoints
@@ -86,18 +93,36 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
   protected static final String RECORD_DELIMITER_HEADER = "recorddelimiter";
   protected static final String DELIMITER_HEADER = "delimiter";
   protected static final TransientStore TRANSIENT_STORE = new DefaultTransientStore();
+  // Number of threads a recipe is executed on, recipes with non parallelizable directives run on one thread.
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  // Compiled recipes shared by all the handlers, so that re-executing a recipe does not parse it again.
+  protected static final CompiledRecipeCache RECIPE_CACHE = new CompiledRecipeCache();
+  // The wall time of a directive is measured once every this many invocations, rows and errors are always counted.
+  private static final int METRICS_SAMPLE_INTERVAL = 16;
+  // Runtime argument setting the number of rows pushed through the directives at a time, such as 1000 to 10000.
+  // The local transient scope is then reset once per batch instead of once per row.
+  private static final String EXECUTION_BATCH_SIZE = "wrangler.execution.batch.size";
 
   protected DirectiveRegistry composite;
+  protected UserDirectiveRegistry userDirectives;
   protected boolean schemaManagementEnabled;
+  private int batchSize;
 
   @Override
   public void initialize(SystemHttpServiceContext context) throws Exception {
     super.initialize(context);
+    userDirectives = new UserDirectiveRegistry(context);
     composite = new CompositeDirectiveRegistry(
       SystemDirectiveRegistry.INSTANCE,
-      new UserDirectiveRegistry(context)
+      userDirectives
     );
     schemaManagementEnabled = Feature.WRANGLER_SCHEMA_MANAGEMENT.isEnabled(context);
+    String size = context.getRuntimeArguments().get(EXECUTION_BATCH_SIZE);
+    batchSize = size == null ? RecipePipelineExecutor.DEFAULT_BATCH_SIZE : Integer.parseInt(size);
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(
+        String.format("Runtime argument '%s' must be at least 1, but was %d.", EXECUTION_BATCH_SIZE, batchSize));
+    }
   }
 
   /**
@@ -119,6 +144,24 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
       List<String> directives,
       List<Row> sample,
       GrammarWalker.Visitor<E> grammarVisitor) throws DirectiveParseException, E, RecipeException {
+    return executeDirectives(namespace, directives, sample, grammarVisitor, null, null);
+  }
+
+  /**
+   * Executes the directives on the sample, resuming from the last checkpoint of the recipe that is still valid
+   * when checkpoints are given. Checkpoints are not used when schema management is enabled, as the output schema
+   * is generated from the execution of every directive.
+   *
+   * @param metrics list the metrics of the directives of the recipe are added to once the recipe is executed, or
+   *                null if the metrics are not collected.
+   */
+  protected <E extends Exception> List<Row> executeDirectives(
+      String namespace,
+      List<String> directives,
+      List<Row> sample,
+      GrammarWalker.Visitor<E> grammarVisitor,
+      @Nullable RecipeCheckpoints checkpoints,
+      @Nullable List<DirectiveMetric> metrics) throws DirectiveParseException, E, RecipeException {
 
     if (directives.isEmpty()) {
       return sample;
@@ -127,21 +170,41 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
     GrammarMigrator migrator = new MigrateToV2(directives);
     String recipe = migrator.migrate();
 
-    // Parse and call grammar visitor
+    // Parse and call grammar visitor, the recipe is compiled once and then shared with the parser below
+    Compiler compiler = getRecipeCompiler(namespace);
+    List<String> sources = new ArrayList<>();
     try {
-      GrammarWalker walker = new GrammarWalker(new RecipeCompiler(), new ConfigDirectiveContext(DirectiveConfig.EMPTY));
-      walker.walk(recipe, grammarVisitor);
+      GrammarWalker walker = new GrammarWalker(compiler, new ConfigDirectiveContext(DirectiveConfig.EMPTY));
+      walker.walk(recipe, (command, tokenGroup) -> {
+        sources.add(tokenGroup.getSourceInfo().getSource());
+        grammarVisitor.visit(command, tokenGroup);
+      });
     } catch (CompileException e) {
       throw new BadRequestException(e.getMessage(), e);
     }
 
     RecipeParser parser = new GrammarBasedParser(namespace, recipe, composite,
-                                                 new ConfigDirectiveContext(DirectiveConfig.EMPTY));
-    try (RecipePipelineExecutor executor = new RecipePipelineExecutor(parser,
-                                                                      new ServicePipelineContext(
-                                                                        namespace, ExecutorContext.Environment.SERVICE,
-                                                                        getContext(), TRANSIENT_STORE))) {
-      List<Row> result = executor.execute(sample);
+                                                 new ConfigDirectiveContext(DirectiveConfig.EMPTY), compiler);
+    RecipeCheckpoints.Execution execution = checkpoints == null || schemaManagementEnabled ?
+      null : checkpoints.start(sources, sample);
+    if (execution != null) {
+      parser = execution.wrap(parser);
+    }
+    try (ParallelRecipePipelineExecutor executor = new ParallelRecipePipelineExecutor(
+      parser,
+      new ServicePipelineContext(namespace, ExecutorContext.Environment.SERVICE, getContext(), TRANSIENT_STORE),
+      () -> new ServicePipelineContext(namespace, ExecutorContext.Environment.SERVICE, getContext(),
+                                       new DefaultTransientStore()),
+      PARALLELISM, batchSize)) {
+      if (metrics != null) {
+        executor.enableDirectiveMetrics(METRICS_SAMPLE_INTERVAL);
+      }
+      List<Row> result;
+      try {
+        result = executor.execute(execution == null ? sample : execution.getRows());
+      } catch (RecipeException e) {
+        throw execution == null ? e : execution.toRecipeException(e);
+      }
 
       List<ErrorRecordBase> errors = executor.errors()
         .stream()
@@ -151,15 +214,53 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
       if (!errors.isEmpty()) {
         throw new ErrorRecordsException(errors);
       }
+      if (execution != null) {
+        execution.commit();
+      }
+      if (metrics != null) {
+        metrics.addAll(toDirectiveMetrics(executor.getDirectiveMetrics(), execution));
+      }
       return result;
     }
   }
 
   /**
-   * Transform the rows to response that is user friendly. Also generates the summary from the rows.
+   * Converts the metrics of the executed directives to the metrics of the directives of the recipe, leaving out
+   * the directives added to capture checkpoints.
+   */
+  private static List<DirectiveMetric> toDirectiveMetrics(@Nullable DirectiveMetrics metrics,
+                                                          @Nullable RecipeCheckpoints.Execution execution) {
+    if (metrics == null) {
+      return Collections.emptyList();
+    }
+    List<DirectiveMetric> result = new ArrayList<>(metrics.size());
+    for (int i = 0; i < metrics.size(); i++) {
+      int index = execution == null ? i : execution.getRecipeIndex(i);
+      if (index < 0) {
+        continue;
+      }
+      result.add(new DirectiveMetric(index, metrics.getName(i), metrics.getRowsIn(i), metrics.getRowsOut(i),
+                                     metrics.getErrors(i), metrics.getInvocations(i), metrics.getEstimatedNanos(i),
+                                     metrics.getPercentileNanos(i, 50), metrics.getPercentileNanos(i, 99),
+                                     metrics.getMaxNanos(i)));
+    }
+    return result;
+  }
+
+  /**
+   * Returns a {@link Compiler} backed by the shared cache of compiled recipes. Entries are keyed by the fingerprint
+   * of the user directives of the namespace, which is the same for every handler that loaded the same directives.
+   */
+  protected Compiler getRecipeCompiler(String namespace) {
+    return RECIPE_CACHE.compiler(namespace, userDirectives.getFingerprint(namespace));
+  }
+
+  /**
+   * Transform the rows to response that is user friendly. Also generates the summary from the rows, and adds the
+   * metrics of the directives that produced the rows, which are empty if the directives were executed remotely.
    */
   protected DirectiveExecutionResponse generateExecutionResponse(
-    List<Row> rows, int limit) throws Exception {
+    List<Row> rows, int limit, List<DirectiveMetric> metrics) throws Exception {
     List<Map<String, Object>> values = new ArrayList<>(rows.size());
     Map<String, String> types = new LinkedHashMap<>();
     SchemaConverter convertor = new SchemaConverter();
@@ -211,7 +312,7 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
       }
       values.add(value);
     }
-    return new DirectiveExecutionResponse(values, types.keySet(), types, getWorkspaceSummary(rows));
+    return new DirectiveExecutionResponse(values, types.keySet(), types, getWorkspaceSummary(rows), metrics);
   }
 
   /**
@@ -246,6 +347,8 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
 
     Row stats = (Row) summary.getValue("stats");
     Row types = (Row) summary.getValue("types");
+    Row scanned = (Row) summary.getValue("scanned");
+    Row confidence = (Row) summary.getValue("confidence");
 
     List<Pair<String, Object>> fields = stats.getFields();
     Map<String, ColumnStatistics> statistics = new HashMap<>();
@@ -271,6 +374,15 @@ public class AbstractDirectiveHandler extends AbstractWranglerHandler {
       statistics.put(field.getFirst(), new ColumnStatistics(generalStats, typeStats));
     }
 
+    for (Pair<String, Object> field : scanned.getFields()) {
+      String column = field.getFirst();
+      ColumnStatistics existingStats = statistics.get(column);
+      statistics.put(column, new ColumnStatistics(existingStats == null ? null : existingStats.getGeneral(),
+                                                  existingStats == null ? null : existingStats.getTypes(),
+                                                  ((Double) field.getSecond()).intValue(),
+                                                  ((Double) confidence.getValue(column)).floatValue()));
+    }
+
     return new WorkspaceValidationResult(columnValidationResults, statistics);
   }
 
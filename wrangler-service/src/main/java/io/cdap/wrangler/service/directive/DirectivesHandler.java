@@ -62,14 +62,15 @@ import io.cdap.wrangler.proto.workspace.DirectiveDescriptor;
 import io.cdap.wrangler.proto.workspace.DirectiveExecutionResponse;
 import io.cdap.wrangler.proto.workspace.DirectiveUsage;
 import io.cdap.wrangler.proto.workspace.ModelInfo;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.proto.workspace.WorkspaceInfo;
 import io.cdap.wrangler.proto.workspace.WorkspaceSummaryResponse;
+import io.cdap.wrangler.proto.workspace.v2.DirectiveMetric;
 import io.cdap.wrangler.registry.CompositeDirectiveRegistry;
 import io.cdap.wrangler.registry.DirectiveInfo;
 import io.cdap.wrangler.registry.DirectiveRegistry;
 import io.cdap.wrangler.registry.SystemDirectiveRegistry;
 import io.cdap.wrangler.registry.UserDirectiveRegistry;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ProjectInfo;
 import io.cdap.wrangler.utils.RowHelper;
 import io.cdap.wrangler.utils.SchemaConverter;
@@ -77,9 +78,7 @@ import org.apache.commons.lang3.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.net.HttpURLConnection;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
@@ -92,6 +91,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
@@ -416,8 +416,7 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
             for (String line : body.split(delimiter)) {
               rows.add(new Row(COLUMN_NAME, line));
             }
-            ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-            byte[] bytes = serDe.toByteArray(rows);
+            byte[] bytes = new SampleSerDe().toByteArray(rows);
             ws.updateWorkspaceData(id, DataType.RECORDS, bytes);
             break;
 
@@ -499,8 +498,7 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
             for (String line : body.split(delimiter)) {
               rows.add(new Row(id, line));
             }
-            ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-            byte[] bytes = serDe.toByteArray(rows);
+            byte[] bytes = new SampleSerDe().toByteArray(rows);
             ws.updateWorkspaceData(namespaceId, DataType.RECORDS, bytes);
             break;
 
@@ -559,17 +557,18 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
         int limit = directiveRequest.getSampling().getLimit();
         NamespacedId namespacedId = new NamespacedId(ns, id);
         UserDirectivesCollector userDirectivesCollector = new UserDirectivesCollector();
+        List<DirectiveMetric> metrics = new ArrayList<>();
         List<Row> rows = executeDirectives(namespacedId, directives, records -> {
           if (records == null) {
             return Collections.emptyList();
           }
           int min = Math.min(records.size(), limit);
           return records.subList(0, min);
-        }, userDirectivesCollector);
+        }, userDirectivesCollector, metrics);
         userDirectivesCollector.addLoadDirectivesPragma(directives);
 
         io.cdap.wrangler.proto.workspace.v2.DirectiveExecutionResponse response =
-          generateExecutionResponse(rows, directiveRequest.getWorkspace().getResults());
+          generateExecutionResponse(rows, directiveRequest.getWorkspace().getResults(), metrics);
 
         // Save the recipes being executed.
         TransactionRunners.run(getContext(), context -> {
@@ -1053,9 +1052,7 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
 
       case RECORDS: {
         if (workspace.getData() != null) {
-          try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(workspace.getData()))) {
-            rows = (List<Row>) ois.readObject();
-          }
+          rows = new SampleSerDe().toRows(workspace.getData());
         }
         break;
       }
@@ -1088,6 +1085,23 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
   private <E extends Exception> List<Row> executeDirectives(NamespacedId id, List<String> directives,
                                                             Function<List<Row>, List<Row>> sample,
                                                             Visitor<E> grammarVisitor) {
+    return executeDirectives(id, directives, sample, grammarVisitor, null);
+  }
+
+  /**
+   * Executes directives by extracting them from request.
+   *
+   * @param id data to be used for executing directives.
+   * @param directives the list of directives to execute
+   * @param sample sampling function.
+   * @param grammarVisitor visitor to call while parsing directives
+   * @param metrics list the metrics of the directives are added to, or null if the metrics are not collected.
+   * @return records generated from the directives.
+   */
+  private <E extends Exception> List<Row> executeDirectives(NamespacedId id, List<String> directives,
+                                                            Function<List<Row>, List<Row>> sample,
+                                                            Visitor<E> grammarVisitor,
+                                                            @Nullable List<DirectiveMetric> metrics) {
     return TransactionRunners.run(getContext(), ctx -> {
       WorkspaceDataset ws = WorkspaceDataset.get(ctx);
 
@@ -1095,7 +1109,7 @@ public class DirectivesHandler extends AbstractDirectiveHandler {
       // Extract rows from the workspace.
       List<Row> rows = fromWorkspace(workspace);
       return executeDirectives(id.getNamespace().getName(), directives, sample.apply(rows),
-                               grammarVisitor);
+                               grammarVisitor, null, metrics);
     });
   }
 }
@@ -15,9 +15,12 @@
  */
 package io.cdap.wrangler.service.directive;
 
+import com.google.gson.Gson;
 import io.cdap.cdap.api.data.schema.Schema;
 import io.cdap.wrangler.parser.DirectiveClass;
+import io.cdap.wrangler.utils.KryoSerializer;
 
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,6 +35,13 @@ public class RemoteDirectiveRequest {
   private final byte[] data;
   private final Schema inputSchema;
 
+  /**
+   * Only used by {@link KryoSerializer}
+   */
+  private RemoteDirectiveRequest() {
+    this(null, new HashMap<>(), null, null, null);
+  }
+
   RemoteDirectiveRequest(String recipe, Map<String, DirectiveClass> systemDirectives,
                          String pluginNameSpace, byte[] data, Schema inputSchema) {
     this.recipe = recipe;
@@ -60,4 +70,36 @@ public class RemoteDirectiveRequest {
   public Schema getInputSchema() {
     return inputSchema;
   }
+
+  /**
+   * Encodes the request as the parameter of the remote execution task. The binary encoding is Kryo encoded in
+   * Base64, which is much smaller than JSON, where the sample bytes are written as an array of numbers. Task
+   * workers of previous versions only read the JSON encoding, so the binary encoding requires all the task workers
+   * to be upgraded first.
+   *
+   * @param gson to encode the request with when it is not binary encoded
+   * @param binary true to use the binary encoding
+   * @return the task parameter
+   */
+  String toTaskParam(Gson gson, boolean binary) {
+    if (!binary) {
+      return gson.toJson(this);
+    }
+    return Base64.getEncoder().encodeToString(new KryoSerializer().fromObject(this));
+  }
+
+  /**
+   * Decodes a request encoded by {@link #toTaskParam(Gson, boolean)} with either encoding.
+   *
+   * @param gson to decode the request with when it is not binary encoded
+   * @param param the task parameter
+   * @return the request
+   */
+  static RemoteDirectiveRequest fromTaskParam(Gson gson, String param) {
+    // a JSON object starts with a brace, which is not a Base64 character
+    if (param.startsWith("{")) {
+      return gson.fromJson(param, RemoteDirectiveRequest.class);
+    }
+    return new KryoSerializer().toObject(Base64.getDecoder().decode(param), RemoteDirectiveRequest.class);
+  }
 }
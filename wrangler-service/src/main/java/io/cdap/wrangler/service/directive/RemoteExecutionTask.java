@@ -47,6 +47,7 @@ import io.cdap.wrangler.parser.MapArguments;
 import io.cdap.wrangler.parser.RecipeCompiler;
 import io.cdap.wrangler.proto.BadRequestException;
 import io.cdap.wrangler.proto.ErrorRecordsException;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.registry.DirectiveInfo;
 import io.cdap.wrangler.registry.UserDirectiveRegistry;
 import io.cdap.wrangler.utils.KryoSerializer;
@@ -71,8 +72,8 @@ public class RemoteExecutionTask implements RunnableTask {
 
   @Override
   public void run(RunnableTaskContext runnableTaskContext) throws Exception {
-    RemoteDirectiveRequest directiveRequest = GSON.fromJson(runnableTaskContext.getParam(),
-                                                            RemoteDirectiveRequest.class);
+    RemoteDirectiveRequest directiveRequest = RemoteDirectiveRequest.fromTaskParam(GSON,
+                                                                                   runnableTaskContext.getParam());
 
     SystemAppTaskContext systemAppContext = runnableTaskContext.getRunnableTaskSystemAppContext();
     String namespace = directiveRequest.getPluginNameSpace();
@@ -111,8 +112,7 @@ public class RemoteExecutionTask implements RunnableTask {
         return;
       }
 
-      ObjectSerDe<List<Row>> objectSerDe = new ObjectSerDe<>();
-      List<Row> rows = objectSerDe.toObject(directiveRequest.getData());
+      List<Row> rows = new SampleSerDe().toRows(directiveRequest.getData());
 
       Schema inputSchema = directiveRequest.getInputSchema();
       TransientStore transientStore = new DefaultTransientStore();
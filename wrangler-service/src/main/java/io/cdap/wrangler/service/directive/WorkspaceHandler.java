@@ -18,6 +18,8 @@
 package io.cdap.wrangler.service.directive;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -52,17 +54,19 @@ import io.cdap.wrangler.api.RecipeException;
 import io.cdap.wrangler.api.RemoteDirectiveResponse;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.TransientVariableScope;
+import io.cdap.wrangler.dataset.workspace.WorkspacePageRequest;
+import io.cdap.wrangler.executor.RecipeCheckpoints;
 import io.cdap.wrangler.parser.ConfigDirectiveContext;
 import io.cdap.wrangler.parser.DirectiveClass;
 import io.cdap.wrangler.parser.GrammarWalker;
 import io.cdap.wrangler.parser.MigrateToV2;
-import io.cdap.wrangler.parser.RecipeCompiler;
 import io.cdap.wrangler.proto.BadRequestException;
 import io.cdap.wrangler.proto.recipe.v2.Recipe;
 import io.cdap.wrangler.proto.recipe.v2.RecipeId;
 import io.cdap.wrangler.proto.workspace.v2.Artifact;
 import io.cdap.wrangler.proto.workspace.v2.DirectiveExecutionRequest;
 import io.cdap.wrangler.proto.workspace.v2.DirectiveExecutionResponse;
+import io.cdap.wrangler.proto.workspace.v2.DirectiveMetric;
 import io.cdap.wrangler.proto.workspace.v2.DirectiveUsage;
 import io.cdap.wrangler.proto.workspace.v2.Plugin;
 import io.cdap.wrangler.proto.workspace.v2.SampleSpec;
@@ -103,6 +107,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 
 import static io.cdap.wrangler.schema.TransientStoreKeys.INPUT_SCHEMA;
 import static io.cdap.wrangler.schema.TransientStoreKeys.OUTPUT_SCHEMA;
@@ -117,10 +122,23 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
   private static final Pattern PRAGMA_PATTERN = Pattern.compile("^\\s*#pragma\\s+load-directives\\s+");
   private static final String UPLOAD_COUNT = "upload.file.count";
   private static final String CONNECTION_TYPE = "upload";
+  // Runtime argument enabling the binary encoding of the requests sent to the task workers. Task workers older than
+  // this service cannot read such requests, it must only be set once all the task workers are upgraded.
+  private static final String BINARY_REMOTE_REQUESTS = "wrangler.remote.requests.binary";
+  // Runtime arguments limiting the estimated heap taken by the checkpoints of all the workspaces, and of each one.
+  private static final String CHECKPOINTS_MAX_BYTES = "wrangler.checkpoints.max.bytes";
+  private static final String CHECKPOINTS_WORKSPACE_MAX_BYTES = "wrangler.checkpoints.workspace.max.bytes";
+  private static final long DEFAULT_CHECKPOINTS_MAX_BYTES = 256L * 1024 * 1024;
+  // Intermediate rows of the recipe last executed on each workspace, so that changing the end of a recipe
+  // resumes from a checkpoint instead of executing the whole recipe on the sample again. Created by the first
+  // handler initialized, the handlers of a service share the same runtime arguments.
+  private static Cache<String, RecipeCheckpoints> checkpointsCache;
 
   private WorkspaceStore wsStore;
   private RecipeStore recipeStore;
   private ConnectionDiscoverer discoverer;
+  private boolean binaryRemoteRequests;
+  private long checkpointsWorkspaceMaxBytes;
 
   // Injected by CDAP
   @SuppressWarnings("unused")
@@ -132,6 +150,34 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
     wsStore = new WorkspaceStore(context);
     recipeStore = new RecipeStore(context);
     discoverer = new ConnectionDiscoverer(context);
+    binaryRemoteRequests = Boolean.parseBoolean(context.getRuntimeArguments().get(BINARY_REMOTE_REQUESTS));
+    long checkpointsMaxBytes = getBytes(context.getRuntimeArguments(), CHECKPOINTS_MAX_BYTES,
+                                        DEFAULT_CHECKPOINTS_MAX_BYTES);
+    checkpointsWorkspaceMaxBytes = Math.min(checkpointsMaxBytes, getBytes(context.getRuntimeArguments(),
+                                                                          CHECKPOINTS_WORKSPACE_MAX_BYTES,
+                                                                          RecipeCheckpoints.DEFAULT_MAX_BYTES));
+    createCheckpointsCache(checkpointsMaxBytes);
+  }
+
+  private static long getBytes(Map<String, String> arguments, String name, long defaultValue) {
+    String value = arguments.get(name);
+    long bytes = value == null ? defaultValue : Long.parseLong(value);
+    if (bytes < 0) {
+      throw new IllegalArgumentException(
+        String.format("Runtime argument '%s' must not be negative, but was %d.", name, bytes));
+    }
+    return bytes;
+  }
+
+  private static synchronized void createCheckpointsCache(long maxBytes) {
+    if (checkpointsCache == null) {
+      // Checkpoints grow as recipes are executed, they are weighed again once an execution is committed.
+      checkpointsCache = CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .<String, RecipeCheckpoints>weigher((key, checkpoints) ->
+          (int) Math.min(Integer.MAX_VALUE, checkpoints.getEstimatedBytes()))
+        .build();
+    }
   }
 
   @POST
@@ -185,12 +231,27 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
   @TransactionPolicy(value = TransactionControl.EXPLICIT)
   @Path("v2/contexts/{context}/workspaces")
   public void listWorkspaces(HttpServiceRequest request, HttpServiceResponder responder,
-                             @PathParam("context") String namespace) {
+                             @PathParam("context") String namespace,
+                             @QueryParam("pageSize") Integer pageSize,
+                             @QueryParam("pageToken") String pageToken,
+                             @QueryParam("sortBy") String sortBy,
+                             @QueryParam("sortOrder") String sortOrder) {
     respond(responder, namespace, ns -> {
       if (ns.getName().equalsIgnoreCase(NamespaceId.SYSTEM.getNamespace())) {
         throw new BadRequestException("Listing workspaces in system namespace is currently not supported");
       }
-      responder.sendString(GSON.toJson(new ServiceResponse<>(wsStore.listWorkspaces(ns))));
+      // without any paging parameter all the workspaces are listed, as before pagination was supported
+      if (pageSize == null && pageToken == null && sortBy == null && sortOrder == null) {
+        responder.sendString(GSON.toJson(new ServiceResponse<>(wsStore.listWorkspaces(ns))));
+        return;
+      }
+      WorkspacePageRequest pageRequest = WorkspacePageRequest.builder(ns)
+        .setPageSize(pageSize)
+        .setPageToken(pageToken)
+        .setSortBy(sortBy)
+        .setSortOrder(sortOrder)
+        .build();
+      responder.sendString(GSON.toJson(wsStore.listWorkspaces(pageRequest)));
     });
   }
 
@@ -280,6 +341,7 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
         .setUpdatedTimeMillis(System.currentTimeMillis())
         .setSampleSpec(newSpec).build();
       wsStore.saveWorkspace(wsId, new WorkspaceDetail(newWorkspace, rows));
+      invalidateCheckpoints(ns.getName(), workspaceId);
       responder.sendStatus(HttpURLConnection.HTTP_OK);
     });
   }
@@ -295,6 +357,7 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
         throw new BadRequestException("Deleting workspace in system namespace is currently not supported");
       }
       wsStore.deleteWorkspace(new WorkspaceId(ns, workspaceId));
+      invalidateCheckpoints(ns.getName(), workspaceId);
       responder.sendStatus(HttpURLConnection.HTTP_OK);
     });
   }
@@ -409,7 +472,7 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
       WorkspaceDetail detail = wsStore.getWorkspaceDetail(wsId);
       List<String> directives = new ArrayList<>(detail.getWorkspace().getDirectives());
       UserDirectivesCollector userDirectivesCollector = new UserDirectivesCollector();
-      List<Row> result = executeDirectives(ns.getName(), directives, detail, userDirectivesCollector);
+      List<Row> result = executeDirectives(ns.getName(), directives, detail, userDirectivesCollector, null);
       userDirectivesCollector.addLoadDirectivesPragma(directives);
 
       Schema outputSchema;
@@ -478,10 +541,11 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
 
     WorkspaceDetail detail = wsStore.getWorkspaceDetail(workspaceId);
     UserDirectivesCollector userDirectivesCollector = new UserDirectivesCollector();
+    List<DirectiveMetric> metrics = new ArrayList<>();
     List<Row> result = executeDirectives(ns.getName(), directives, detail,
-                                         userDirectivesCollector);
+                                         userDirectivesCollector, metrics);
     DirectiveExecutionResponse response = generateExecutionResponse(result,
-                                                                    executionRequest.getLimit());
+                                                                    executionRequest.getLimit(), metrics);
     userDirectivesCollector.addLoadDirectivesPragma(directives);
     Workspace newWorkspace = Workspace.builder(detail.getWorkspace())
       .setDirectives(directives)
@@ -546,12 +610,16 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
    *                   {@code #pragma} directives for loading UDDs.
    * @param detail the workspace to operate on
    * @param grammarVisitor visitor to call while parsing directives
+   * @param metrics list the metrics of the directives are added to when they are executed locally, or null if the
+   *                metrics are not collected
    * @return the resulting rows after applying the directives
    */
   private <E extends Exception> List<Row> executeDirectives(String namespace,
                                                             List<String> directives,
                                                             WorkspaceDetail detail,
-                                                            GrammarWalker.Visitor<E> grammarVisitor) throws Exception {
+                                                            GrammarWalker.Visitor<E> grammarVisitor,
+                                                            @Nullable List<DirectiveMetric> metrics)
+    throws Exception {
     // Remove all the #pragma from the existing directives. New ones will be generated.
     directives.removeIf(d -> PRAGMA_PATTERN.matcher(d).find());
 
@@ -566,7 +634,7 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
 
     return getContext().isRemoteTaskEnabled() ?
       executeRemotely(namespace, directives, detail, grammarVisitor) :
-      executeLocally(namespace, directives, detail, grammarVisitor);
+      executeLocally(namespace, directives, detail, grammarVisitor, metrics);
   }
 
   /**
@@ -577,16 +645,59 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
    *                   {@code #pragma} directives for loading UDDs.
    * @param detail the workspace to operate on
    * @param grammarVisitor visitor to call while parsing directives
+   * @param metrics list the metrics of the directives are added to, or null if the metrics are not collected
    * @return the resulting rows after applying the directives
    */
   private <E extends Exception> List<Row> executeLocally(String namespace, List<String> directives,
-                                   WorkspaceDetail detail, GrammarWalker.Visitor<E> grammarVisitor)
+                                   WorkspaceDetail detail, GrammarWalker.Visitor<E> grammarVisitor,
+                                   @Nullable List<DirectiveMetric> metrics)
     throws DirectiveLoadException, DirectiveParseException, E, RecipeException {
 
     // load the udd
     composite.reload(namespace);
-    return executeDirectives(namespace, directives, new ArrayList<>(detail.getSample()),
-                             grammarVisitor);
+    String key = getCheckpointsKey(namespace, detail.getWorkspace().getWorkspaceId())
+      + userDirectives.getFingerprint(namespace);
+    RecipeCheckpoints checkpoints = getCheckpoints(key, namespace, detail);
+    List<Row> result = executeDirectives(namespace, directives, new ArrayList<>(detail.getSample()),
+                                         grammarVisitor, checkpoints, metrics);
+    if (checkpoints != null) {
+      // Weighs the checkpoints again with the rows captured by the execution, unless they were evicted meanwhile.
+      checkpointsCache.asMap().replace(key, checkpoints, checkpoints);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the checkpoints of the workspace for the current user directives of the namespace,
+   * dropping them if they were taken on another sample. Must be called after the user directives are reloaded.
+   *
+   * @param key of the checkpoints, which includes the fingerprint of the user directives, as checkpoints taken
+   *            with other user directives may come from other implementations of the directives.
+   * @return the checkpoints, or null if the sample has no id, in which case checkpoints are not used.
+   */
+  @Nullable
+  private RecipeCheckpoints getCheckpoints(String key, String namespace, WorkspaceDetail detail) {
+    String sampleId = detail.getSampleId();
+    if (sampleId == null) {
+      return null;
+    }
+    RecipeCheckpoints checkpoints = checkpointsCache.getIfPresent(key);
+    if (checkpoints == null || !checkpoints.getSampleId().equals(sampleId)) {
+      invalidateCheckpoints(namespace, detail.getWorkspace().getWorkspaceId());
+      checkpoints = new RecipeCheckpoints(sampleId, RecipeCheckpoints.DEFAULT_INTERVAL,
+                                          checkpointsWorkspaceMaxBytes);
+      checkpointsCache.put(key, checkpoints);
+    }
+    return checkpoints;
+  }
+
+  private static void invalidateCheckpoints(String namespace, String workspaceId) {
+    String prefix = getCheckpointsKey(namespace, workspaceId);
+    checkpointsCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  private static String getCheckpointsKey(String namespace, String workspaceId) {
+    return namespace + ":" + workspaceId + ":";
   }
 
   /**
@@ -607,7 +718,8 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
     Map<String, DirectiveClass> systemDirectives = new HashMap<>();
 
     // Gather system directives and call additional visitor.
-    GrammarWalker walker = new GrammarWalker(new RecipeCompiler(), new ConfigDirectiveContext(DirectiveConfig.EMPTY));
+    GrammarWalker walker = new GrammarWalker(getRecipeCompiler(namespace),
+                                             new ConfigDirectiveContext(DirectiveConfig.EMPTY));
     AtomicBoolean hasDirectives = new AtomicBoolean();
     walker.walk(recipe, (command, tokenGroup) -> {
       DirectiveInfo info = SystemDirectiveRegistry.INSTANCE.get(command);
@@ -623,16 +735,21 @@ public class WorkspaceHandler extends AbstractDirectiveHandler {
       return detail.getSample();
     }
 
-    RemoteDirectiveRequest directiveRequest = new RemoteDirectiveRequest(recipe, systemDirectives,
-                                                                         namespace, detail.getSampleAsBytes(),
+    // Unless binary requests are enabled, the request is encoded the way task workers of previous versions read it,
+    // which is JSON with a Java serialized sample.
+    boolean kryo = Feature.WRANGLER_KRYO_SERIALIZATION.isEnabled(getContext());
+    boolean binary = kryo && binaryRemoteRequests;
+    byte[] sample = binary ? detail.getSampleAsBytes()
+      : new ObjectSerDe<List<Row>>().toByteArray(new ArrayList<>(detail.getSample()));
+    RemoteDirectiveRequest directiveRequest = new RemoteDirectiveRequest(recipe, systemDirectives, namespace, sample,
                                                                          TRANSIENT_STORE.get(INPUT_SCHEMA));
     RunnableTaskRequest runnableTaskRequest = RunnableTaskRequest.getBuilder(RemoteExecutionTask.class.getName())
-      .withParam(GSON.toJson(directiveRequest))
+      .withParam(directiveRequest.toTaskParam(GSON, binary))
       .withNamespace(namespace)
       .build();
     byte[] bytes = getContext().runTask(runnableTaskRequest);
     RemoteDirectiveResponse response;
-    if (Feature.WRANGLER_KRYO_SERIALIZATION.isEnabled(getContext())) {
+    if (kryo) {
       response = new KryoSerializer().toRemoteDirectiveResponse(bytes);
     } else {
       response = new ObjectSerDe<RemoteDirectiveResponse>().toObject(bytes);
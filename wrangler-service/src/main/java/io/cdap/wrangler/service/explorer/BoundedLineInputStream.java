@@ -37,6 +37,9 @@ import java.util.NoSuchElementException;
  * fewer than the lines in file, it will return only the lines that can be possibly read.
  */
 public final class BoundedLineInputStream implements Iterator<String>, Closeable {
+  // Number of lines that reads the input till its end.
+  public static final int UNBOUNDED = -1;
+
   // The reader that is being read.
   private final BufferedReader bufferedReader;
 
@@ -135,7 +138,9 @@ public final class BoundedLineInputStream implements Iterator<String>, Closeable
     }
     String currentLine = cachedLine;
     cachedLine = null;
-    lines--;
+    if (lines > 0) {
+      lines--;
+    }
     return currentLine;
   }
 
@@ -182,7 +187,7 @@ public final class BoundedLineInputStream implements Iterator<String>, Closeable
    *
    * @param input Input stream.
    * @param encoding Type of encoding for the file.
-   * @param lines number of lines to be read.
+   * @param lines number of lines to be read, or {@link #UNBOUNDED} to read all of them.
    * @return Iterator.
    * @throws IOException
    */
@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.service.explorer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.common.io.ByteStreams;
+import io.cdap.wrangler.SamplingMethod;
+import io.cdap.wrangler.sampling.Bernoulli;
+import io.cdap.wrangler.sampling.Poisson;
+import io.cdap.wrangler.sampling.Reservoir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Samples lines of a text file for a workspace, holding at most <code>lines</code> lines in memory.
+ *
+ * <p>Random samplers ({@link SamplingMethod#RESERVOIR}, {@link SamplingMethod#BERNOULLI} and
+ * {@link SamplingMethod#POISSON}) stream the whole file, so every line has a chance of being picked.
+ * {@link SamplingMethod#STRATIFIED} avoids scanning the file altogether : it seeks to evenly spaced byte
+ * offsets and reads a few lines from each of them, which keeps sampling of multi-GB files cheap while still
+ * covering the whole file.</p>
+ */
+public final class FileSampler {
+  // Default number of evenly spaced chunks read by the stratified sampler.
+  public static final int DEFAULT_CHUNKS = 16;
+
+  // Files are not split into chunks smaller than this, so small files are read in one go.
+  private static final long MIN_CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * Opens the sampled file positioned at the given byte offset.
+   */
+  public interface RangeReader {
+    /**
+     * @param offset byte offset at which the returned stream starts.
+     * @return stream over the file starting at <code>offset</code>, closed by the caller.
+     */
+    InputStream open(long offset) throws IOException;
+  }
+
+  /**
+   * Opens a new stream over the whole file.
+   */
+  public interface StreamOpener {
+    InputStream open() throws IOException;
+  }
+
+  private final SamplingMethod method;
+  private final int lines;
+  private final double fraction;
+  private final int chunks;
+
+  public FileSampler(SamplingMethod method, int lines, double fraction) {
+    this(method, lines, fraction, DEFAULT_CHUNKS);
+  }
+
+  public FileSampler(SamplingMethod method, int lines, double fraction, int chunks) {
+    Preconditions.checkArgument(chunks > 0, "Number of chunks must be positive");
+    this.method = method;
+    this.lines = lines;
+    this.fraction = fraction;
+    this.chunks = chunks;
+  }
+
+  /**
+   * Samples the lines of a file that can be opened at arbitrary offsets. Only the
+   * {@link SamplingMethod#STRATIFIED} method seeks, all others read the file from the beginning.
+   *
+   * @param length size of the file in bytes.
+   * @param reader opens the file at a given offset.
+   * @return sampled lines, no more than <code>lines</code> of them.
+   */
+  public List<String> sample(long length, RangeReader reader) throws IOException {
+    if (method != SamplingMethod.STRATIFIED) {
+      try (InputStream input = reader.open(0)) {
+        return sample(input);
+      }
+    }
+    List<String> sample = new ArrayList<>();
+    if (lines <= 0 || length <= 0) {
+      return sample;
+    }
+    int count = (int) Math.max(1, Math.min(Math.min(chunks, lines), length / MIN_CHUNK_SIZE));
+    for (int i = 0; i < count; i++) {
+      long start = length * i / count;
+      long end = length * (i + 1) / count;
+      int quota = lines / count + (i < lines % count ? 1 : 0);
+      // Opening one byte early tells whether start is already at the beginning of a line.
+      long offset = Math.max(0, start - 1);
+      try (InputStream input = new BufferedInputStream(reader.open(offset))) {
+        readChunk(input, offset, start, end, quota, sample);
+      }
+    }
+    return sample;
+  }
+
+  /**
+   * Samples the lines of a stream. The whole stream is read unless the method is {@link SamplingMethod#FIRST}
+   * or the output cap is reached.
+   *
+   * @param input stream of the file, not closed by this method.
+   * @return sampled lines, no more than <code>lines</code> of them.
+   */
+  public List<String> sample(InputStream input) throws IOException {
+    Preconditions.checkState(method != SamplingMethod.STRATIFIED,
+                             "Stratified sampling needs random access to the file");
+    boolean random = method == SamplingMethod.RESERVOIR || method == SamplingMethod.POISSON
+      || method == SamplingMethod.BERNOULLI;
+    // Not closed on purpose, the stream belongs to the caller.
+    BoundedLineInputStream all = BoundedLineInputStream.iterator(input, StandardCharsets.UTF_8,
+                                                                 random ? BoundedLineInputStream.UNBOUNDED : lines);
+    Iterator<String> it = all;
+    // The fraction of a large file can exceed the cap, a reservoir keeps an unbiased subset of the picked lines
+    // instead of the ones picked from the head of the file.
+    if (method == SamplingMethod.POISSON) {
+      it = new Reservoir<String>(Math.max(0, lines)).sample(new Poisson<String>(fraction).sample(all));
+    } else if (method == SamplingMethod.BERNOULLI) {
+      it = new Reservoir<String>(Math.max(0, lines)).sample(new Bernoulli<String>(fraction).sample(all));
+    } else if (method == SamplingMethod.RESERVOIR) {
+      it = new Reservoir<String>(lines).sample(all);
+    }
+    List<String> sample = new ArrayList<>();
+    Iterators.addAll(sample, it);
+    return sample;
+  }
+
+  /**
+   * @return {@link RangeReader} that skips to the requested offset in a freshly opened stream. Skipping is
+   * a seek for local and HDFS files.
+   */
+  public static RangeReader skipping(StreamOpener opener) {
+    return offset -> {
+      InputStream input = opener.open();
+      try {
+        ByteStreams.skipFully(input, offset);
+      } catch (IOException e) {
+        input.close();
+        throw e;
+      }
+      return input;
+    };
+  }
+
+  /**
+   * Reads up to <code>quota</code> lines that begin in <code>[start, end)</code>. The stream is positioned at
+   * <code>position</code>, which is either <code>start - 1</code> or 0.
+   */
+  private static void readChunk(InputStream input, long position, long start, long end, int quota,
+                                List<String> sample) throws IOException {
+    if (position < start) {
+      // Skip the line that straddles start, the previous chunk owns it.
+      int b;
+      do {
+        b = input.read();
+        position++;
+      } while (b != -1 && b != '\n');
+      if (b == -1) {
+        return;
+      }
+    }
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int read = 0;
+    while (read < quota && position < end) {
+      line.reset();
+      int b;
+      while ((b = input.read()) != -1 && b != '\n') {
+        line.write(b);
+      }
+      position += line.size() + (b == -1 ? 0 : 1);
+      if (b == -1 && line.size() == 0) {
+        return;
+      }
+      sample.add(decode(line));
+      read++;
+      if (b == -1) {
+        return;
+      }
+    }
+  }
+
+  private static String decode(ByteArrayOutputStream line) {
+    String value = new String(line.toByteArray(), StandardCharsets.UTF_8);
+    return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+  }
+}
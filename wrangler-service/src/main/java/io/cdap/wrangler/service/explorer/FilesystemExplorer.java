@@ -39,12 +39,9 @@ import io.cdap.wrangler.proto.ServiceResponse;
 import io.cdap.wrangler.proto.connection.ConnectionType;
 import io.cdap.wrangler.proto.file.FileConnectionSample;
 import io.cdap.wrangler.proto.file.FileSpec;
-import io.cdap.wrangler.sampling.Bernoulli;
-import io.cdap.wrangler.sampling.Poisson;
-import io.cdap.wrangler.sampling.Reservoir;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.common.Format;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 import org.apache.twill.filesystem.Location;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -54,7 +51,6 @@ import java.io.IOException;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.DefaultValue;
@@ -215,8 +211,7 @@ public class FilesystemExplorer extends AbstractWranglerHandler {
       if (type == DataType.RECORDS) {
         List<Row> rows = new ArrayList<>();
         rows.add(new Row(COLUMN_NAME, new String(bytes, Charsets.UTF_8)));
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-        byte[] data = serDe.toByteArray(rows);
+        byte[] data = new SampleSerDe().toByteArray(rows);
         ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
       } else if (type == DataType.BINARY || type == DataType.TEXT) {
         ws.updateWorkspaceData(workspaceId, type, bytes);
@@ -257,29 +252,20 @@ public class FilesystemExplorer extends AbstractWranglerHandler {
       .setProperties(properties)
       .build();
 
+    // Random samplers see the whole file, stratified sampling seeks to evenly spaced offsets in it. The file is
+    // read before the transaction is started, so that reading a large file cannot time out the transaction.
+    List<Row> rows = new ArrayList<>();
+    FileSampler fileSampler = new FileSampler(samplingMethod, lines, fraction);
+    for (String line : fileSampler.sample(location.length(), FileSampler.skipping(location::getInputStream))) {
+      rows.add(new Row(COLUMN_NAME, line));
+    }
+    byte[] data = new SampleSerDe().toByteArray(rows);
+
     String sampleId = TransactionRunners.run(getContext(), context -> {
       WorkspaceDataset ws = WorkspaceDataset.get(context);
       NamespacedId workspaceId = ws.createWorkspace(namespace, workspaceMeta);
 
-      // Iterate through lines to extract only 'limit' random lines.
-      // Depending on the type, the sampling of the input is performed.
-      List<Row> rows = new ArrayList<>();
-      BoundedLineInputStream blis = BoundedLineInputStream.iterator(location.getInputStream(), Charsets.UTF_8, lines);
-      Iterator<String> it = blis;
-      if (samplingMethod == SamplingMethod.POISSON) {
-        it = new Poisson<String>(fraction).sample(blis);
-      } else if (samplingMethod == SamplingMethod.BERNOULLI) {
-        it = new Bernoulli<String>(fraction).sample(blis);
-      } else if (samplingMethod == SamplingMethod.RESERVOIR) {
-        it = new Reservoir<String>(lines).sample(blis);
-      }
-      while (it.hasNext()) {
-        rows.add(new Row(COLUMN_NAME, it.next()));
-      }
-
       // Write rows to workspace.
-      ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-      byte[] data = serDe.toByteArray(rows);
       ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
       return workspaceId.getId();
     });
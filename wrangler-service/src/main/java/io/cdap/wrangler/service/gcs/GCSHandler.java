@@ -52,11 +52,11 @@ import io.cdap.wrangler.proto.gcs.GCSBucketInfo;
 import io.cdap.wrangler.proto.gcs.GCSConnectionSample;
 import io.cdap.wrangler.proto.gcs.GCSObjectInfo;
 import io.cdap.wrangler.proto.gcs.GCSSpec;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.FileTypeDetector;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.common.Format;
 import io.cdap.wrangler.service.gcp.GCPUtils;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.slf4j.Logger;
@@ -326,7 +326,7 @@ public class GCSHandler extends AbstractWranglerHandler {
                                             + FILE_SIZE + " bytes, unable to process");
           }
 
-          ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
+          SampleSerDe serDe = new SampleSerDe();
           result = serDe.toByteArray(rows);
           dataType = DataType.RECORDS;
           properties.put(PropertyIds.FORMAT, Format.TEXT.name());
@@ -39,8 +39,8 @@ import io.cdap.wrangler.proto.connection.Connection;
 import io.cdap.wrangler.proto.connection.ConnectionMeta;
 import io.cdap.wrangler.proto.connection.ConnectionType;
 import io.cdap.wrangler.proto.kafka.KafkaSpec;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -168,7 +168,7 @@ public final class KafkaHandler extends AbstractWranglerHandler {
           running = false;
         }
 
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
+        SampleSerDe serDe = new SampleSerDe();
         byte[] data = serDe.toByteArray(recs);
         ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
 
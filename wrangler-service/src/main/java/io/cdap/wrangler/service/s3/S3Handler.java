@@ -26,8 +26,8 @@ import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.google.common.base.Charsets;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import io.cdap.cdap.api.annotation.TransactionControl;
@@ -56,22 +56,19 @@ import io.cdap.wrangler.proto.connection.ConnectionType;
 import io.cdap.wrangler.proto.s3.S3ConnectionSample;
 import io.cdap.wrangler.proto.s3.S3ObjectInfo;
 import io.cdap.wrangler.proto.s3.S3Spec;
-import io.cdap.wrangler.sampling.Bernoulli;
-import io.cdap.wrangler.sampling.Poisson;
-import io.cdap.wrangler.sampling.Reservoir;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.FileTypeDetector;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.common.Format;
-import io.cdap.wrangler.service.explorer.BoundedLineInputStream;
+import io.cdap.wrangler.service.explorer.FileSampler;
 import io.cdap.wrangler.service.macro.ServiceMacroEvaluator;
-import io.cdap.wrangler.utils.ObjectSerDe;
 
 import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.DefaultValue;
@@ -230,7 +227,7 @@ public class S3Handler extends AbstractWranglerHandler {
         try (InputStream inputStream = object.getObjectContent()) {
           S3ConnectionSample sample;
           if (header != null && header.equalsIgnoreCase("text/plain")) {
-            sample = loadSamplableFile(namespacedConnId, scope, inputStream, object, lines, fraction, sampler);
+            sample = loadSamplableFile(namespacedConnId, scope, s3, inputStream, object, lines, fraction, sampler);
           } else {
             sample = loadFile(namespacedConnId, scope, inputStream, object);
           }
@@ -297,8 +294,8 @@ public class S3Handler extends AbstractWranglerHandler {
     return String.format(PATH_FORMAT, workspace.getProperties().get(BUCKET_NAME), workspace.getProperties().get(KEY));
   }
 
-  private S3ConnectionSample loadSamplableFile(NamespacedId connectionId, String scope, InputStream inputStream,
-                                               S3Object s3Object, int lines, double fraction,
+  private S3ConnectionSample loadSamplableFile(NamespacedId connectionId, String scope, AmazonS3 s3,
+                                               InputStream inputStream, S3Object s3Object, int lines, double fraction,
                                                String sampler) throws IOException {
     SamplingMethod samplingMethod;
     if (sampler == null || sampler.isEmpty() || SamplingMethod.fromString(sampler) == null) {
@@ -307,52 +304,65 @@ public class S3Handler extends AbstractWranglerHandler {
       samplingMethod = SamplingMethod.fromString(sampler);
     }
 
-    try (BoundedLineInputStream blis = BoundedLineInputStream.iterator(inputStream, Charsets.UTF_8, lines)) {
-      String name = s3Object.getKey();
+    // Random samplers stream the whole object, stratified sampling fetches byte ranges of it. Closing an object
+    // stream that was not read to the end drains the rest of the object, so such streams are aborted instead.
+    FileSampler fileSampler = new FileSampler(samplingMethod, lines, fraction);
+    List<String> lineSample;
+    if (samplingMethod == SamplingMethod.STRATIFIED) {
+      s3Object.getObjectContent().abort();
+      String bucketName = s3Object.getBucketName();
+      String key = s3Object.getKey();
+      lineSample = fileSampler.sample(s3Object.getObjectMetadata().getContentLength(), offset -> {
+        S3ObjectInputStream range = s3.getObject(new GetObjectRequest(bucketName, key).withRange(offset))
+          .getObjectContent();
+        return new FilterInputStream(range) {
+          @Override
+          public void close() {
+            range.abort();
+          }
+        };
+      });
+    } else {
+      lineSample = fileSampler.sample(inputStream);
+      if (samplingMethod == SamplingMethod.FIRST) {
+        s3Object.getObjectContent().abort();
+      }
+    }
 
-      String fileName = name.substring(name.lastIndexOf("/") + 1);
-      Map<String, String> properties = new HashMap<>();
-      properties.put(PropertyIds.NAME, fileName);
-      properties.put(PropertyIds.CONNECTION_TYPE, ConnectionType.S3.getType());
-      properties.put(PropertyIds.SAMPLER_TYPE, samplingMethod.getMethod());
-      properties.put(PropertyIds.CONNECTION_ID, connectionId.getId());
-      properties.put(BUCKET_NAME, s3Object.getBucketName());
-      properties.put(KEY, s3Object.getKey());
-      WorkspaceMeta workspaceMeta = WorkspaceMeta.builder(fileName)
-        .setScope(scope)
-        .setProperties(properties)
-        .build();
-      String sampleId = TransactionRunners.run(getContext(), context -> {
-        WorkspaceDataset ws = WorkspaceDataset.get(context);
-        NamespacedId workspaceId = ws.createWorkspace(connectionId.getNamespace(), workspaceMeta);
-
-        // Iterate through lines to extract only 'limit' random lines.
-        // Depending on the type, the sampling of the input is performed.
-        List<Row> rows = new ArrayList<>();
-        Iterator<String> it = blis;
-        if (samplingMethod == SamplingMethod.POISSON) {
-          it = new Poisson<String>(fraction).sample(blis);
-        } else if (samplingMethod == SamplingMethod.BERNOULLI) {
-          it = new Bernoulli<String>(fraction).sample(blis);
-        } else if (samplingMethod == SamplingMethod.RESERVOIR) {
-          it = new Reservoir<String>(lines).sample(blis);
-        }
-        while (it.hasNext()) {
-          rows.add(new Row(COLUMN_NAME, it.next()));
-        }
+    String name = s3Object.getKey();
 
-        // Write rows to workspace.
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
-        byte[] data = serDe.toByteArray(rows);
-        ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
-        return workspaceId.getId();
-      });
+    String fileName = name.substring(name.lastIndexOf("/") + 1);
+    Map<String, String> properties = new HashMap<>();
+    properties.put(PropertyIds.NAME, fileName);
+    properties.put(PropertyIds.CONNECTION_TYPE, ConnectionType.S3.getType());
+    properties.put(PropertyIds.SAMPLER_TYPE, samplingMethod.getMethod());
+    properties.put(PropertyIds.CONNECTION_ID, connectionId.getId());
+    properties.put(BUCKET_NAME, s3Object.getBucketName());
+    properties.put(KEY, s3Object.getKey());
+    WorkspaceMeta workspaceMeta = WorkspaceMeta.builder(fileName)
+      .setScope(scope)
+      .setProperties(properties)
+      .build();
+    String sampleId = TransactionRunners.run(getContext(), context -> {
+      WorkspaceDataset ws = WorkspaceDataset.get(context);
+      NamespacedId workspaceId = ws.createWorkspace(connectionId.getNamespace(), workspaceMeta);
 
-      // Preparing return response to include mandatory fields : id and name.
-      return new S3ConnectionSample(sampleId, name, ConnectionType.S3.getType(),
-                                    samplingMethod.getMethod(), connectionId.getId(),
-                                    s3Object.getBucketName(), s3Object.getKey());
-    }
+      List<Row> rows = new ArrayList<>();
+      for (String line : lineSample) {
+        rows.add(new Row(COLUMN_NAME, line));
+      }
+
+      // Write rows to workspace.
+      SampleSerDe serDe = new SampleSerDe();
+      byte[] data = serDe.toByteArray(rows);
+      ws.updateWorkspaceData(workspaceId, DataType.RECORDS, data);
+      return workspaceId.getId();
+    });
+
+    // Preparing return response to include mandatory fields : id and name.
+    return new S3ConnectionSample(sampleId, name, ConnectionType.S3.getType(),
+                                  samplingMethod.getMethod(), connectionId.getId(),
+                                  s3Object.getBucketName(), s3Object.getKey());
   }
 
   private S3ConnectionSample loadFile(NamespacedId connectionId, String scope,
@@ -52,9 +52,9 @@ import io.cdap.wrangler.proto.connection.ConnectionType;
 import io.cdap.wrangler.proto.spanner.SpannerDatabase;
 import io.cdap.wrangler.proto.spanner.SpannerSpec;
 import io.cdap.wrangler.proto.spanner.SpannerTable;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.service.common.AbstractWranglerHandler;
 import io.cdap.wrangler.service.gcp.GCPUtils;
-import io.cdap.wrangler.utils.ObjectSerDe;
 import io.cdap.wrangler.utils.ReferenceNames;
 
 import java.time.Instant;
@@ -208,7 +208,7 @@ public class SpannerHandler extends AbstractWranglerHandler {
         NamespacedId workspaceId = ws.createWorkspace(ns, workspaceMeta);
 
         // write data to workspace
-        ObjectSerDe<List<Row>> serDe = new ObjectSerDe<>();
+        SampleSerDe serDe = new SampleSerDe();
         byte[] dataBytes = serDe.toByteArray(data);
         ws.updateWorkspaceData(workspaceId, DataType.RECORDS, dataBytes);
         return workspaceId.getId();
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package io.cdap.wrangler.service.directive;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.cdap.cdap.api.artifact.ArtifactId;
+import io.cdap.cdap.api.artifact.ArtifactScope;
+import io.cdap.cdap.api.artifact.ArtifactVersion;
+import io.cdap.cdap.api.data.schema.Schema;
+import io.cdap.cdap.internal.io.SchemaTypeAdapter;
+import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.parser.DirectiveClass;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
+import io.cdap.wrangler.registry.DirectiveScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests encoding {@link RemoteDirectiveRequest} as the parameter of {@link RemoteExecutionTask}.
+ */
+public class RemoteDirectiveRequestTest {
+  private static final Gson GSON =
+    new GsonBuilder().registerTypeAdapter(Schema.class, new SchemaTypeAdapter()).create();
+
+  @Test
+  public void testEncodings() throws Exception {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      rows.add(new Row("body", "line " + i).add("id", i));
+    }
+    Map<String, DirectiveClass> directives = ImmutableMap.of(
+      "drop", new DirectiveClass("drop", "io.cdap.directives.column.Drop", DirectiveScope.SYSTEM, null),
+      "my-dir", new DirectiveClass("my-dir", "com.example.MyDirective", DirectiveScope.USER,
+                                   new ArtifactId("udd", new ArtifactVersion("1.0.0"), ArtifactScope.USER)));
+    Schema schema = Schema.recordOf("record", Schema.Field.of("body", Schema.of(Schema.Type.STRING)));
+    RemoteDirectiveRequest request = new RemoteDirectiveRequest("drop :id;", directives, "ns",
+                                                                new SampleSerDe().toByteArray(rows), schema);
+
+    String json = request.toTaskParam(GSON, false);
+    String binary = request.toTaskParam(GSON, true);
+    Assert.assertTrue(binary.length() < json.length());
+
+    for (String param : new String[] {json, binary}) {
+      RemoteDirectiveRequest decoded = RemoteDirectiveRequest.fromTaskParam(GSON, param);
+      Assert.assertEquals("drop :id;", decoded.getRecipe());
+      Assert.assertEquals("ns", decoded.getPluginNameSpace());
+      Assert.assertEquals(schema, decoded.getInputSchema());
+      Assert.assertEquals(rows, new SampleSerDe().toRows(decoded.getData()));
+      Assert.assertEquals(directives.keySet(), decoded.getSystemDirectives().keySet());
+      for (Map.Entry<String, DirectiveClass> entry : directives.entrySet()) {
+        Assert.assertEquals(entry.getValue().toString(), decoded.getSystemDirectives().get(entry.getKey()).toString());
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.service.filesystem;
+
+import io.cdap.wrangler.SamplingMethod;
+import io.cdap.wrangler.service.explorer.FileSampler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Tests {@link FileSampler}
+ */
+public class FileSamplerTest {
+
+  private static List<String> lines(int count) {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      lines.add(String.format("line-%06d", i) + (i % 3 == 0 ? ",é" : ""));
+    }
+    return lines;
+  }
+
+  private static byte[] toBytes(List<String> lines, String separator) {
+    return (String.join(separator, lines) + separator).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static FileSampler.RangeReader ranges(byte[] bytes) {
+    return FileSampler.skipping(() -> new ByteArrayInputStream(bytes));
+  }
+
+  private static int index(String line) {
+    return Integer.parseInt(line.substring("line-".length()).split(",")[0]);
+  }
+
+  @Test
+  public void testFirst() throws Exception {
+    byte[] bytes = toBytes(lines(1000), "\n");
+    List<String> sample = new FileSampler(SamplingMethod.FIRST, 10, 0).sample(bytes.length, ranges(bytes));
+    Assert.assertEquals(lines(10), sample);
+  }
+
+  @Test
+  public void testRandomSamplersReadWholeFile() throws Exception {
+    byte[] bytes = toBytes(lines(20000), "\n");
+    for (SamplingMethod method : new SamplingMethod[] {
+      SamplingMethod.RESERVOIR, SamplingMethod.BERNOULLI, SamplingMethod.POISSON }) {
+      InputStream input = new ByteArrayInputStream(bytes);
+      List<String> sample = new FileSampler(method, 100, 0.01).sample(input);
+      Assert.assertTrue(method.name(), sample.size() <= 100);
+      Assert.assertFalse(method.name(), sample.isEmpty());
+      int max = sample.stream().mapToInt(FileSamplerTest::index).max().getAsInt();
+      // About 200 lines are picked, the cap must not keep only the ones from the first half of the file.
+      Assert.assertTrue(method.name() + " only sampled the head", max >= 15000);
+    }
+    // Reservoir always fills up.
+    List<String> sample = new FileSampler(SamplingMethod.RESERVOIR, 100, 0).sample(new ByteArrayInputStream(bytes));
+    Assert.assertEquals(100, sample.size());
+  }
+
+  @Test
+  public void testStratifiedCoversFile() throws Exception {
+    List<String> lines = lines(100000);
+    byte[] bytes = toBytes(lines, "\r\n");
+    List<String> sample = new FileSampler(SamplingMethod.STRATIFIED, 20, 0, 4).sample(bytes.length, ranges(bytes));
+    Assert.assertEquals(20, sample.size());
+    Assert.assertEquals(20, new HashSet<>(sample).size());
+    int[] perQuarter = new int[4];
+    for (String line : sample) {
+      Assert.assertTrue(line, lines.contains(line));
+      perQuarter[index(line) * 4 / lines.size()]++;
+    }
+    Assert.assertArrayEquals(new int[] {5, 5, 5, 5}, perQuarter);
+  }
+
+  @Test
+  public void testStratifiedChunkBoundaries() throws Exception {
+    // Asking for more lines than the file holds must return every line exactly once, whatever the chunking.
+    List<String> lines = lines(60000);
+    byte[] bytes = toBytes(lines, "\n");
+    for (int chunks = 1; chunks <= 9; chunks++) {
+      List<String> sample = new FileSampler(SamplingMethod.STRATIFIED, Integer.MAX_VALUE, 0, chunks)
+        .sample(bytes.length, ranges(bytes));
+      Assert.assertEquals("chunks=" + chunks, lines, sample);
+    }
+  }
+
+  @Test
+  public void testStratifiedSmallFile() throws Exception {
+    byte[] bytes = "a\nb\nc".getBytes(StandardCharsets.UTF_8);
+    List<String> sample = new FileSampler(SamplingMethod.STRATIFIED, 10, 0).sample(bytes.length, ranges(bytes));
+    Assert.assertEquals(3, sample.size());
+    Assert.assertEquals("c", sample.get(2));
+  }
+}
@@ -41,6 +41,7 @@ import io.cdap.wrangler.proto.WorkspaceIdentifier;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +96,7 @@ public class WorkspaceDataset {
                 new FieldType(DATA_COL, FieldType.Type.BYTES),
                 new FieldType(REQUEST_COL, FieldType.Type.STRING))
     .withPrimaryKeys(NAMESPACE_COL, GENERATION_COL, ID_COL)
+    .withIndexes(SCOPE_COL, CREATED_COL)
     .build();
   public static final String DEFAULT_SCOPE = "default";
   private final StructuredTable table;
@@ -192,17 +194,11 @@ public class WorkspaceDataset {
    */
   public List<WorkspaceIdentifier> listWorkspaces(Namespace namespace, String scope) throws IOException {
     List<WorkspaceIdentifier> values = new ArrayList<>();
-    List<Field<?>> namespaceKey = new ArrayList<>(2);
-    namespaceKey.add(Fields.stringField(NAMESPACE_COL, namespace.getName()));
-    namespaceKey.add(Fields.longField(GENERATION_COL, namespace.getGeneration()));
-    Range range = Range.singleton(namespaceKey);
-    try (CloseableIterator<StructuredRow> rowIter = table.scan(range, Integer.MAX_VALUE)) {
+    try (CloseableIterator<StructuredRow> rowIter = scanScope(namespace, scope)) {
       while (rowIter.hasNext()) {
+        // only the id and name are needed, so the properties, request and data of the row are not decoded
         StructuredRow row = rowIter.next();
-        Workspace workspace = readWorkspace(row);
-        if (scope.equals(workspace.getScope())) {
-          values.add(new WorkspaceIdentifier(workspace.getNamespacedId().getId(), workspace.getName()));
-        }
+        values.add(new WorkspaceIdentifier(row.getString(ID_COL), row.getString(NAME_COL)));
       }
     }
     return values;
@@ -215,17 +211,13 @@ public class WorkspaceDataset {
    */
   public List<Workspace> listWorkspaces(NamespaceSummary namespace, long timestampSeconds) throws IOException {
     List<Workspace> values = new ArrayList<>();
-    List<Field<?>> namespaceKey = new ArrayList<>(2);
-    namespaceKey.add(Fields.stringField(NAMESPACE_COL, namespace.getName()));
-    namespaceKey.add(Fields.longField(GENERATION_COL, namespace.getGeneration()));
-    Range range = Range.singleton(namespaceKey);
+    List<Field<?>> begin = getNamespaceKey(namespace.getName(), namespace.getGeneration());
+    List<Field<?>> end = getNamespaceKey(namespace.getName(), namespace.getGeneration());
+    end.add(Fields.longField(CREATED_COL, timestampSeconds));
+    Range range = Range.create(begin, Range.Bound.INCLUSIVE, end, Range.Bound.EXCLUSIVE);
     try (CloseableIterator<StructuredRow> rowIter = table.scan(range, Integer.MAX_VALUE)) {
       while (rowIter.hasNext()) {
-        StructuredRow row = rowIter.next();
-        Workspace workspace = readWorkspace(row);
-        if (workspace.getCreated() < timestampSeconds) {
-          values.add(workspace);
-        }
+        values.add(readWorkspace(rowIter.next()));
       }
     }
     return values;
@@ -294,28 +286,26 @@ public class WorkspaceDataset {
   /**
    * Deletes a workspaces that have the specified scope.
    *
-   * TODO: (CDAP-14692) make sure scope is indexed so this doesn't require a full table scan
-   *
    * @param scope to be deleted
    * @return number of workspaces deleted
    */
   public int deleteScope(Namespace namespace, String scope) throws IOException {
-    List<Field<?>> key = new ArrayList<>(2);
-    key.add(Fields.stringField(NAMESPACE_COL, namespace.getName()));
-    key.add(Fields.longField(GENERATION_COL, namespace.getGeneration()));
-    Range range = Range.singleton(key);
-    try (CloseableIterator<StructuredRow> rowIter = table.scan(range, Integer.MAX_VALUE)) {
-      int count = 0;
+    List<Collection<Field<?>>> keys = new ArrayList<>();
+    try (CloseableIterator<StructuredRow> rowIter = scanScope(namespace, scope)) {
       while (rowIter.hasNext()) {
-        StructuredRow row = rowIter.next();
-        Workspace workspace = readWorkspace(row);
-        if (scope.equals(workspace.getScope())) {
-          deleteWorkspace(workspace.getNamespacedId());
-          count++;
-        }
+        keys.add(rowIter.next().getPrimaryKeys());
       }
-      return count;
     }
+    for (Collection<Field<?>> key : keys) {
+      table.delete(key);
+    }
+    return keys.size();
+  }
+
+  // scans the workspaces of the namespace through the index on their scope
+  private CloseableIterator<StructuredRow> scanScope(Namespace namespace, String scope) throws IOException {
+    Range range = Range.singleton(getNamespaceKey(namespace.getName(), namespace.getGeneration()));
+    return table.scan(range, Integer.MAX_VALUE, Collections.singleton(Fields.stringField(SCOPE_COL, scope)));
   }
 
   private List<Field<?>> toFields(Workspace workspace) {
@@ -368,6 +358,13 @@ public class WorkspaceDataset {
       .build();
   }
 
+  private List<Field<?>> getNamespaceKey(String namespace, long generation) {
+    List<Field<?>> keyFields = new ArrayList<>(3);
+    keyFields.add(Fields.stringField(NAMESPACE_COL, namespace));
+    keyFields.add(Fields.longField(GENERATION_COL, generation));
+    return keyFields;
+  }
+
   private List<Field<?>> getKey(NamespacedId id) {
     List<Field<?>> keyFields = new ArrayList<>();
     keyFields.add(Fields.stringField(NAMESPACE_COL, id.getNamespace().getName()));
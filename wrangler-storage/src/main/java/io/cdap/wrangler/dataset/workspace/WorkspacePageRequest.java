@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Cask Data, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package io.cdap.wrangler.dataset.workspace;
+
+import io.cdap.cdap.api.NamespaceSummary;
+import io.cdap.cdap.spi.data.SortOrder;
+import io.cdap.cdap.spi.data.table.field.Field;
+import io.cdap.cdap.spi.data.table.field.Fields;
+import io.cdap.cdap.spi.data.table.field.Range;
+import io.cdap.wrangler.dataset.utils.PageRequest;
+import io.cdap.wrangler.proto.workspace.v2.Workspace;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.cdap.cdap.spi.data.table.field.Range.Bound.INCLUSIVE;
+import static io.cdap.wrangler.store.utils.Stores.getNamespaceKeys;
+import static io.cdap.wrangler.store.workspace.WorkspaceStore.CREATED_COL;
+import static io.cdap.wrangler.store.workspace.WorkspaceStore.GENERATION_COL;
+import static io.cdap.wrangler.store.workspace.WorkspaceStore.NAMESPACE_FIELD;
+import static io.cdap.wrangler.store.workspace.WorkspaceStore.UPDATED_COL;
+
+/**
+ * Represents a request to fetch a page of Workspaces, sorted by their creation or update time.
+ */
+public class WorkspacePageRequest extends PageRequest<Workspace> {
+  public static final String SORT_BY_CREATE_TIME = "created";
+  public static final String SORT_BY_UPDATE_TIME = "updated";
+
+  private static final Map<String, String> sortByMap = createSortByMap();
+
+  private final NamespaceSummary namespace;
+
+  protected WorkspacePageRequest(Integer pageSize, String pageToken, String sortBy,
+                                 String sortOrder, NamespaceSummary namespace) {
+    super(pageSize, pageToken, sortBy, sortOrder);
+    this.namespace = namespace;
+    validatePageToken(this.getPageToken());
+  }
+
+  public NamespaceSummary getNamespace() {
+    return namespace;
+  }
+
+  @Override
+  public void validateSortBy(String sortBy) {
+    if (sortBy != null && !sortByMap.containsKey(sortBy)) {
+      throw new IllegalArgumentException(
+        String.format("Invalid sortBy '%s' specified. sortBy must be one of: '%s' or '%s'",
+                      sortBy, SORT_BY_CREATE_TIME, SORT_BY_UPDATE_TIME));
+    }
+  }
+
+  @Override
+  protected String getDefaultSortBy() {
+    return UPDATED_COL;
+  }
+
+  @Override
+  protected String getSortByColumnName(String sortBy) {
+    return sortByMap.get(sortBy);
+  }
+
+  @Override
+  public Range getScanRange() {
+    Collection<Field<?>> begin = getNamespaceKeys(NAMESPACE_FIELD, GENERATION_COL, namespace);
+    Collection<Field<?>> end = getNamespaceKeys(NAMESPACE_FIELD, GENERATION_COL, namespace);
+
+    // If pageToken has a value, add the time it holds to the range to start the page from it
+    if (getPageToken() != null) {
+      Field<?> sortByField = Fields.longField(getSortBy(), Long.parseLong(Objects.requireNonNull(getPageToken())));
+
+      if (getSortOrder().equals(SortOrder.ASC)) {
+        begin.add(sortByField);
+      } else {
+        end.add(sortByField);
+      }
+    }
+
+    return Range.create(begin, INCLUSIVE, end, INCLUSIVE);
+  }
+
+  @Override
+  public String getNextPageToken(Workspace workspace) {
+    switch (getSortBy()) {
+      case CREATED_COL:
+        return String.valueOf(workspace.getCreatedTimeMillis());
+      case UPDATED_COL:
+        return String.valueOf(workspace.getUpdatedTimeMillis());
+      default:
+        throw new IllegalArgumentException(
+          String.format("Invalid sortBy field '%s' is not mapped to any field in Workspace to return as a pageToken.",
+                        getSortBy()));
+    }
+  }
+
+  private static Map<String, String> createSortByMap() {
+    Map<String, String> sortByMap = new HashMap<>();
+    sortByMap.put(SORT_BY_CREATE_TIME, CREATED_COL);
+    sortByMap.put(SORT_BY_UPDATE_TIME, UPDATED_COL);
+    return sortByMap;
+  }
+
+  private void validatePageToken(String pageToken) {
+    if (pageToken != null) {
+      try {
+        Long.parseLong(pageToken);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("pageToken value is of invalid data type: expected 'long' value");
+      }
+    }
+  }
+
+  public static Builder builder(NamespaceSummary namespace) {
+    return new Builder(namespace);
+  }
+
+  /**
+   * Creates a {@link WorkspacePageRequest} object
+   */
+  public static class Builder {
+    private final NamespaceSummary namespace;
+    private Integer pageSize;
+    private String pageToken;
+    private String sortBy;
+    private String sortOrder;
+
+    Builder(NamespaceSummary namespace) {
+      this.namespace = namespace;
+    }
+
+    public Builder setPageSize(Integer pageSize) {
+      this.pageSize = pageSize;
+      return this;
+    }
+
+    public Builder setPageToken(String pageToken) {
+      this.pageToken = pageToken;
+      return this;
+    }
+
+    public Builder setSortBy(String sortBy) {
+      this.sortBy = sortBy;
+      return this;
+    }
+
+    public Builder setSortOrder(String sortOrder) {
+      this.sortOrder = sortOrder;
+      return this;
+    }
+
+    public WorkspacePageRequest build() {
+      return new WorkspacePageRequest(pageSize, pageToken, sortBy, sortOrder, namespace);
+    }
+  }
+}
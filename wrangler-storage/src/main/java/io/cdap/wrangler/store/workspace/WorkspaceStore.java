@@ -34,17 +34,19 @@ import io.cdap.cdap.spi.data.transaction.TransactionRunner;
 import io.cdap.cdap.spi.data.transaction.TransactionRunners;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.dataset.workspace.WorkspaceNotFoundException;
+import io.cdap.wrangler.dataset.workspace.WorkspacePageRequest;
+import io.cdap.wrangler.proto.workspace.SampleSerDe;
 import io.cdap.wrangler.proto.workspace.v2.Workspace;
 import io.cdap.wrangler.proto.workspace.v2.WorkspaceDetail;
 import io.cdap.wrangler.proto.workspace.v2.WorkspaceId;
+import io.cdap.wrangler.proto.workspace.v2.WorkspaceListResponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import javax.annotation.Nullable;
 
 /**
@@ -52,13 +54,15 @@ import javax.annotation.Nullable;
  */
 public class WorkspaceStore {
   private static final StructuredTableId TABLE_ID = new StructuredTableId("workspaces_store");
-  private static final String NAMESPACE_FIELD = "namespace";
+  public static final String NAMESPACE_FIELD = "namespace";
   private static final String WORKSPACE_ID_FIELD = "workspace_id";
   // this field is to ensure the workspace information is correctly fetched if a namespace is recreated
-  private static final String GENERATION_COL = "generation";
-  private static final String CREATED_COL = "createdtimemillis";
-  private static final String UPDATED_COL = "updatedtimemillis";
+  public static final String GENERATION_COL = "generation";
+  public static final String CREATED_COL = "createdtimemillis";
+  public static final String UPDATED_COL = "updatedtimemillis";
   private static final String SAMPLE_COL = "sample";
+  // Changed on every save of the sample, so that results computed from a sample are not used for the next one.
+  private static final String SAMPLE_ID_COL = "sampleid";
   private static final String WORKSPACE_INFO_COL = "workspace_info";
 
   public static final StructuredTableSpecification WORKSPACE_TABLE_SPEC =
@@ -70,8 +74,10 @@ public class WorkspaceStore {
                   Fields.longType(CREATED_COL),
                   Fields.longType(UPDATED_COL),
                   Fields.bytesType(SAMPLE_COL),
+                  Fields.stringType(SAMPLE_ID_COL),
                   Fields.stringType(WORKSPACE_INFO_COL))
       .withPrimaryKeys(NAMESPACE_FIELD, GENERATION_COL, WORKSPACE_ID_FIELD)
+      .withIndexes(CREATED_COL, UPDATED_COL)
       .build();
 
   private static final Gson GSON = new GsonBuilder()
@@ -113,15 +119,14 @@ public class WorkspaceStore {
       }
 
       Workspace workspace = GSON.fromJson(row.get().getString(WORKSPACE_INFO_COL), Workspace.class);
-      List<Row> rows = new ArrayList<>();
       byte[] sample = row.get().getBytes(SAMPLE_COL);
-      if (sample != null) {
-        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(sample))) {
-          rows = (List<Row>) ois.readObject();
-        }
+      if (sample == null) {
+        return new WorkspaceDetail(workspace, new ArrayList<>());
       }
 
-      return new WorkspaceDetail(workspace, rows);
+      // samples written before the binary format was introduced are Java serialized, which is still accepted
+      List<Row> rows = new SampleSerDe().toRows(sample);
+      return new WorkspaceDetail(workspace, rows, sample, row.get().getString(SAMPLE_ID_COL));
     }, WorkspaceNotFoundException.class);
   }
 
@@ -145,6 +150,32 @@ public class WorkspaceStore {
     });
   }
 
+  /**
+   * Get a page of the workspaces in the given namespace, sorted by their creation or update time. Only the rows of
+   * the page are decoded, and their samples are never read.
+   *
+   * @param request {@link WorkspacePageRequest} that contains necessary query parameters
+   * @return {@link WorkspaceListResponse} that contains a page of results and nextPageToken
+   */
+  public WorkspaceListResponse listWorkspaces(WorkspacePageRequest request) {
+    return TransactionRunners.run(transactionRunner, context -> {
+      List<Workspace> workspaces = new ArrayList<>();
+      StructuredTable table = context.getTable(TABLE_ID);
+
+      Range range = request.getScanRange();
+      try (CloseableIterator<StructuredRow> iterator = table.scan(range, request.getPageSize() + 1,
+                                                                  request.getSortBy(), request.getSortOrder())) {
+        iterator.forEachRemaining(
+          structuredRow -> workspaces.add(GSON.fromJson(structuredRow.getString(WORKSPACE_INFO_COL),
+                                                        Workspace.class)));
+      }
+      String nextPageToken = workspaces.size() > request.getPageSize() ?
+        request.getNextPageToken(workspaces.remove(workspaces.size() - 1)) : "";
+
+      return new WorkspaceListResponse(workspaces, nextPageToken);
+    });
+  }
+
   /**
    * Create/update the workspace from given workspace.
    *
@@ -211,6 +242,7 @@ public class WorkspaceStore {
       }
 
       fields.add(Fields.bytesField(SAMPLE_COL, sample));
+      fields.add(Fields.stringField(SAMPLE_ID_COL, UUID.randomUUID().toString()));
       table.upsert(fields);
     });
   }
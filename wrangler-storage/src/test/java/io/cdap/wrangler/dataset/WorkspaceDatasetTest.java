@@ -17,6 +17,7 @@
 package io.cdap.wrangler.dataset;
 
 import com.google.gson.JsonObject;
+import io.cdap.cdap.api.NamespaceSummary;
 import io.cdap.cdap.spi.data.transaction.TransactionRunners;
 import io.cdap.cdap.test.SystemAppTestBase;
 import io.cdap.wrangler.dataset.workspace.DataType;
@@ -37,6 +38,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -114,6 +116,22 @@ public class WorkspaceDatasetTest extends SystemAppTestBase {
     Assert.assertTrue(call(ws -> ws.listWorkspaces(namespace, scope2).isEmpty()));
   }
 
+  @Test
+  public void testListBeforeTimestamp() {
+    Namespace namespace = new Namespace("c0", 10L);
+    NamespaceSummary summary = new NamespaceSummary(namespace.getName(), "", namespace.getGeneration());
+    NamespacedId id = new NamespacedId(namespace, "id1");
+    run(ws -> ws.writeWorkspaceMeta(id, WorkspaceMeta.builder("name1").build()));
+    run(ws -> ws.writeWorkspaceMeta(new NamespacedId(new Namespace("c1", 10L), "id2"),
+                                    WorkspaceMeta.builder("name2").build()));
+    long created = call(ws -> ws.getWorkspace(id)).getCreated();
+
+    Assert.assertTrue(call(ws -> ws.listWorkspaces(summary, created)).isEmpty());
+    List<Workspace> workspaces = call(ws -> ws.listWorkspaces(summary, created + 1));
+    Assert.assertEquals(1, workspaces.size());
+    Assert.assertEquals(id, workspaces.get(0).getNamespacedId());
+  }
+
   @Test
   public void testNamespaceIsolation() {
     Namespace ns1 = new Namespace("n1", 10L);
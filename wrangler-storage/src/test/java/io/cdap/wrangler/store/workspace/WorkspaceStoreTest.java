@@ -22,19 +22,24 @@ import com.google.common.collect.ImmutableSet;
 import io.cdap.cdap.api.NamespaceSummary;
 import io.cdap.cdap.test.SystemAppTestBase;
 import io.cdap.wrangler.api.Row;
+import io.cdap.wrangler.dataset.utils.PageRequest;
 import io.cdap.wrangler.dataset.workspace.WorkspaceNotFoundException;
+import io.cdap.wrangler.dataset.workspace.WorkspacePageRequest;
 import io.cdap.wrangler.proto.workspace.v2.SampleSpec;
 import io.cdap.wrangler.proto.workspace.v2.Workspace;
 import io.cdap.wrangler.proto.workspace.v2.WorkspaceDetail;
 import io.cdap.wrangler.proto.workspace.v2.WorkspaceId;
+import io.cdap.wrangler.proto.workspace.v2.WorkspaceListResponse;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 public class WorkspaceStoreTest extends SystemAppTestBase {
   private static WorkspaceStore store;
@@ -106,6 +111,9 @@ public class WorkspaceStoreTest extends SystemAppTestBase {
     Assert.assertEquals(meta2, store.getWorkspace(id2));
     Assert.assertEquals(detail1, store.getWorkspaceDetail(id1));
     Assert.assertEquals(detail2, store.getWorkspaceDetail(id2));
+    String sampleId = store.getWorkspaceDetail(id1).getSampleId();
+    Assert.assertNotNull(sampleId);
+    Assert.assertNotEquals(sampleId, store.getWorkspaceDetail(id2).getSampleId());
 
     // test update
     meta1 = Workspace.builder("newname1", id1.getWorkspaceId())
@@ -121,6 +129,9 @@ public class WorkspaceStoreTest extends SystemAppTestBase {
     Workspace expected = Workspace.builder(meta1).setCreatedTimeMillis(100L).build();
     Assert.assertEquals(expected, store.getWorkspace(id1));
     Assert.assertEquals(new WorkspaceDetail(expected, detail1.getSample()), store.getWorkspaceDetail(id1));
+    // a new id is assigned to the new sample
+    Assert.assertNotEquals(sampleId, store.getWorkspaceDetail(id1).getSampleId());
+    sampleId = store.getWorkspaceDetail(id1).getSampleId();
 
     // test update doesn't modify sample
     meta1 = Workspace.builder("newname2", id1.getWorkspaceId())
@@ -133,6 +144,7 @@ public class WorkspaceStoreTest extends SystemAppTestBase {
     expected = Workspace.builder(meta1).setCreatedTimeMillis(100L).build();
     Assert.assertEquals(expected, store.getWorkspace(id1));
     Assert.assertEquals(detail1.getSample(), store.getWorkspaceDetail(id1).getSample());
+    Assert.assertEquals(sampleId, store.getWorkspaceDetail(id1).getSampleId());
     Assert.assertEquals(new WorkspaceDetail(expected, detail1.getSample()), store.getWorkspaceDetail(id1));
 
     // test lists don't include from other namespaces
@@ -187,4 +199,40 @@ public class WorkspaceStoreTest extends SystemAppTestBase {
     // test that listing with a different generation doesn't include the workspace
     Assert.assertTrue(store.listWorkspaces(nsGen2).isEmpty());
   }
+
+  @Test
+  public void testListPages() {
+    NamespaceSummary ns = new NamespaceSummary("n1", "", 10L);
+    List<Workspace> workspaces = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      WorkspaceId id = new WorkspaceId(ns);
+      Workspace workspace = Workspace.builder("name" + i, id.getWorkspaceId())
+                              .setCreatedTimeMillis(100L + i)
+                              .setUpdatedTimeMillis(200L - i)
+                              .build();
+      store.saveWorkspace(id, new WorkspaceDetail(workspace, ImmutableList.of(new Row("col", i))));
+      workspaces.add(workspace);
+    }
+    store.saveWorkspace(new WorkspaceId(new NamespaceSummary("n2", "", 10L)),
+                        new WorkspaceDetail(Workspace.builder("other", "other").build(), Collections.emptyList()));
+
+    // default is ascending update time
+    WorkspaceListResponse page1 = store.listWorkspaces(WorkspacePageRequest.builder(ns).setPageSize(2).build());
+    Assert.assertEquals(ImmutableList.of(workspaces.get(4), workspaces.get(3)), page1.getValues());
+    Assert.assertEquals("198", page1.getNextPageToken());
+    WorkspaceListResponse page2 = store.listWorkspaces(WorkspacePageRequest.builder(ns).setPageSize(2)
+                                                         .setPageToken(page1.getNextPageToken()).build());
+    Assert.assertEquals(ImmutableList.of(workspaces.get(2), workspaces.get(1)), page2.getValues());
+    WorkspaceListResponse page3 = store.listWorkspaces(WorkspacePageRequest.builder(ns).setPageSize(2)
+                                                         .setPageToken(page2.getNextPageToken()).build());
+    Assert.assertEquals(ImmutableList.of(workspaces.get(0)), page3.getValues());
+    Assert.assertEquals("", page3.getNextPageToken());
+
+    WorkspaceListResponse created = store.listWorkspaces(
+      WorkspacePageRequest.builder(ns).setSortBy(WorkspacePageRequest.SORT_BY_CREATE_TIME)
+        .setSortOrder(PageRequest.SORT_ORDER_DESC).setPageSize(3).build());
+    Assert.assertEquals(ImmutableList.of(workspaces.get(4), workspaces.get(3), workspaces.get(2)),
+                        created.getValues());
+    Assert.assertEquals("101", created.getNextPageToken());
+  }
 }
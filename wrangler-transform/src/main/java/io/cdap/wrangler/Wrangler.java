@@ -58,12 +58,12 @@ import io.cdap.wrangler.api.ErrorRecord;
 import io.cdap.wrangler.api.ExecutorContext;
 import io.cdap.wrangler.api.RecipeException;
 import io.cdap.wrangler.api.RecipeParser;
-import io.cdap.wrangler.api.RecipePipeline;
 import io.cdap.wrangler.api.RecipeSymbol;
 import io.cdap.wrangler.api.Row;
 import io.cdap.wrangler.api.TokenGroup;
 import io.cdap.wrangler.api.TransientStore;
 import io.cdap.wrangler.api.TransientVariableScope;
+import io.cdap.wrangler.executor.DirectiveMetrics;
 import io.cdap.wrangler.executor.RecipePipelineExecutor;
 import io.cdap.wrangler.lineage.LineageOperations;
 import io.cdap.wrangler.parser.GrammarBasedParser;
@@ -76,6 +76,9 @@ import io.cdap.wrangler.registry.DirectiveInfo;
 import io.cdap.wrangler.registry.DirectiveRegistry;
 import io.cdap.wrangler.registry.SystemDirectiveRegistry;
 import io.cdap.wrangler.registry.UserDirectiveRegistry;
+import io.cdap.wrangler.utils.RecordConvertorException;
+import io.cdap.wrangler.utils.RecordProjector;
+import io.cdap.wrangler.utils.StructuredRowAdapter;
 import io.cdap.wrangler.utils.StructuredToRowTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -124,6 +127,15 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
   public static final int DIRECTIVE_METRIC_COUNT = 1;
   public static final String DIRECTIVE_ENTITY_TYPE = "directive";
 
+  // Directive execution metrics, tagged with the position and name of the directive in the recipe.
+  public static final String DIRECTIVE_EXECUTION_ENTITY_TYPE = "recipe.directive";
+  private static final String DIRECTIVE_METRICS_SAMPLE_INTERVAL = "wrangler.directive.metrics.sample.interval";
+  private static final int DIRECTIVE_METRICS_SAMPLE_INTERVAL_DEFAULT = 100;
+  private static final long DIRECTIVE_METRICS_FLUSH_RECORDS = 10000L;
+
+  // Runtime argument that defers converting nested records and arrays of the input until a directive reads them.
+  private static final String LAZY_NESTED_INPUT = "wrangler.input.lazy.nested";
+
   // Precondition languages
   private static final String PRECONDITION_LANGUAGE_JEXL = "jexl";
   private static final String PRECONDITION_LANGUAGE_SQL = "sql";
@@ -132,11 +144,23 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
   private final Config config;
 
   // Wrangle Execution RecipePipeline
-  private RecipePipeline pipeline;
+  private RecipePipelineExecutor pipeline;
+
+  // Context of the pipeline, used to emit the directive execution metrics.
+  private ExecutorContext executorContext;
+
+  // Records transformed since the directive execution metrics were last emitted.
+  private long recordsSinceFlush;
 
   // Output Schema associated with readable output.
   private Schema oSchema = null;
 
+  // Writes the wrangled rows into records of the output schema.
+  private RecordProjector projector;
+
+  // Whether nested input values are converted only when a directive reads them.
+  private boolean lazyNestedInput;
+
   // Error counter.
   private long errorCounter;
 
@@ -362,6 +386,7 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
     RecipeParser recipe = getRecipeParser(context);
 
     ExecutorContext ctx = new WranglerPipelineContext(ExecutorContext.Environment.TRANSFORM, context, store);
+    executorContext = ctx;
 
     // Based on the configuration create output schema.
     try {
@@ -374,6 +399,8 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
       throw WranglerErrorUtil.getProgramFailureExceptionDetailsFromChain(e, errorReason,
           errorMessage, ErrorType.USER);
     }
+    projector = new RecordProjector(oSchema);
+    lazyNestedInput = Boolean.parseBoolean(context.getArguments().get(LAZY_NESTED_INPUT));
 
     // Check if jexl pre-condition is not null or empty and if so compile expression.
     if (!config.containsMacro(Config.NAME_PRECONDITION_LANGUAGE)) {
@@ -392,6 +419,11 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
     try {
       // Create the pipeline executor with context being set.
       pipeline = new RecipePipelineExecutor(recipe, ctx);
+      int sampleInterval = getDirectiveMetricsSampleInterval(context.getArguments().get(
+        DIRECTIVE_METRICS_SAMPLE_INTERVAL));
+      if (sampleInterval > 0) {
+        pipeline.enableDirectiveMetrics(sampleInterval);
+      }
     } catch (Exception e) {
       String errorReason = "Unable to compile the recipe and execute directives.";
       String errorMessage = String.format(
@@ -410,6 +442,7 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
   @Override
   public void destroy() {
     super.destroy();
+    emitDirectiveExecutionMetrics();
     pipeline.close();
     try {
       registry.close();
@@ -434,7 +467,7 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
       // Creates a row as starting point for input to the pipeline.
       Row row = new Row();
       if ("*".equalsIgnoreCase(config.getField())) {
-        row = StructuredToRowTransformer.transform(input);
+        row = StructuredRowAdapter.of(input.getSchema()).toRow(input, lazyNestedInput);
       } else if ("#".equalsIgnoreCase(config.getField())) {
         row.add(input.getSchema().getRecordName(), input);
       } else {
@@ -456,7 +489,7 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
       store.reset(TransientVariableScope.LOCAL);
 
       start = System.nanoTime();
-      records = pipeline.execute(Collections.singletonList(row), oSchema);
+      records = project(pipeline.execute(Collections.singletonList(row)));
       // We now extract errors from the execution and pass it on to the error emitter.
       List<ErrorRecord> errors = pipeline.errors();
       if (errors.size() > 0) {
@@ -502,28 +535,29 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
       return;
     } finally {
       getContext().getMetrics().gauge("process.time", System.nanoTime() - start);
+      if (++recordsSinceFlush >= DIRECTIVE_METRICS_FLUSH_RECORDS) {
+        emitDirectiveExecutionMetrics();
+      }
     }
 
     for (StructuredRecord record : records) {
-      StructuredRecord.Builder builder = StructuredRecord.builder(oSchema);
-      // Iterate through output schema, if the 'record' doesn't have it, then
-      // attempt to take if from 'input'.
-      for (Schema.Field field : oSchema.getFields()) {
-        Object wObject = record.get(field.getName()); // wrangled records
-        if (wObject == null) {
-          builder.set(field.getName(), null);
-        } else {
-          if (wObject instanceof String) {
-            builder.convertAndSet(field.getName(), (String) wObject);
-          } else {
-            // No need to use specific methods for fields of logical type - timestamp, date and time. This is because
-            // the wObject should already have correct values for corresponding primitive types.
-            builder.set(field.getName(), wObject);
-          }
-        }
+      emitter.emit(record);
+    }
+  }
+
+  /**
+   * Converts the wrangled rows into records of the output schema.
+   */
+  private List<StructuredRecord> project(List<Row> rows) throws RecipeException {
+    List<StructuredRecord> records = new ArrayList<>(rows.size());
+    try {
+      for (Row row : rows) {
+        records.add(projector.project(row));
       }
-      emitter.emit(builder.build());
+    } catch (RecordConvertorException e) {
+      throw new RecipeException("Problem converting into output record. Reason : " + e.getMessage(), e);
     }
+    return records;
   }
 
   /**
@@ -680,6 +714,53 @@ public class Wrangler extends Transform<StructuredRecord, StructuredRecord> impl
     }
   }
 
+  /**
+   * Emits the rows, errors and wall time of every directive since the metrics were last emitted, so that a slow
+   * directive can be found in a long recipe. Each directive is tagged with its position and name in the recipe.
+   */
+  private void emitDirectiveExecutionMetrics() {
+    recordsSinceFlush = 0;
+    DirectiveMetrics directiveMetrics = pipeline.getDirectiveMetrics();
+    if (directiveMetrics == null) {
+      return;
+    }
+    for (int i = 0; i < directiveMetrics.size(); i++) {
+      if (directiveMetrics.getInvocations(i) == 0) {
+        continue;
+      }
+      Map<String, String> tags = new HashMap<>();
+      tags.put(APP_ENTITY_TYPE, DIRECTIVE_EXECUTION_ENTITY_TYPE);
+      tags.put(APP_ENTITY_TYPE_NAME, String.format("%d.%s", i + 1, directiveMetrics.getName(i)));
+      Metrics child = executorContext.getMetrics().child(tags);
+      child.countLong("directive.rows.in", directiveMetrics.getRowsIn(i));
+      child.countLong("directive.rows.out", directiveMetrics.getRowsOut(i));
+      child.countLong("directive.errors", directiveMetrics.getErrors(i));
+      if (directiveMetrics.getSamples(i) > 0) {
+        child.countLong("directive.time", directiveMetrics.getEstimatedNanos(i));
+        child.gauge("directive.time.p50", directiveMetrics.getPercentileNanos(i, 50));
+        child.gauge("directive.time.p99", directiveMetrics.getPercentileNanos(i, 99));
+        child.gauge("directive.time.max", directiveMetrics.getMaxNanos(i));
+      }
+    }
+    directiveMetrics.reset();
+  }
+
+  /**
+   * Returns the sample interval of the directive execution metrics from the runtime argument, 0 disables them.
+   */
+  private static int getDirectiveMetricsSampleInterval(@Nullable String value) {
+    if (Strings.isNullOrEmpty(value)) {
+      return DIRECTIVE_METRICS_SAMPLE_INTERVAL_DEFAULT;
+    }
+    try {
+      return Math.max(0, Integer.parseInt(value.trim()));
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid value '{}' for runtime argument '{}', using {}.", value, DIRECTIVE_METRICS_SAMPLE_INTERVAL,
+               DIRECTIVE_METRICS_SAMPLE_INTERVAL_DEFAULT);
+      return DIRECTIVE_METRICS_SAMPLE_INTERVAL_DEFAULT;
+    }
+  }
+
   private EntityCountMetric getDirectiveUsageMetric(String directiveName) {
     return new EntityCountMetric(
       DIRECTIVE_METRIC_NAME, DIRECTIVE_ENTITY_TYPE, directiveName, DIRECTIVE_METRIC_COUNT);